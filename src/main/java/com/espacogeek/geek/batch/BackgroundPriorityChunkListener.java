@@ -0,0 +1,32 @@
+package com.espacogeek.geek.batch;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+import com.espacogeek.geek.http.ProviderRateLimiter;
+import com.espacogeek.geek.http.RequestPriority;
+
+/**
+ * Marks the provider calls made while a chunk is read, processed and written
+ * as {@link RequestPriority#BACKGROUND}, so the step goes as fast as
+ * {@link ProviderRateLimiter} allows without taking the permits kept for
+ * users.
+ */
+public class BackgroundPriorityChunkListener implements ChunkListener {
+
+    @Override
+    public void beforeChunk(@NotNull ChunkContext context) {
+        RequestPriority.set(RequestPriority.BACKGROUND);
+    }
+
+    @Override
+    public void afterChunk(@NotNull ChunkContext context) {
+        RequestPriority.clear();
+    }
+
+    @Override
+    public void afterChunkError(@NotNull ChunkContext context) {
+        RequestPriority.clear();
+    }
+}
@@ -14,6 +14,7 @@ import com.espacogeek.geek.data.api.MediaApi;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
 import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.search.MediaSuggestIndex;
 import com.espacogeek.geek.services.ExternalReferenceService;
 import com.espacogeek.geek.services.MediaService;
 import com.espacogeek.geek.services.AlternativeTitlesService;
@@ -30,6 +31,7 @@ public class MovieItemWriter implements ItemWriter<MediaModel> {
     @Qualifier("movieAPI")
     private final MediaApi movieApi;
     private final TypeReferenceService typeReferenceService;
+    private final MediaSuggestIndex mediaSuggestIndex;
 
     private TypeReferenceModel typeReference;
 
@@ -67,20 +69,22 @@ public class MovieItemWriter implements ItemWriter<MediaModel> {
             if (savedIdx >= saved.size()) break;
             MediaModel persisted = saved.get(savedIdx++);
             if (persisted == null) continue;
+            mediaSuggestIndex.index(persisted);
 
             for (ExternalReferenceModel ref : original.getExternalReference()) {
                 ref.setMedia(persisted);
                 refsToSave.add(ref);
             }
 
-            // fetch and persist alternative titles using the external API id (if present)
+            // persist the alternative titles the processor fetched, or fetch them using the external API id (if present)
             try {
                 String externalId = original.getExternalReference().iterator().next().getReference();
-                if (externalId != null) {
-                    var alts = movieApi.getAlternativeTitles(Integer.valueOf(externalId));
+                if (original.getAlternativeTitles() != null || externalId != null) {
+                    var alts = original.getAlternativeTitles() != null ? new ArrayList<>(original.getAlternativeTitles()) : movieApi.getAlternativeTitles(Integer.valueOf(externalId));
                     if (alts != null && !alts.isEmpty()) {
                         alts.forEach(a -> a.setMedia(persisted));
                         alternativeTitlesService.saveAll(alts);
+                        mediaSuggestIndex.indexAlternativeTitles(persisted.getId(), alts);
                         persisted.setAlternativeTitles(new java.util.LinkedHashSet<>(alts));
                     }
                 }
@@ -1,59 +1,33 @@
 package com.espacogeek.geek.batch;
 
-import org.springframework.batch.item.ExecutionContext;
-import org.springframework.batch.item.support.AbstractItemStreamItemReader;
+import java.time.LocalDate;
+
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import com.espacogeek.geek.data.api.MediaApi;
-import lombok.RequiredArgsConstructor;
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
 
 /**
- * ItemReader that reads JSONObjects from the JSONArray returned by MediaApi.updateTitles().
- * Persists the current index in the Step ExecutionContext for restartability.
+ * ItemReader that reads the movies added to the TMDB daily export since the
+ * last ingested one, within the ID range of its partition when the step is
+ * partitioned.
+ *
+ * @see TmdbExportReader
  */
 @StepScope
 @Component
-@RequiredArgsConstructor
-public class MovieJsonReader extends AbstractItemStreamItemReader<JSONObject> {
-    @Qualifier("movieAPI")
-    private final MediaApi movieApi;
-
-    private static final String KEY_NEXT_INDEX = "movieJsonReader.nextIndex";
-
-    private JSONArray movies = new JSONArray();
-    private int nextIndex = 0;
-
-    @Override
-    public void open(ExecutionContext executionContext) {
-        if (executionContext.containsKey(KEY_NEXT_INDEX)) {
-            this.nextIndex = executionContext.getInt(KEY_NEXT_INDEX);
-        } else {
-            this.nextIndex = 0;
-        }
-
-        try {
-            var result = movieApi.updateTitles();
-            if (result != null) {
-                this.movies = result;
-            }
-        } catch (Exception e) {
-            this.movies = new JSONArray();
-        }
-    }
-
-    @Override
-    public void update(ExecutionContext executionContext) {
-        executionContext.putInt(KEY_NEXT_INDEX, this.nextIndex);
-    }
-
-    @Override
-    public JSONObject read() {
-        if (movies == null || nextIndex >= movies.size()) {
-            return null;
-        }
-        return (JSONObject) movies.get(nextIndex++);
+public class MovieJsonReader extends TmdbExportReader {
+
+    public MovieJsonReader(
+        TmdbExportSnapshots snapshots,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_DATE + "']}") String date,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_BASELINE + "']}") String baseline,
+        @Value("#{stepExecutionContext['" + TmdbExportPartitioner.KEY_MIN_ID + "']}") Integer minId,
+        @Value("#{stepExecutionContext['" + TmdbExportPartitioner.KEY_MAX_ID + "']}") Integer maxId
+    ) {
+        super("movieJsonReader", snapshots, DataJumpTypeTMDB.MOVIE,
+            date == null ? null : LocalDate.parse(date), baseline == null ? null : LocalDate.parse(baseline),
+            minId == null ? 0 : minId, maxId == null ? Integer.MAX_VALUE : maxId);
     }
 }
@@ -14,6 +14,7 @@ import com.espacogeek.geek.data.api.MediaApi;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
 import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.search.MediaSuggestIndex;
 import com.espacogeek.geek.models.AlternativeTitleModel;
 import com.espacogeek.geek.services.ExternalReferenceService;
 import com.espacogeek.geek.services.MediaService;
@@ -31,6 +32,7 @@ public class SerieItemWriter implements ItemWriter<MediaModel> {
     @Qualifier("tvSeriesApi")
     private final MediaApi tvSeriesApi;
     private final TypeReferenceService typeReferenceService;
+    private final MediaSuggestIndex mediaSuggestIndex;
 
     private TypeReferenceModel typeReference;
 
@@ -68,21 +70,24 @@ public class SerieItemWriter implements ItemWriter<MediaModel> {
             if (savedIdx >= saved.size()) break;
             MediaModel persisted = saved.get(savedIdx++);
             if (persisted == null) continue;
+            mediaSuggestIndex.index(persisted);
 
             for (ExternalReferenceModel ref : original.getExternalReference()) {
                 ref.setMedia(persisted);
                 refsToSave.add(ref);
             }
 
+            // persist the alternative titles the processor fetched, or fetch them using the external API id (if present)
             try {
                 String externalId = original.getExternalReference().iterator().next().getReference();
-                if (externalId != null) {
-                    List<AlternativeTitleModel> alts = tvSeriesApi.getAlternativeTitles(Integer.valueOf(externalId));
+                if (original.getAlternativeTitles() != null || externalId != null) {
+                    List<AlternativeTitleModel> alts = original.getAlternativeTitles() != null ? new ArrayList<>(original.getAlternativeTitles()) : tvSeriesApi.getAlternativeTitles(Integer.valueOf(externalId));
                     if (alts != null && !alts.isEmpty()) {
                         for (AlternativeTitleModel alternativeTitleModel : alts) {
                             alternativeTitleModel.setMedia(persisted);
                         }
                         alternativeTitlesService.saveAll(alts);
+                        mediaSuggestIndex.indexAlternativeTitles(persisted.getId(), alts);
                         persisted.setAlternativeTitles(new java.util.LinkedHashSet<>(alts));
                     }
                 }
@@ -13,7 +13,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.espacogeek.geek.exception.GenericException;
+import com.espacogeek.geek.data.api.FetchPlan;
 import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.data.api.MediaBundle;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
 import com.espacogeek.geek.models.MediaModel;
@@ -21,6 +23,7 @@ import com.espacogeek.geek.models.MediaCategoryModel;
 import com.espacogeek.geek.services.ExternalReferenceService;
 import com.espacogeek.geek.services.MediaCategoryService;
 import com.espacogeek.geek.services.TypeReferenceService;
+import com.espacogeek.geek.utils.IdBitmap;
 import com.espacogeek.geek.data.MediaDataController.ExternalReferenceType;
 import com.espacogeek.geek.data.MediaDataController.MediaType;
 
@@ -36,6 +39,7 @@ public class SerieProcessor implements ItemProcessor<JSONObject, MediaModel> {
     private final TypeReferenceService typeReferenceService;
 
     private TypeReferenceModel typeReference;
+    private IdBitmap storedIds;
     private MediaCategoryModel mediaSerieCategory;
     private MediaCategoryModel mediaAnimeCategory;
     private MediaCategoryModel mediaUndefinedCategory;
@@ -44,6 +48,8 @@ public class SerieProcessor implements ItemProcessor<JSONObject, MediaModel> {
     public void init() {
         this.typeReference = typeReferenceService.findById(ExternalReferenceType.TMDB.getId())
                 .orElseThrow(() -> new GenericException("Type Reference not found"));
+        this.storedIds = externalReferenceService.findAllReferenceIds(typeReference);
+        log.info("Loaded {} stored TMDB IDs ({} KB) to skip", storedIds.size(), storedIds.estimatedBytes() / 1024);
 
         this.mediaSerieCategory = mediaCategoryService.findById(MediaType.SERIE.getId())
                 .orElseThrow(() -> new GenericException("Category not found"));
@@ -58,22 +64,28 @@ public class SerieProcessor implements ItemProcessor<JSONObject, MediaModel> {
         if (json == null) return null;
 
         String idStr = json.get("id").toString();
+        if (storedIds.contains(Integer.parseInt(idStr))) {
+            // stored before the step started, no query needed
+            return null;
+        }
 
+        // stored since the step started, by a search for instance
         var existing = externalReferenceService.findByReferenceAndType(idStr, typeReference);
         if (existing.isPresent()) {
             // already exists, skip
             return null;
         }
 
-        boolean isAnime = false;
-        boolean isUndefined = false;
+        // The full plan is the one the first refresh of the media asks for, so
+        // that refresh is answered by the cached response of this request.
+        MediaBundle bundle = null;
         try {
-            isAnime = tvSeriesApi.getKeyword(Integer.valueOf(idStr)).stream()
-                    .anyMatch(k -> k.getName().equalsIgnoreCase("anime"));
+            bundle = tvSeriesApi.fetch(Integer.valueOf(idStr), FetchPlan.FULL);
         } catch (Exception e) {
-            log.error("Error fetching keywords for series ID {}: {}", idStr, e.getMessage());
-            isUndefined = true;
+            log.error("Error fetching details for series ID {}: {}", idStr, e.getMessage());
         }
+        boolean isUndefined = bundle == null;
+        boolean isAnime = !isUndefined && bundle.hasKeyword("anime");
 
         MediaModel media = new MediaModel();
         if (isAnime) media.setMediaCategory(mediaAnimeCategory);
@@ -90,6 +102,8 @@ public class SerieProcessor implements ItemProcessor<JSONObject, MediaModel> {
         java.util.LinkedHashSet<ExternalReferenceModel> refs = new java.util.LinkedHashSet<>();
         refs.add(externalReference);
         media.setExternalReference(refs);
+        // saved by the writer once the media has an ID
+        if (bundle != null) media.setAlternativeTitles(new java.util.LinkedHashSet<>(bundle.alternativeTitles()));
 
         return media;
     }
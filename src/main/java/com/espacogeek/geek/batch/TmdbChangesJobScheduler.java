@@ -0,0 +1,47 @@
+package com.espacogeek.geek.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts <code>syncTmdbChangesJob</code> on <code>media.changes.sync.cron</code>,
+ * unless a previous run is still going. Disabled by default (<code>-</code>).
+ */
+@Component
+@Slf4j
+public class TmdbChangesJobScheduler {
+    private final JobLauncher asyncJobLauncher;
+    private final JobExplorer jobExplorer;
+    private final Job syncTmdbChangesJob;
+
+    public TmdbChangesJobScheduler(
+            @Qualifier("asyncJobLauncher") JobLauncher asyncJobLauncher,
+            JobExplorer jobExplorer,
+            @Qualifier("syncTmdbChangesJob") Job syncTmdbChangesJob
+    ) {
+        this.asyncJobLauncher = asyncJobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.syncTmdbChangesJob = syncTmdbChangesJob;
+    }
+
+    @Scheduled(cron = "${media.changes.sync.cron:-}")
+    public void launch() {
+        if (!jobExplorer.findRunningJobExecutions(syncTmdbChangesJob.getName()).isEmpty()) {
+            log.info("Skipping {}: the previous run is still going", syncTmdbChangesJob.getName());
+            return;
+        }
+        try {
+            asyncJobLauncher.run(syncTmdbChangesJob, new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters());
+        } catch (Exception e) {
+            log.error("Failed to start {}: {}", syncTmdbChangesJob.getName(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.espacogeek.geek.batch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemStreamItemReader;
+
+import com.espacogeek.geek.data.api.TmdbChangesApi;
+import com.espacogeek.geek.data.api.TmdbChangesApi.ChangesPage;
+import com.espacogeek.geek.data.api.TmdbChangesApi.Feed;
+
+/**
+ * ItemReader that pages through a TMDB change feed from one day to another,
+ * in windows of at most {@link TmdbChangesApi#MAX_WINDOW_DAYS} days, and
+ * returns the changed TMDB IDs.
+ * Persists the current window, page and position in the Step ExecutionContext
+ * for restartability.
+ */
+public class TmdbChangesReader extends AbstractItemStreamItemReader<Integer> {
+    private static final String KEY_WINDOW_START = "windowStart";
+    private static final String KEY_PAGE = "page";
+    private static final String KEY_INDEX = "index";
+
+    private final TmdbChangesApi tmdbChangesApi;
+    private final Feed feed;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private LocalDate windowStart;
+    private int page;
+    private int index;
+    private ChangesPage current;
+
+    public TmdbChangesReader(TmdbChangesApi tmdbChangesApi, Feed feed, LocalDate from, LocalDate to) {
+        this.tmdbChangesApi = tmdbChangesApi;
+        this.feed = feed;
+        this.from = from;
+        this.to = to;
+        setName("tmdbChangesReader." + feed.getPath());
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(getExecutionContextKey(KEY_WINDOW_START))) {
+            this.windowStart = LocalDate.parse(executionContext.getString(getExecutionContextKey(KEY_WINDOW_START)));
+            this.page = executionContext.getInt(getExecutionContextKey(KEY_PAGE));
+            this.index = executionContext.getInt(getExecutionContextKey(KEY_INDEX));
+        } else {
+            this.windowStart = from;
+            this.page = 1;
+            this.index = 0;
+        }
+        this.current = null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putString(getExecutionContextKey(KEY_WINDOW_START), windowStart.toString());
+        executionContext.putInt(getExecutionContextKey(KEY_PAGE), page);
+        executionContext.putInt(getExecutionContextKey(KEY_INDEX), index);
+    }
+
+    @Override
+    public Integer read() {
+        while (!windowStart.isAfter(to)) {
+            LocalDate windowEnd = windowEnd();
+            if (current == null) {
+                current = tmdbChangesApi.getChanges(feed, windowStart, windowEnd, page);
+            }
+
+            List<Integer> ids = current.ids();
+            if (index < ids.size()) {
+                return ids.get(index++);
+            }
+
+            int totalPages = current.totalPages();
+            current = null;
+            index = 0;
+            if (page < totalPages) {
+                page++;
+            } else {
+                windowStart = windowEnd.plusDays(1);
+                page = 1;
+            }
+        }
+        return null;
+    }
+
+    private LocalDate windowEnd() {
+        LocalDate windowEnd = windowStart.plusDays(TmdbChangesApi.MAX_WINDOW_DAYS - 1L);
+        return windowEnd.isAfter(to) ? to : windowEnd;
+    }
+}
@@ -0,0 +1,71 @@
+package com.espacogeek.geek.batch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+import com.espacogeek.geek.models.ProviderSyncStateModel;
+import com.espacogeek.geek.repositories.ProviderSyncStateRepository;
+
+/**
+ * Picks the window of the TMDB change feeds a run of
+ * <code>syncTmdbChangesJob</code> reads, and moves the high-water mark once
+ * the run completes.
+ * <p>
+ * The window goes from the last day already synchronised, read again since
+ * TMDB keeps adding changes to it after the previous run, to today (UTC).
+ * Without a mark it starts <code>initialLookbackDays</code> ago. A restarted
+ * execution keeps the window of the failed one, which is stored in the Job
+ * ExecutionContext.
+ */
+@Slf4j
+public class TmdbChangesWindowListener implements JobExecutionListener {
+    public static final String SYNC_STATE_NAME = "tmdb.changes";
+    public static final String KEY_FROM = "tmdbChanges.from";
+    public static final String KEY_TO = "tmdbChanges.to";
+
+    private final ProviderSyncStateRepository providerSyncStateRepository;
+    private final int initialLookbackDays;
+
+    public TmdbChangesWindowListener(ProviderSyncStateRepository providerSyncStateRepository, int initialLookbackDays) {
+        this.providerSyncStateRepository = providerSyncStateRepository;
+        this.initialLookbackDays = initialLookbackDays;
+    }
+
+    @Override
+    public void beforeJob(@NotNull JobExecution jobExecution) {
+        ExecutionContext context = jobExecution.getExecutionContext();
+        if (context.containsKey(KEY_FROM) && context.containsKey(KEY_TO)) {
+            return;
+        }
+
+        LocalDate to = LocalDate.now(ZoneOffset.UTC);
+        LocalDate from = providerSyncStateRepository.findById(SYNC_STATE_NAME)
+                .map(ProviderSyncStateModel::getSyncedUntil)
+                .orElse(to.minusDays(initialLookbackDays));
+        if (from.isAfter(to)) {
+            from = to;
+        }
+
+        context.putString(KEY_FROM, from.toString());
+        context.putString(KEY_TO, to.toString());
+        log.info("Synchronising the TMDB changes from {} to {}", from, to);
+    }
+
+    @Override
+    public void afterJob(@NotNull JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+
+        LocalDate to = LocalDate.parse(jobExecution.getExecutionContext().getString(KEY_TO));
+        providerSyncStateRepository.save(new ProviderSyncStateModel(SYNC_STATE_NAME, to, LocalDateTime.now()));
+    }
+}
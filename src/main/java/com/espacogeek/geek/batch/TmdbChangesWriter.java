@@ -0,0 +1,87 @@
+package com.espacogeek.geek.batch;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.espacogeek.geek.cache.ProviderResponseCache;
+import com.espacogeek.geek.data.MediaDataController.ExternalReferenceType;
+import com.espacogeek.geek.data.MediaDataController.MediaType;
+import com.espacogeek.geek.data.api.TmdbChangesApi.Feed;
+import com.espacogeek.geek.repositories.ExternalReferenceRepository;
+import com.espacogeek.geek.services.MediaService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ItemWriter that maps a chunk of changed TMDB IDs to the local medias in one
+ * query and refreshes only those from TMDB. IDs of titles not stored locally
+ * are dropped. The cached TMDB responses of every changed ID are dropped
+ * first, so the refresh reads the new data.
+ * <p>
+ * Each media is refreshed in its own transaction, so one failure does not
+ * roll back the chunk. A failed media keeps its old data until it is read or
+ * refreshed again.
+ */
+@Slf4j
+public class TmdbChangesWriter implements ItemWriter<Integer> {
+    private final ExternalReferenceRepository externalReferenceRepository;
+    private final MediaService mediaService;
+    private final ProviderResponseCache responseCache;
+    private final TransactionTemplate refreshTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Feed feed;
+    private final List<Integer> categories;
+
+    public TmdbChangesWriter(
+            ExternalReferenceRepository externalReferenceRepository,
+            MediaService mediaService,
+            ProviderResponseCache responseCache,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            Feed feed
+    ) {
+        this.externalReferenceRepository = externalReferenceRepository;
+        this.mediaService = mediaService;
+        this.responseCache = responseCache;
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.feed = feed;
+        this.categories = feed == Feed.MOVIE
+                ? List.of(MediaType.MOVIE.getId(), MediaType.ANIME_MOVIE.getId())
+                : List.of(MediaType.SERIE.getId(), MediaType.ANIME_SERIE.getId());
+    }
+
+    @Override
+    public void write(Chunk<? extends Integer> chunk) {
+        Set<String> references = new LinkedHashSet<>();
+        for (Integer id : chunk.getItems()) {
+            if (id != null) references.add(id.toString());
+        }
+        if (references.isEmpty()) return;
+
+        references.forEach(reference -> responseCache.invalidate("tmdb", feed.getPath(), reference));
+
+        List<Integer> mediaIds = externalReferenceRepository.findMediaIdsByReferences(references, ExternalReferenceType.TMDB.getId(), categories);
+        meterRegistry.counter("media.changes.ids", "feed", feed.getPath(), "result", "stored").increment(mediaIds.size());
+        meterRegistry.counter("media.changes.ids", "feed", feed.getPath(), "result", "unknown").increment(Math.max(0, references.size() - mediaIds.size()));
+
+        for (Integer mediaId : mediaIds) {
+            try {
+                refreshTransaction.executeWithoutResult(status -> mediaService.refresh(mediaId));
+                meterRegistry.counter("media.changes.refreshed", "feed", feed.getPath(), "result", "success").increment();
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh changed media {} from TMDB: {}", mediaId, e.getMessage());
+                meterRegistry.counter("media.changes.refreshed", "feed", feed.getPath(), "result", "failure").increment();
+            }
+        }
+    }
+}
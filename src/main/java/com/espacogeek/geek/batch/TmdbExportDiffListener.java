@@ -0,0 +1,70 @@
+package com.espacogeek.geek.batch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.models.ProviderSyncStateModel;
+import com.espacogeek.geek.repositories.ProviderSyncStateRepository;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+/**
+ * Picks the TMDB exports a run of an export job compares: the latest one and
+ * the one the last completed run ingested, and records the latest one once
+ * the run completes.
+ * <p>
+ * The baseline is only used while its snapshot is on disk; without it every
+ * title of the export is read. A restarted execution keeps the days of the
+ * failed one, which are stored in the Job ExecutionContext.
+ */
+@Slf4j
+public class TmdbExportDiffListener implements JobExecutionListener {
+    public static final String KEY_DATE = "tmdbExport.date";
+    public static final String KEY_BASELINE = "tmdbExport.baseline";
+
+    private final TmdbExportSnapshots snapshots;
+    private final ProviderSyncStateRepository providerSyncStateRepository;
+    private final DataJumpTypeTMDB type;
+    private final String syncStateName;
+
+    public TmdbExportDiffListener(TmdbExportSnapshots snapshots, ProviderSyncStateRepository providerSyncStateRepository, DataJumpTypeTMDB type) {
+        this.snapshots = snapshots;
+        this.providerSyncStateRepository = providerSyncStateRepository;
+        this.type = type;
+        this.syncStateName = "tmdb.export." + type.getValue();
+    }
+
+    @Override
+    public void beforeJob(@NotNull JobExecution jobExecution) {
+        ExecutionContext context = jobExecution.getExecutionContext();
+        if (context.containsKey(KEY_DATE)) {
+            return;
+        }
+
+        LocalDate date = snapshots.latest(type).date();
+        context.putString(KEY_DATE, date.toString());
+        providerSyncStateRepository.findById(syncStateName)
+                .map(ProviderSyncStateModel::getSyncedUntil)
+                .filter(baseline -> !baseline.isAfter(date) && snapshots.isStored(type, baseline))
+                .ifPresentOrElse(
+                        baseline -> context.putString(KEY_BASELINE, baseline.toString()),
+                        () -> log.info("No stored TMDB {} export was ingested before, every title of {} is read", type.getValue(), date));
+    }
+
+    @Override
+    public void afterJob(@NotNull JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+
+        LocalDate date = LocalDate.parse(jobExecution.getExecutionContext().getString(KEY_DATE));
+        providerSyncStateRepository.save(new ProviderSyncStateModel(syncStateName, date, LocalDateTime.now()));
+    }
+}
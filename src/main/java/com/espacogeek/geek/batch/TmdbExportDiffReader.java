@@ -0,0 +1,120 @@
+package com.espacogeek.geek.batch;
+
+import java.time.LocalDate;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemStreamItemReader;
+
+import com.espacogeek.geek.data.export.ExportDiff;
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+/**
+ * ItemReader over one side of the {@link ExportDiff} between the TMDB export
+ * of a day and the one last ingested, both read from their local snapshots.
+ * <p>
+ * Persists the index of the next item in the Step ExecutionContext for
+ * restartability. The days compared come from the Job ExecutionContext, see
+ * {@link TmdbExportDiffListener}, so a restart compares the same exports and
+ * resumes in the same list. A reader can be limited to a range of IDs, so the
+ * partitions of a step made by {@link TmdbExportPartitioner} each read their
+ * own part of the list.
+ */
+public abstract class TmdbExportDiffReader<T> extends AbstractItemStreamItemReader<T> {
+    private static final String KEY_INDEX = "index";
+
+    private final TmdbExportSnapshots snapshots;
+    private final DataJumpTypeTMDB type;
+    private final LocalDate date;
+    private final LocalDate baseline;
+    private final int minId;
+    private final int maxId;
+
+    private ExportDiff diff;
+    private int index;
+    private int end;
+
+    /**
+     * @param name      the prefix of the keys in the ExecutionContext.
+     * @param snapshots where the exports are kept.
+     * @param type      the export to read.
+     * @param date      the day of the export to ingest, or <code>null</code> for the latest.
+     * @param baseline  the day of the export last ingested, or <code>null</code> when there is none.
+     */
+    protected TmdbExportDiffReader(String name, TmdbExportSnapshots snapshots, DataJumpTypeTMDB type, LocalDate date, LocalDate baseline) {
+        this(name, snapshots, type, date, baseline, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param minId the lowest ID to read.
+     * @param maxId the highest ID to read.
+     * @see #TmdbExportDiffReader(String, TmdbExportSnapshots, DataJumpTypeTMDB, LocalDate, LocalDate)
+     */
+    protected TmdbExportDiffReader(String name, TmdbExportSnapshots snapshots, DataJumpTypeTMDB type, LocalDate date, LocalDate baseline, int minId, int maxId) {
+        this.snapshots = snapshots;
+        this.type = type;
+        this.date = date;
+        this.baseline = baseline;
+        this.minId = minId;
+        this.maxId = maxId;
+        setName(name);
+    }
+
+    protected abstract int size(ExportDiff diff);
+
+    /**
+     * @return the TMDB ID of the item at <code>index</code>; the IDs ascend
+     *         with the index.
+     */
+    protected abstract int id(ExportDiff diff, int index);
+
+    protected abstract T item(ExportDiff diff, int index);
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        try {
+            this.diff = snapshots.diff(type, date, baseline);
+        } catch (RuntimeException e) {
+            throw new ItemStreamException("Could not open the TMDB " + type.getValue() + " export", e);
+        }
+        this.end = firstIndexAbove(maxId);
+        this.index = executionContext.getInt(getExecutionContextKey(KEY_INDEX), firstIndexAbove(minId - 1L));
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putInt(getExecutionContextKey(KEY_INDEX), index);
+    }
+
+    @Override
+    public T read() {
+        if (diff == null || index >= end) {
+            return null;
+        }
+        return item(diff, index++);
+    }
+
+    /**
+     * @return the index of the first item with an ID above <code>id</code>.
+     */
+    private int firstIndexAbove(long id) {
+        int low = 0;
+        int high = size(diff);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (id(diff, middle) <= id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void close() {
+        diff = null;
+        super.close();
+    }
+}
@@ -0,0 +1,67 @@
+package com.espacogeek.geek.batch;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import com.espacogeek.geek.data.export.ExportDiff;
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+/**
+ * Splits the titles added to a TMDB export into ranges of IDs with about the
+ * same number of titles, one per partition of an import step. The ranges
+ * follow each other and cover every ID, so each title is read by exactly one
+ * partition; the range of a partition is kept in its Step ExecutionContext,
+ * which is what a restart of that partition reads again.
+ */
+public class TmdbExportPartitioner implements Partitioner {
+    public static final String KEY_MIN_ID = "tmdbExport.minId";
+    public static final String KEY_MAX_ID = "tmdbExport.maxId";
+
+    private final TmdbExportSnapshots snapshots;
+    private final DataJumpTypeTMDB type;
+    private final LocalDate date;
+    private final LocalDate baseline;
+
+    /**
+     * @param snapshots where the exports are kept.
+     * @param type      the export to split.
+     * @param date      the day of the export to ingest, or <code>null</code> for the latest.
+     * @param baseline  the day of the export last ingested, or <code>null</code> when there is none.
+     */
+    public TmdbExportPartitioner(TmdbExportSnapshots snapshots, DataJumpTypeTMDB type, LocalDate date, LocalDate baseline) {
+        this.snapshots = snapshots;
+        this.type = type;
+        this.date = date;
+        this.baseline = baseline;
+    }
+
+    /**
+     * @param gridSize the number of partitions; fewer are made when there are
+     *                 fewer titles, and one when there are none.
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        ExportDiff diff = snapshots.diff(type, date, baseline);
+        int[] added = diff.added();
+        int partitions = Math.max(1, Math.min(gridSize, added.length));
+
+        Map<String, ExecutionContext> contexts = new LinkedHashMap<>();
+        int minId = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            int end = (int) ((long) added.length * (partition + 1) / partitions);
+            int maxId = partition == partitions - 1 ? Integer.MAX_VALUE : diff.current().id(added[end]) - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(KEY_MIN_ID, minId);
+            context.putInt(KEY_MAX_ID, maxId);
+            contexts.put("partition" + partition, context);
+            minId = maxId + 1;
+        }
+        return contexts;
+    }
+}
@@ -0,0 +1,44 @@
+package com.espacogeek.geek.batch;
+
+import java.time.LocalDate;
+
+import org.json.simple.JSONObject;
+
+import com.espacogeek.geek.data.export.ExportDiff;
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+/**
+ * ItemReader that returns the titles added to a TMDB daily export since the
+ * one last ingested, as the lines of the export, so the processors only look
+ * up the IDs they may not have.
+ */
+public class TmdbExportReader extends TmdbExportDiffReader<JSONObject> {
+
+    public TmdbExportReader(String name, TmdbExportSnapshots snapshots, DataJumpTypeTMDB type, LocalDate date, LocalDate baseline) {
+        super(name, snapshots, type, date, baseline);
+    }
+
+    /**
+     * @param minId the lowest ID to read.
+     * @param maxId the highest ID to read.
+     */
+    public TmdbExportReader(String name, TmdbExportSnapshots snapshots, DataJumpTypeTMDB type, LocalDate date, LocalDate baseline, int minId, int maxId) {
+        super(name, snapshots, type, date, baseline, minId, maxId);
+    }
+
+    @Override
+    protected int size(ExportDiff diff) {
+        return diff.added().length;
+    }
+
+    @Override
+    protected int id(ExportDiff diff, int index) {
+        return diff.current().id(diff.added()[index]);
+    }
+
+    @Override
+    protected JSONObject item(ExportDiff diff, int index) {
+        return diff.current().json(diff.added()[index]);
+    }
+}
@@ -0,0 +1,33 @@
+package com.espacogeek.geek.batch;
+
+import java.time.LocalDate;
+
+import com.espacogeek.geek.data.export.ExportDiff;
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+/**
+ * ItemReader that returns the TMDB IDs the export of the day no longer lists,
+ * or lists as adult, since the one last ingested.
+ */
+public class TmdbRemovedTitlesReader extends TmdbExportDiffReader<Integer> {
+
+    public TmdbRemovedTitlesReader(String name, TmdbExportSnapshots snapshots, DataJumpTypeTMDB type, LocalDate date, LocalDate baseline) {
+        super(name, snapshots, type, date, baseline);
+    }
+
+    @Override
+    protected int size(ExportDiff diff) {
+        return diff.removed().length;
+    }
+
+    @Override
+    protected int id(ExportDiff diff, int index) {
+        return diff.removed()[index];
+    }
+
+    @Override
+    protected Integer item(ExportDiff diff, int index) {
+        return diff.removed()[index];
+    }
+}
@@ -0,0 +1,84 @@
+package com.espacogeek.geek.batch;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import com.espacogeek.geek.cache.ProviderResponseCache;
+import com.espacogeek.geek.data.MediaDataController.ExternalReferenceType;
+import com.espacogeek.geek.data.MediaDataController.MediaType;
+import com.espacogeek.geek.data.api.TmdbChangesApi.Feed;
+import com.espacogeek.geek.repositories.ExternalReferenceRepository;
+import com.espacogeek.geek.repositories.MediaRepository;
+import com.espacogeek.geek.search.MediaSearchCache;
+import com.espacogeek.geek.search.MediaSuggestIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ItemWriter that deletes the local medias of a chunk of TMDB IDs the daily
+ * export no longer lists. A media some user has in a library or a list is
+ * kept, with its data as last read. IDs of titles not stored locally are
+ * dropped, and the cached TMDB responses of every ID are dropped too. Once the
+ * chunk commits, the deleted medias leave the search pages and suggestions.
+ */
+@Slf4j
+public class TmdbRemovedTitlesWriter implements ItemWriter<Integer> {
+    private final ExternalReferenceRepository externalReferenceRepository;
+    private final MediaRepository mediaRepository;
+    private final ProviderResponseCache responseCache;
+    private final MediaSearchCache mediaSearchCache;
+    private final MediaSuggestIndex mediaSuggestIndex;
+    private final MeterRegistry meterRegistry;
+    private final Feed feed;
+    private final List<Integer> categories;
+
+    public TmdbRemovedTitlesWriter(
+            ExternalReferenceRepository externalReferenceRepository,
+            MediaRepository mediaRepository,
+            ProviderResponseCache responseCache,
+            MediaSearchCache mediaSearchCache,
+            MediaSuggestIndex mediaSuggestIndex,
+            MeterRegistry meterRegistry,
+            Feed feed
+    ) {
+        this.externalReferenceRepository = externalReferenceRepository;
+        this.mediaRepository = mediaRepository;
+        this.responseCache = responseCache;
+        this.mediaSearchCache = mediaSearchCache;
+        this.mediaSuggestIndex = mediaSuggestIndex;
+        this.meterRegistry = meterRegistry;
+        this.feed = feed;
+        this.categories = feed == Feed.MOVIE
+                ? List.of(MediaType.MOVIE.getId(), MediaType.ANIME_MOVIE.getId())
+                : List.of(MediaType.SERIE.getId(), MediaType.ANIME_SERIE.getId());
+    }
+
+    @Override
+    public void write(Chunk<? extends Integer> chunk) {
+        Set<String> references = new LinkedHashSet<>();
+        for (Integer id : chunk.getItems()) {
+            if (id != null) references.add(id.toString());
+        }
+        if (references.isEmpty()) return;
+
+        references.forEach(reference -> responseCache.invalidate("tmdb", feed.getPath(), reference));
+
+        List<Integer> mediaIds = externalReferenceRepository.findMediaIdsByReferences(references, ExternalReferenceType.TMDB.getId(), categories);
+        if (mediaIds.isEmpty()) return;
+
+        List<Integer> withoutUsers = mediaRepository.findIdsWithoutUsers(mediaIds);
+        int deleted = mediaRepository.deleteWithChildren(withoutUsers);
+        if (!withoutUsers.isEmpty()) {
+            mediaSearchCache.invalidate(categories);
+            mediaSuggestIndex.remove(withoutUsers);
+        }
+        meterRegistry.counter("media.export.removed", "feed", feed.getPath(), "result", "deleted").increment(deleted);
+        meterRegistry.counter("media.export.removed", "feed", feed.getPath(), "result", "kept").increment(mediaIds.size() - withoutUsers.size());
+        log.info("Deleted {} medias TMDB no longer lists, kept {} that users have", deleted, mediaIds.size() - withoutUsers.size());
+    }
+}
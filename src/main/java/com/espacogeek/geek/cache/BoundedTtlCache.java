@@ -0,0 +1,145 @@
+package com.espacogeek.geek.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Small in-memory cache bounded by number of entries, where every entry
+ * expires a fixed time after it was written.
+ * <p>
+ * When full, the least recently used entry is evicted. Expired entries are
+ * dropped when they are read or when they become the least recently used.
+ * All operations lock the whole cache, which is fine for the few thousand
+ * entries and short critical sections it is meant for.
+ * <p>
+ * Hits, misses, puts and evictions are exported with the standard Micrometer
+ * cache meter names (<code>cache.gets</code>, <code>cache.puts</code>,
+ * <code>cache.evictions</code>, <code>cache.size</code>) tagged with the cache
+ * name.
+ *
+ * @param <K> the key type, which must implement equals and hashCode.
+ * @param <V> the value type.
+ */
+public class BoundedTtlCache<K, V> {
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+
+    public BoundedTtlCache(String name, int maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maximumSize, ttl, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * @param ticker source of the current time in nanoseconds, replaceable in
+     *               tests.
+     */
+    public BoundedTtlCache(String name, int maximumSize, Duration ttl, MeterRegistry meterRegistry, LongSupplier ticker) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        this.hits = meterRegistry.counter("cache.gets", "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter("cache.gets", "cache", name, "result", "miss");
+        this.puts = meterRegistry.counter("cache.puts", "cache", name);
+        this.evictions = meterRegistry.counter("cache.evictions", "cache", name);
+        Gauge.builder("cache.size", this, BoundedTtlCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the cached value, or <code>null</code> when there is none or it
+     *         has expired.
+     */
+    public V getIfPresent(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && isExpired(entry)) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttlNanos);
+    }
+
+    /**
+     * Caches the value for the given time instead of the cache TTL.
+     */
+    public void put(K key, V value, Duration ttl) {
+        put(key, value, ttl.toNanos());
+    }
+
+    private void put(K key, V value, long entryTtlNanos) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, ticker.getAsLong() + entryTtlNanos));
+            puts.increment();
+
+            Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maximumSize && eldest.hasNext()) {
+                Entry<V> evicted = eldest.next().getValue();
+                eldest.remove();
+                if (!isExpired(evicted)) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes every entry whose key matches the predicate.
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        synchronized (entries) {
+            entries.keySet().removeIf(predicate);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return ticker.getAsLong() - entry.expiresAt() >= 0;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
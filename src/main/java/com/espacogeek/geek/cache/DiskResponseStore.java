@@ -0,0 +1,235 @@
+package com.espacogeek.geek.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The on-disk tier of {@link ProviderResponseCache}: one file per response
+ * under <code>{dir}/{provider}/{resource}/{id}/</code>, so every response of
+ * an id can be dropped with its directory.
+ * <p>
+ * A file holds the expiry time, the variant of the request it answers and
+ * the body. Files are written to a temporary name and moved in place, so a
+ * reader never sees half a file. When the store grows past
+ * <code>maxBytes</code>, the least recently read files are deleted until it
+ * is back to 90% of it. I/O errors only make a lookup miss.
+ */
+@Slf4j
+class DiskResponseStore {
+    private static final int FORMAT = 1;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final AtomicLong size = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    record Stored(byte[] body, long expiresAt) {
+    }
+
+    DiskResponseStore(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+            size.set(cleanUp(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.warn("Could not open the provider response cache at {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * @return the stored response, or <code>null</code> when there is none or
+     *         it has expired.
+     */
+    Stored get(ProviderResponseCache.Key key, long now) {
+        Path file = fileOf(key);
+        try {
+            byte[] content = Files.readAllBytes(file);
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+                if (in.readInt() != FORMAT) {
+                    return null;
+                }
+                long expiresAt = in.readLong();
+                String variant = in.readUTF();
+                if (expiresAt <= now) {
+                    delete(file);
+                    return null;
+                }
+                if (!variant.equals(key.variant())) {
+                    return null;
+                }
+                byte[] body = in.readNBytes(in.readInt());
+                Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+                return new Stored(body, expiresAt);
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.debug("Could not read the cached response {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    void put(ProviderResponseCache.Key key, byte[] body, long expiresAt) {
+        Path file = fileOf(key);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 64);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(FORMAT);
+                out.writeLong(expiresAt);
+                out.writeUTF(key.variant());
+                out.writeInt(body.length);
+                out.write(body);
+            }
+
+            Files.createDirectories(file.getParent());
+            long previous = Files.exists(file) ? Files.size(file) : 0;
+            Path temporary = Files.createTempFile(file.getParent(), "response", ".tmp");
+            Files.write(temporary, bytes.toByteArray());
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            if (size.addAndGet(bytes.size() - previous) > maxBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            log.debug("Could not cache the response {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes every stored response of the id.
+     */
+    void invalidate(String provider, String resource, String id) {
+        Path idDirectory = directory.resolve(safe(provider)).resolve(safe(resource)).resolve(safe(id));
+        if (!Files.isDirectory(idDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(idDirectory)) {
+            files.forEach(this::delete);
+        } catch (IOException e) {
+            log.debug("Could not drop the cached responses of {}: {}", idDirectory, e.getMessage());
+        }
+    }
+
+    long size() {
+        return size.get();
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            if (size.get() <= maxBytes) {
+                return;
+            }
+            try {
+                long target = maxBytes / 10 * 9;
+                long remaining = cleanUp(System.currentTimeMillis());
+                if (remaining > target) {
+                    for (Path file : filesByLastRead()) {
+                        if (remaining <= target) {
+                            break;
+                        }
+                        remaining -= delete(file);
+                    }
+                }
+                size.set(remaining);
+            } catch (IOException e) {
+                log.warn("Could not shrink the provider response cache: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Deletes the expired responses and the leftover temporary files.
+     *
+     * @return the size of the files kept.
+     */
+    private long cleanUp(long now) throws IOException {
+        long kept = 0;
+        for (Path file : files()) {
+            if (file.getFileName().toString().endsWith(".tmp") || isExpired(file, now)) {
+                delete(file);
+            } else {
+                kept += Files.size(file);
+            }
+        }
+        return kept;
+    }
+
+    private boolean isExpired(Path file, long now) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            return in.readInt() != FORMAT || in.readLong() <= now;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private List<Path> filesByLastRead() throws IOException {
+        List<Path> files = files();
+        files.sort(Comparator.comparing(DiskResponseStore::lastModified));
+        return files;
+    }
+
+    private List<Path> files() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return new ArrayList<>(files.filter(Files::isRegularFile).toList());
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * @return the size of the deleted file.
+     */
+    private long delete(Path file) {
+        try {
+            long length = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                size.addAndGet(-length);
+                return length;
+            }
+        } catch (IOException e) {
+            log.debug("Could not delete the cached response {}: {}", file, e.getMessage());
+        }
+        return 0;
+    }
+
+    private Path fileOf(ProviderResponseCache.Key key) {
+        return directory.resolve(safe(key.provider()))
+                .resolve(safe(key.resource()))
+                .resolve(safe(key.id()))
+                .resolve(safe(key.endpoint()) + "-" + Integer.toHexString(key.variant().hashCode()) + ".bin");
+    }
+
+    private static String safe(String name) {
+        return name.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+}
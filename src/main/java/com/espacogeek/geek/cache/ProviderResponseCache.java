@@ -0,0 +1,127 @@
+package com.espacogeek.geek.cache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Two-tier cache of the raw provider responses about one id, like the
+ * details, keywords or alternative titles of a TMDB movie or the details of
+ * an IGDB game.
+ * <p>
+ * The heap tier is a {@link BoundedTtlCache} of
+ * <code>http.cache.heap.max-size</code> responses. Behind it the disk tier,
+ * {@link DiskResponseStore}, keeps up to <code>http.cache.disk.max-bytes</code>
+ * under <code>http.cache.disk.dir</code> across restarts, so a job run again
+ * after a failure reads what the previous run downloaded.
+ * <p>
+ * A response is kept <code>http.cache.ttl.{endpoint}</code> seconds, or
+ * <code>http.cache.ttl.default</code> for the endpoints without their own. A
+ * response that answers several endpoints at once is kept as long as the
+ * shortest of their TTLs.
+ * Callers that know an id changed drop it with
+ * {@link #invalidate(String, String, String)}.
+ */
+@Component
+public class ProviderResponseCache {
+    private static final Duration DEFAULT_TTL = Duration.ofHours(6);
+
+    /**
+     * @param provider the provider, like <code>tmdb</code>.
+     * @param resource what the id is of, like <code>movie</code> or <code>tv</code>.
+     * @param id       the provider id.
+     * @param endpoint what was asked about the id, like <code>details</code> or <code>keywords</code>,
+     *                 or several comma separated endpoints answered by one response.
+     * @param variant  the rest of the request (query, sub-resource) that changes the answer.
+     */
+    public record Key(String provider, String resource, String id, String endpoint, String variant) {
+    }
+
+    private final Environment environment;
+    private final boolean enabled;
+    private final BoundedTtlCache<Key, byte[]> heap;
+    private final DiskResponseStore disk;
+
+    public ProviderResponseCache(
+        Environment environment,
+        MeterRegistry meterRegistry,
+        @Value("${http.cache.enabled:true}") boolean enabled,
+        @Value("${http.cache.heap.max-size:2000}") int heapMaxSize,
+        @Value("${http.cache.disk.enabled:true}") boolean diskEnabled,
+        @Value("${http.cache.disk.dir:data/provider-cache}") String diskDirectory,
+        @Value("${http.cache.disk.max-bytes:536870912}") long diskMaxBytes
+    ) {
+        this.environment = environment;
+        this.enabled = enabled;
+        this.heap = new BoundedTtlCache<>("provider.responses", heapMaxSize, DEFAULT_TTL, meterRegistry);
+        this.disk = enabled && diskEnabled ? new DiskResponseStore(Path.of(diskDirectory), diskMaxBytes) : null;
+        if (disk != null) {
+            Gauge.builder("http.cache.disk.bytes", disk, DiskResponseStore::size).register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return the cached response, from the heap or else from the disk.
+     */
+    public Optional<byte[]> get(Key key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        byte[] body = heap.getIfPresent(key);
+        if (body == null && disk != null) {
+            long now = System.currentTimeMillis();
+            DiskResponseStore.Stored stored = disk.get(key, now);
+            if (stored != null) {
+                body = stored.body();
+                heap.put(key, body, Duration.ofMillis(stored.expiresAt() - now));
+            }
+        }
+        return Optional.ofNullable(body);
+    }
+
+    public void put(Key key, byte[] body) {
+        if (!enabled) {
+            return;
+        }
+        Duration ttl = ttlOf(key.endpoint());
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        heap.put(key, body, ttl);
+        if (disk != null) {
+            disk.put(key, body, System.currentTimeMillis() + ttl.toMillis());
+        }
+    }
+
+    /**
+     * Drops every cached response about the id.
+     */
+    public void invalidate(String provider, String resource, String id) {
+        if (!enabled) {
+            return;
+        }
+        heap.invalidateIf(key -> key.provider().equals(provider) && key.resource().equals(resource) && key.id().equals(id));
+        if (disk != null) {
+            disk.invalidate(provider, resource, id);
+        }
+    }
+
+    private Duration ttlOf(String endpoints) {
+        long shortest = Long.MAX_VALUE;
+        for (String endpoint : endpoints.split(",")) {
+            Long seconds = environment.getProperty("http.cache.ttl." + endpoint, Long.class);
+            if (seconds == null) {
+                seconds = environment.getProperty("http.cache.ttl.default", Long.class, DEFAULT_TTL.toSeconds());
+            }
+            shortest = Math.min(shortest, seconds);
+        }
+        return Duration.ofSeconds(shortest);
+    }
+}
@@ -0,0 +1,183 @@
+package com.espacogeek.geek.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import com.espacogeek.geek.models.CategoryType;
+import com.espacogeek.geek.models.GenreModel;
+import com.espacogeek.geek.models.MediaCategoryModel;
+import com.espacogeek.geek.models.MediaStatusModel;
+import com.espacogeek.geek.models.StatusType;
+import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.repositories.GenreRepository;
+import com.espacogeek.geek.repositories.MediaCategoryRepository;
+import com.espacogeek.geek.repositories.MediaStatusRepository;
+import com.espacogeek.geek.repositories.TypeReferenceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * The reference tables, <code>type_reference</code>,
+ * <code>media_categories</code>, <code>media_status</code> and
+ * <code>genres</code>, kept in memory.
+ * <p>
+ * They hold a few rows that only migrations change, yet the ingestion looks
+ * them up once per media, so they are read once at startup and answered by
+ * id or by name from immutable maps afterwards. Callers that change one of
+ * the tables call {@link #reload()}; the lookups running meanwhile keep
+ * answering from the previous snapshot.
+ * <p>
+ * The rows are shared by every caller, detached from any session, so they
+ * are meant to be referenced by the medias, never changed.
+ */
+@Component
+@Slf4j
+public class ReferenceDataRegistry {
+
+    private record Snapshot(
+        Map<Integer, TypeReferenceModel> typeReferences,
+        Map<String, TypeReferenceModel> typeReferencesByName,
+        Map<Integer, MediaCategoryModel> mediaCategories,
+        Map<CategoryType, MediaCategoryModel> mediaCategoriesByName,
+        Map<Integer, MediaStatusModel> mediaStatuses,
+        Map<StatusType, MediaStatusModel> mediaStatusesByName,
+        Map<Integer, GenreModel> genres,
+        Map<String, GenreModel> genresByName
+    ) {
+    }
+
+    private final TypeReferenceRepository typeReferenceRepository;
+    private final MediaCategoryRepository mediaCategoryRepository;
+    private final MediaStatusRepository mediaStatusRepository;
+    private final GenreRepository genreRepository;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    public ReferenceDataRegistry(
+        TypeReferenceRepository typeReferenceRepository,
+        MediaCategoryRepository mediaCategoryRepository,
+        MediaStatusRepository mediaStatusRepository,
+        GenreRepository genreRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.typeReferenceRepository = typeReferenceRepository;
+        this.mediaCategoryRepository = mediaCategoryRepository;
+        this.mediaStatusRepository = mediaStatusRepository;
+        this.genreRepository = genreRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Reads the four tables again and replaces the snapshot at once.
+     */
+    @PostConstruct
+    public void reload() {
+        List<TypeReferenceModel> typeReferences = typeReferenceRepository.findAll();
+        List<MediaCategoryModel> mediaCategories = mediaCategoryRepository.findAll();
+        List<MediaStatusModel> mediaStatuses = mediaStatusRepository.findAll();
+        List<GenreModel> genres = genreRepository.findAll();
+
+        this.snapshot = new Snapshot(
+            index(typeReferences, TypeReferenceModel::getId),
+            index(typeReferences, typeReference -> normalize(typeReference.getNameReference())),
+            index(mediaCategories, MediaCategoryModel::getId),
+            index(mediaCategories, MediaCategoryModel::getName),
+            index(mediaStatuses, MediaStatusModel::getId),
+            index(mediaStatuses, MediaStatusModel::getName),
+            index(genres, GenreModel::getId),
+            index(genres, genre -> normalize(genre.getName())));
+        meterRegistry.counter("reference.data.reloads").increment();
+        log.info("Loaded {} type references, {} media categories, {} media status and {} genres",
+            typeReferences.size(), mediaCategories.size(), mediaStatuses.size(), genres.size());
+    }
+
+    public Optional<TypeReferenceModel> typeReference(Integer id) {
+        return lookup(snapshot.typeReferences(), id);
+    }
+
+    public Optional<TypeReferenceModel> typeReference(String name) {
+        return lookup(snapshot.typeReferencesByName(), normalize(name));
+    }
+
+    public Optional<MediaCategoryModel> mediaCategory(Integer id) {
+        return lookup(snapshot.mediaCategories(), id);
+    }
+
+    public Optional<MediaCategoryModel> mediaCategory(CategoryType name) {
+        return lookup(snapshot.mediaCategoriesByName(), name);
+    }
+
+    public Optional<MediaStatusModel> mediaStatus(Integer id) {
+        return lookup(snapshot.mediaStatuses(), id);
+    }
+
+    public Optional<MediaStatusModel> mediaStatus(StatusType name) {
+        return lookup(snapshot.mediaStatusesByName(), name);
+    }
+
+    public List<MediaStatusModel> mediaStatuses() {
+        return List.copyOf(snapshot.mediaStatuses().values());
+    }
+
+    public Optional<GenreModel> genre(Integer id) {
+        return lookup(snapshot.genres(), id);
+    }
+
+    public Optional<GenreModel> genre(String name) {
+        return lookup(snapshot.genresByName(), normalize(name));
+    }
+
+    /**
+     * Finds the genres named, ignoring case like the database collation does.
+     *
+     * @param names the names, unknown ones included.
+     * @return the known genres, once each, in the order of their first name.
+     */
+    public List<GenreModel> genres(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, GenreModel> genresByName = snapshot.genresByName();
+        LinkedHashSet<GenreModel> genres = new LinkedHashSet<>();
+        for (String name : names) {
+            lookup(genresByName, normalize(name)).ifPresent(genres::add);
+        }
+        return new ArrayList<>(genres);
+    }
+
+    private static <K, V> Optional<V> lookup(Map<K, V> values, K key) {
+        return key == null ? Optional.empty() : Optional.ofNullable(values.get(key));
+    }
+
+    /**
+     * Indexes the rows by a key, in the order they were read. Rows without
+     * the key are left out, and a key repeated keeps its first row.
+     */
+    private static <K, V> Map<K, V> index(List<V> rows, Function<V, K> key) {
+        Map<K, V> index = new LinkedHashMap<>();
+        for (V row : rows) {
+            K value = key.apply(row);
+            if (value != null) {
+                index.putIfAbsent(value, row);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static String normalize(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
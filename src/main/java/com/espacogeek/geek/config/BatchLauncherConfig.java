@@ -4,11 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 
+import com.espacogeek.geek.http.RequestPriority;
+
 @Configuration
 public class BatchLauncherConfig {
 
@@ -27,4 +30,31 @@ public class BatchLauncherConfig {
         executor.setThreadNamePrefix("batch-thread-");
         return executor;
     }
+
+    /**
+     * Runs the partitions of the TMDB export import steps, at most
+     * <code>media.export.partition.concurrency</code> at a time; the others
+     * wait for a free slot.
+     */
+    @Bean
+    public TaskExecutor importPartitionExecutor(@Value("${media.export.partition.concurrency:2}") int concurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("import-partition-");
+        executor.setConcurrencyLimit(concurrency);
+        return executor;
+    }
+
+    /**
+     * Runs the item processors of the TMDB export import steps, so the provider
+     * calls of a chunk overlap. Bounded by
+     * <code>media.export.processor.concurrency</code> across every partition;
+     * each task keeps the {@link RequestPriority} of the chunk that submitted
+     * it, so the calls still take background permits of the rate limiter.
+     */
+    @Bean
+    public TaskExecutor importProcessorExecutor(@Value("${media.export.processor.concurrency:8}") int concurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("import-processor-");
+        executor.setConcurrencyLimit(concurrency);
+        executor.setTaskDecorator(RequestPriority::inherit);
+        return executor;
+    }
 }
@@ -1,15 +1,39 @@
 package com.espacogeek.geek.config;
 
+import java.time.LocalDate;
+import java.util.concurrent.Future;
+
 import com.espacogeek.geek.batch.*;
+import com.espacogeek.geek.cache.ProviderResponseCache;
+import com.espacogeek.geek.data.api.TmdbChangesApi;
+import com.espacogeek.geek.data.api.TmdbChangesApi.Feed;
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.repositories.ExternalReferenceRepository;
+import com.espacogeek.geek.repositories.MediaRepository;
+import com.espacogeek.geek.repositories.ProviderSyncStateRepository;
+import com.espacogeek.geek.search.MediaSearchCache;
+import com.espacogeek.geek.search.MediaSuggestIndex;
+import com.espacogeek.geek.services.MediaService;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.json.simple.JSONObject;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -19,46 +43,276 @@ public class JobsConfig {
     private final PlatformTransactionManager transactionManager;
 
     @Bean
-    public Step updateMoviesStep(
+    public Step updateMoviesWorkerStep(
         MovieJsonReader movieJsonReader,
         MovieProcessor movieProcessor,
-        MovieItemWriter movieItemWriter
+        MovieItemWriter movieItemWriter,
+        @Qualifier("importProcessorExecutor") TaskExecutor importProcessorExecutor
     ) {
-        return new StepBuilder("updateMoviesStep", jobRepository)
-            .<org.json.simple.JSONObject, com.espacogeek.geek.models.MediaModel>chunk(10, transactionManager)
+        return new StepBuilder("updateMoviesWorkerStep", jobRepository)
+            .<JSONObject, Future<MediaModel>>chunk(10, transactionManager)
             .reader(movieJsonReader)
-            .processor(movieProcessor)
-            .writer(movieItemWriter)
-            .listener(new DelayChunkListener(2000))
+            .processor(asyncProcessor(movieProcessor, importProcessorExecutor))
+            .writer(asyncWriter(movieItemWriter))
+            .listener(new BackgroundPriorityChunkListener())
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public TmdbExportPartitioner tmdbMoviesPartitioner(
+        TmdbExportSnapshots snapshots,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_DATE + "']}") String date,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_BASELINE + "']}") String baseline
+    ) {
+        return new TmdbExportPartitioner(snapshots, DataJumpTypeTMDB.MOVIE, parseDate(date), parseDate(baseline));
+    }
+
+    /**
+     * Splits the added movies into <code>media.export.partitions</code> ID
+     * ranges, each read by its own {@code updateMoviesWorkerStep}.
+     */
+    @Bean
+    public Step updateMoviesStep(
+        @Qualifier("updateMoviesWorkerStep") Step updateMoviesWorkerStep,
+        @Qualifier("tmdbMoviesPartitioner") TmdbExportPartitioner tmdbMoviesPartitioner,
+        @Qualifier("importPartitionExecutor") TaskExecutor importPartitionExecutor,
+        @Value("${media.export.partitions:4}") int partitions
+    ) {
+        return new StepBuilder("updateMoviesStep", jobRepository)
+            .partitioner("updateMoviesWorkerStep", tmdbMoviesPartitioner)
+            .step(updateMoviesWorkerStep)
+            .gridSize(partitions)
+            .taskExecutor(importPartitionExecutor)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public TmdbRemovedTitlesReader tmdbRemovedMoviesReader(
+        TmdbExportSnapshots snapshots,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_DATE + "']}") String date,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_BASELINE + "']}") String baseline
+    ) {
+        return new TmdbRemovedTitlesReader("tmdbRemovedMoviesReader", snapshots, DataJumpTypeTMDB.MOVIE, parseDate(date), parseDate(baseline));
+    }
+
+    @Bean
+    public Step removeMoviesStep(
+        @Qualifier("tmdbRemovedMoviesReader") TmdbRemovedTitlesReader tmdbRemovedMoviesReader,
+        ExternalReferenceRepository externalReferenceRepository,
+        MediaRepository mediaRepository,
+        ProviderResponseCache responseCache,
+        MediaSearchCache mediaSearchCache,
+        MediaSuggestIndex mediaSuggestIndex,
+        MeterRegistry meterRegistry,
+        @Value("${media.export.removed.chunk-size:100}") int chunkSize
+    ) {
+        return new StepBuilder("removeMoviesStep", jobRepository)
+            .<Integer, Integer>chunk(chunkSize, transactionManager)
+            .reader(tmdbRemovedMoviesReader)
+            .writer(new TmdbRemovedTitlesWriter(externalReferenceRepository, mediaRepository, responseCache, mediaSearchCache, mediaSuggestIndex, meterRegistry, Feed.MOVIE))
+            .listener(new BackgroundPriorityChunkListener())
             .build();
     }
 
+    /**
+     * Adds the movies of the TMDB daily export that are new since the last
+     * completed run, then deletes the ones it no longer lists.
+     */
     @Bean
-    public Job updateMoviesJob(@Qualifier("updateMoviesStep") Step updateMoviesStep) {
+    public Job updateMoviesJob(
+        @Qualifier("updateMoviesStep") Step updateMoviesStep,
+        @Qualifier("removeMoviesStep") Step removeMoviesStep,
+        TmdbExportSnapshots snapshots,
+        ProviderSyncStateRepository providerSyncStateRepository
+    ) {
         return new JobBuilder("updateMoviesJob", jobRepository)
+            .listener(new TmdbExportDiffListener(snapshots, providerSyncStateRepository, DataJumpTypeTMDB.MOVIE))
             .start(updateMoviesStep)
+            .next(removeMoviesStep)
             .build();
     }
 
     @Bean
-    public Step updateSeriesStep(
+    public Step updateSeriesWorkerStep(
         SerieJsonReader serieJsonReader,
         SerieProcessor serieProcessor,
-        SerieItemWriter serieItemWriter
+        SerieItemWriter serieItemWriter,
+        @Qualifier("importProcessorExecutor") TaskExecutor importProcessorExecutor
     ) {
-        return new StepBuilder("updateSeriesStep", jobRepository)
-            .<org.json.simple.JSONObject, com.espacogeek.geek.models.MediaModel>chunk(10, transactionManager)
+        return new StepBuilder("updateSeriesWorkerStep", jobRepository)
+            .<JSONObject, Future<MediaModel>>chunk(10, transactionManager)
             .reader(serieJsonReader)
-            .processor(serieProcessor)
-            .writer(serieItemWriter)
-            .listener(new DelayChunkListener(2000))
+            .processor(asyncProcessor(serieProcessor, importProcessorExecutor))
+            .writer(asyncWriter(serieItemWriter))
+            .listener(new BackgroundPriorityChunkListener())
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public TmdbExportPartitioner tmdbSeriesPartitioner(
+        TmdbExportSnapshots snapshots,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_DATE + "']}") String date,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_BASELINE + "']}") String baseline
+    ) {
+        return new TmdbExportPartitioner(snapshots, DataJumpTypeTMDB.SERIES, parseDate(date), parseDate(baseline));
+    }
+
+    /**
+     * Splits the added series into <code>media.export.partitions</code> ID
+     * ranges, each read by its own {@code updateSeriesWorkerStep}.
+     */
+    @Bean
+    public Step updateSeriesStep(
+        @Qualifier("updateSeriesWorkerStep") Step updateSeriesWorkerStep,
+        @Qualifier("tmdbSeriesPartitioner") TmdbExportPartitioner tmdbSeriesPartitioner,
+        @Qualifier("importPartitionExecutor") TaskExecutor importPartitionExecutor,
+        @Value("${media.export.partitions:4}") int partitions
+    ) {
+        return new StepBuilder("updateSeriesStep", jobRepository)
+            .partitioner("updateSeriesWorkerStep", tmdbSeriesPartitioner)
+            .step(updateSeriesWorkerStep)
+            .gridSize(partitions)
+            .taskExecutor(importPartitionExecutor)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public TmdbRemovedTitlesReader tmdbRemovedSeriesReader(
+        TmdbExportSnapshots snapshots,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_DATE + "']}") String date,
+        @Value("#{jobExecutionContext['" + TmdbExportDiffListener.KEY_BASELINE + "']}") String baseline
+    ) {
+        return new TmdbRemovedTitlesReader("tmdbRemovedSeriesReader", snapshots, DataJumpTypeTMDB.SERIES, parseDate(date), parseDate(baseline));
+    }
+
+    @Bean
+    public Step removeSeriesStep(
+        @Qualifier("tmdbRemovedSeriesReader") TmdbRemovedTitlesReader tmdbRemovedSeriesReader,
+        ExternalReferenceRepository externalReferenceRepository,
+        MediaRepository mediaRepository,
+        ProviderResponseCache responseCache,
+        MediaSearchCache mediaSearchCache,
+        MediaSuggestIndex mediaSuggestIndex,
+        MeterRegistry meterRegistry,
+        @Value("${media.export.removed.chunk-size:100}") int chunkSize
+    ) {
+        return new StepBuilder("removeSeriesStep", jobRepository)
+            .<Integer, Integer>chunk(chunkSize, transactionManager)
+            .reader(tmdbRemovedSeriesReader)
+            .writer(new TmdbRemovedTitlesWriter(externalReferenceRepository, mediaRepository, responseCache, mediaSearchCache, mediaSuggestIndex, meterRegistry, Feed.TV))
+            .listener(new BackgroundPriorityChunkListener())
             .build();
     }
 
+    /**
+     * Adds the TV series of the TMDB daily export that are new since the last
+     * completed run, then deletes the ones it no longer lists.
+     */
     @Bean
-    public Job updateSeriesJob(@Qualifier("updateSeriesStep") Step updateSeriesStep) {
+    public Job updateSeriesJob(
+        @Qualifier("updateSeriesStep") Step updateSeriesStep,
+        @Qualifier("removeSeriesStep") Step removeSeriesStep,
+        TmdbExportSnapshots snapshots,
+        ProviderSyncStateRepository providerSyncStateRepository
+    ) {
         return new JobBuilder("updateSeriesJob", jobRepository)
+            .listener(new TmdbExportDiffListener(snapshots, providerSyncStateRepository, DataJumpTypeTMDB.SERIES))
             .start(updateSeriesStep)
+            .next(removeSeriesStep)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public TmdbChangesReader tmdbMovieChangesReader(
+        TmdbChangesApi tmdbChangesApi,
+        @Value("#{jobExecutionContext['" + TmdbChangesWindowListener.KEY_FROM + "']}") String from,
+        @Value("#{jobExecutionContext['" + TmdbChangesWindowListener.KEY_TO + "']}") String to
+    ) {
+        return new TmdbChangesReader(tmdbChangesApi, Feed.MOVIE, LocalDate.parse(from), LocalDate.parse(to));
+    }
+
+    @Bean
+    @StepScope
+    public TmdbChangesReader tmdbSerieChangesReader(
+        TmdbChangesApi tmdbChangesApi,
+        @Value("#{jobExecutionContext['" + TmdbChangesWindowListener.KEY_FROM + "']}") String from,
+        @Value("#{jobExecutionContext['" + TmdbChangesWindowListener.KEY_TO + "']}") String to
+    ) {
+        return new TmdbChangesReader(tmdbChangesApi, Feed.TV, LocalDate.parse(from), LocalDate.parse(to));
+    }
+
+    @Bean
+    public Step syncMovieChangesStep(
+        @Qualifier("tmdbMovieChangesReader") TmdbChangesReader tmdbMovieChangesReader,
+        ExternalReferenceRepository externalReferenceRepository,
+        MediaService mediaService,
+        ProviderResponseCache responseCache,
+        MeterRegistry meterRegistry,
+        @Value("${media.changes.chunk-size:100}") int chunkSize
+    ) {
+        return new StepBuilder("syncMovieChangesStep", jobRepository)
+            .<Integer, Integer>chunk(chunkSize, transactionManager)
+            .reader(tmdbMovieChangesReader)
+            .writer(new TmdbChangesWriter(externalReferenceRepository, mediaService, responseCache, transactionManager, meterRegistry, Feed.MOVIE))
+            .listener(new BackgroundPriorityChunkListener())
+            .build();
+    }
+
+    @Bean
+    public Step syncSerieChangesStep(
+        @Qualifier("tmdbSerieChangesReader") TmdbChangesReader tmdbSerieChangesReader,
+        ExternalReferenceRepository externalReferenceRepository,
+        MediaService mediaService,
+        ProviderResponseCache responseCache,
+        MeterRegistry meterRegistry,
+        @Value("${media.changes.chunk-size:100}") int chunkSize
+    ) {
+        return new StepBuilder("syncSerieChangesStep", jobRepository)
+            .<Integer, Integer>chunk(chunkSize, transactionManager)
+            .reader(tmdbSerieChangesReader)
+            .writer(new TmdbChangesWriter(externalReferenceRepository, mediaService, responseCache, transactionManager, meterRegistry, Feed.TV))
+            .listener(new BackgroundPriorityChunkListener())
             .build();
     }
+
+    /**
+     * Refreshes the medias TMDB reports as changed since the last completed
+     * run. Started through <code>/api/v1/batch/start</code> or on
+     * <code>media.changes.sync.cron</code>.
+     */
+    @Bean
+    public Job syncTmdbChangesJob(
+        @Qualifier("syncMovieChangesStep") Step syncMovieChangesStep,
+        @Qualifier("syncSerieChangesStep") Step syncSerieChangesStep,
+        ProviderSyncStateRepository providerSyncStateRepository,
+        @Value("${media.changes.initial-lookback-days:1}") int initialLookbackDays
+    ) {
+        return new JobBuilder("syncTmdbChangesJob", jobRepository)
+            .listener(new TmdbChangesWindowListener(providerSyncStateRepository, initialLookbackDays))
+            .start(syncMovieChangesStep)
+            .next(syncSerieChangesStep)
+            .build();
+    }
+
+    private static <I, O> AsyncItemProcessor<I, O> asyncProcessor(ItemProcessor<I, O> delegate, TaskExecutor taskExecutor) {
+        AsyncItemProcessor<I, O> processor = new AsyncItemProcessor<>();
+        processor.setDelegate(delegate);
+        processor.setTaskExecutor(taskExecutor);
+        return processor;
+    }
+
+    private static <T> AsyncItemWriter<T> asyncWriter(ItemWriter<T> delegate) {
+        AsyncItemWriter<T> writer = new AsyncItemWriter<>();
+        writer.setDelegate(delegate);
+        return writer;
+    }
+
+    private static LocalDate parseDate(String date) {
+        return date == null ? null : LocalDate.parse(date);
+    }
 }
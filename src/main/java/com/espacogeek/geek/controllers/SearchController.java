@@ -0,0 +1,112 @@
+package com.espacogeek.geek.controllers;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import com.espacogeek.geek.search.MediaSuggestIndex;
+import com.espacogeek.geek.services.MediaSearchService;
+import com.espacogeek.geek.services.MediaService;
+import com.espacogeek.geek.types.MediaConnection;
+import com.espacogeek.geek.types.MediaPage;
+import com.espacogeek.geek.types.MediaSimplefied;
+
+@Controller
+@RequiredArgsConstructor
+public class SearchController {
+    private static final int DEFAULT_SUGGEST_LIMIT = 10;
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    private static final int DEFAULT_CONNECTION_SIZE = 10;
+    private static final int MAX_CONNECTION_SIZE = 100;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    private final MediaSuggestIndex mediaSuggestIndex;
+    private final MediaService mediaService;
+    private final MediaSearchService mediaSearchService;
+
+    /**
+     * Searches several media categories at once, in parallel, and merges the
+     * results into a single page ranked by how well the name matches.
+     *
+     * @param name       The name or alternative title to search for.
+     * @param categories The IDs of the media categories to search in; all of them when omitted.
+     * @param limit      Maximum number of medias, 20 by default and at most 50.
+     * @return A MediaPage with the best matches first, possibly missing
+     *         categories that did not answer in time.
+     */
+    @QueryMapping(name = "search")
+    public MediaPage search(@Argument(name = "name") String name, @Argument(name = "categories") List<Integer> categories, @Argument(name = "limit") Integer limit) {
+        name = name == null ? null : name.trim();
+
+        if (name == null || name.isEmpty()) {
+            return new MediaPage();
+        }
+
+        int safeLimit = limit == null ? DEFAULT_SEARCH_LIMIT : Math.clamp(limit, 1, MAX_SEARCH_LIMIT);
+        return this.mediaSearchService.search(name, categories, safeLimit);
+    }
+
+    /**
+     * Suggests medias whose name or alternative title has a word starting with
+     * the given prefix, served from the in-memory {@link MediaSuggestIndex}
+     * without querying the database.
+     *
+     * @param prefix   The text typed so far.
+     * @param category The ID of the media category to filter by (optional).
+     * @param limit    Maximum number of suggestions, 10 by default and at most 50.
+     * @return A list of MediaSimplefied objects, best matches first.
+     */
+    @QueryMapping(name = "searchSuggest")
+    public List<MediaSimplefied> searchSuggest(@Argument(name = "prefix") String prefix, @Argument(name = "category") Integer category, @Argument(name = "limit") Integer limit) {
+        prefix = prefix == null ? null : prefix.trim();
+
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+
+        int safeLimit = limit == null ? DEFAULT_SUGGEST_LIMIT : Math.clamp(limit, 1, MAX_SUGGEST_LIMIT);
+        return this.mediaSuggestIndex.suggest(prefix, category, safeLimit);
+    }
+
+    /**
+     * Searches local medias by name or alternative title, paginated by cursor
+     * in name order.
+     *
+     * @param name       The name or alternative title to search for.
+     * @param categories The IDs of the media categories to search in.
+     * @param first      Number of medias per page, 10 by default and at most 100.
+     * @param after      The endCursor of the previous page, if any.
+     * @return A MediaConnection with the medias of the page.
+     */
+    @QueryMapping(name = "searchConnection")
+    public MediaConnection searchConnection(@Argument(name = "name") String name, @Argument(name = "categories") List<Integer> categories,
+            @Argument(name = "first") Integer first, @Argument(name = "after") String after) {
+        name = name == null ? null : name.trim();
+
+        if (name == null || name.isEmpty() || categories == null || categories.isEmpty()) {
+            MediaConnection empty = new MediaConnection();
+            empty.setEdges(List.of());
+            return empty;
+        }
+
+        int safeFirst = first == null ? DEFAULT_CONNECTION_SIZE : Math.clamp(first, 1, MAX_CONNECTION_SIZE);
+        return this.mediaService.findConnectionByName(name, categories, safeFirst, after);
+    }
+
+    /**
+     * Counts the total of a MediaConnection only when the client selects
+     * <code>totalElements</code>, so paging alone never runs a COUNT query.
+     */
+    @SchemaMapping(typeName = "MediaConnection", field = "totalElements")
+    public long totalElements(MediaConnection connection) {
+        if (connection.getName() == null || connection.getCategories() == null) {
+            return 0;
+        }
+        return this.mediaService.countConnectionByName(connection.getName(), connection.getCategories());
+    }
+}
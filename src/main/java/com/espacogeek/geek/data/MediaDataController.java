@@ -74,6 +74,16 @@ public interface MediaDataController {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Same as {@link #updateAllInformation(MediaModel, MediaModel, TypeReferenceModel, MediaApi)}
+     * for several medias of one provider, asking it for all their details at once.
+     * <p>
+     * @return the medias in the order of <code>medias</code>.
+     */
+    default List<MediaModel> updateAllInformation(List<MediaModel> medias, TypeReferenceModel typeReference, MediaApi mediaApi) {
+        throw new UnsupportedOperationException();
+    }
+
     default MediaModel updateArtworks(MediaModel media, @Nullable MediaModel result, TypeReferenceModel typeReference, MediaApi mediaApi) {
         throw new UnsupportedOperationException();
     }
@@ -0,0 +1,41 @@
+package com.espacogeek.geek.data.api;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The facets of a media a caller needs from a provider.
+ * {@link MediaApi#fetch(Integer, FetchPlan)} answers every facet of a plan
+ * with one request, so a caller that needs several facets of one media
+ * declares them together instead of calling one getter per facet.
+ *
+ * @param facets the facets to fetch.
+ */
+public record FetchPlan(Set<Facet> facets) {
+
+    public enum Facet {
+        KEYWORDS, ALTERNATIVE_TITLES, GENRES, IMAGES, SEASONS, EXTERNAL_IDS, VIDEOS
+    }
+
+    /**
+     * Every facet. Ingestion, refreshes and the single facet getters all ask
+     * for it, so the provider is called once per media and the later callers
+     * are answered by the cached response.
+     */
+    public static final FetchPlan FULL = of(Facet.values());
+
+    public FetchPlan {
+        facets = facets.isEmpty() ? Collections.unmodifiableSet(EnumSet.noneOf(Facet.class)) : Collections.unmodifiableSet(EnumSet.copyOf(facets));
+    }
+
+    public static FetchPlan of(Facet... facets) {
+        Set<Facet> set = EnumSet.noneOf(Facet.class);
+        Collections.addAll(set, facets);
+        return new FetchPlan(set);
+    }
+
+    public boolean has(Facet facet) {
+        return facets.contains(facet);
+    }
+}
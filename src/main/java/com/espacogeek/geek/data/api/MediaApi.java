@@ -1,6 +1,9 @@
 package com.espacogeek.geek.data.api;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.io.InputStream;
 
 import lombok.Getter;
@@ -50,14 +53,57 @@ public interface MediaApi {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Gets every facet of <code>plan</code> about a media in one request.
+     *
+     * @param id   the ID of the media in the provider.
+     * @param plan the facets the caller needs.
+     * @return the facets, or <code>null</code> if the provider does not know the media.
+     * @throws com.espacogeek.geek.exception.RequestException if the provider cannot be reached or answers with an error.
+     */
+    default MediaBundle fetch(Integer id, FetchPlan plan) {
+        throw new UnsupportedOperationException();
+    }
+
     default MediaModel getDetails(Integer id) {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Same as {@link #getDetails(Integer)} for several medias, in as few
+     * requests as the provider allows. Asks for one media at a time unless the
+     * implementation can do better.
+     *
+     * @param ids the IDs of the medias in the provider.
+     * @return the details, by ID. The medias the provider does not know are left out.
+     */
+    default Map<Integer, MediaModel> getDetails(Collection<Integer> ids) {
+        Map<Integer, MediaModel> medias = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            MediaModel media = getDetails(id);
+            if (media != null) medias.put(id, media);
+        }
+        return medias;
+    }
+
     default MediaModel getArtwork(Integer id) {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Same as {@link #getArtwork(Integer)} for several medias.
+     *
+     * @see #getDetails(Collection)
+     */
+    default Map<Integer, MediaModel> getArtwork(Collection<Integer> ids) {
+        Map<Integer, MediaModel> medias = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            MediaModel media = getArtwork(id);
+            if (media != null) medias.put(id, media);
+        }
+        return medias;
+    }
+
     default MediaModel getUpdateBasicAttributes(Integer id) {
         throw new UnsupportedOperationException();
     }
@@ -0,0 +1,54 @@
+package com.espacogeek.geek.data.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.espacogeek.geek.models.AlternativeTitleModel;
+import com.espacogeek.geek.models.ExternalReferenceModel;
+import com.espacogeek.geek.models.GenreModel;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.models.SeasonModel;
+
+import info.movito.themoviedbapi.model.keywords.Keyword;
+
+/**
+ * What one {@link MediaApi#fetch(Integer, FetchPlan)} call got about a media.
+ * The facets left out of the plan are empty.
+ *
+ * @param media    the media with its basic attributes and the collections of
+ *                 the plan, like {@link MediaApi#getDetails(Integer)} returns it.
+ * @param keywords the keywords, empty unless the plan has
+ *                 {@link FetchPlan.Facet#KEYWORDS}.
+ * @param plan     the plan fetched.
+ */
+public record MediaBundle(MediaModel media, List<Keyword> keywords, FetchPlan plan) {
+
+    public MediaBundle {
+        keywords = keywords == null ? List.of() : List.copyOf(keywords);
+    }
+
+    public boolean hasKeyword(String name) {
+        return keywords.stream().anyMatch(keyword -> keyword.getName().equalsIgnoreCase(name));
+    }
+
+    public List<AlternativeTitleModel> alternativeTitles() {
+        return listOf(media.getAlternativeTitles());
+    }
+
+    public List<ExternalReferenceModel> externalReferences() {
+        return listOf(media.getExternalReference());
+    }
+
+    public List<GenreModel> genres() {
+        return listOf(media.getGenre());
+    }
+
+    public List<SeasonModel> seasons() {
+        return listOf(media.getSeason());
+    }
+
+    private static <T> List<T> listOf(Collection<T> values) {
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+}
@@ -0,0 +1,49 @@
+package com.espacogeek.geek.data.api;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Reads the TMDB change feeds, which list the IDs of the titles changed in a
+ * window of at most {@link #MAX_WINDOW_DAYS} days.
+ */
+public interface TmdbChangesApi {
+    int MAX_WINDOW_DAYS = 14;
+
+    @Getter
+    enum Feed {
+        MOVIE("movie"), TV("tv");
+
+        private final String path;
+
+        Feed(String path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * One page of a change feed.
+     *
+     * @param ids        the TMDB IDs changed, in the order of the feed.
+     * @param page       the page number, from 1.
+     * @param totalPages the number of pages of the window.
+     */
+    record ChangesPage(List<Integer> ids, int page, int totalPages) {
+    }
+
+    /**
+     * Gets one page of the IDs changed from <code>start</code> to
+     * <code>end</code>, both included.
+     *
+     * @param feed  the catalog to read.
+     * @param start the first day of the window.
+     * @param end   the last day of the window, at most
+     *              {@link #MAX_WINDOW_DAYS} days after <code>start</code>.
+     * @param page  the page number, from 1.
+     * @return the page.
+     * @throws com.espacogeek.geek.exception.RequestException if TMDB cannot be reached or answers with an error.
+     */
+    ChangesPage getChanges(Feed feed, LocalDate start, LocalDate end, int page);
+}
@@ -1,7 +1,14 @@
 package com.espacogeek.geek.data.api.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,114 +17,190 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
 import com.api.igdb.apicalypse.APICalypse;
-import com.api.igdb.exceptions.RequestException;
-import com.api.igdb.request.IGDBWrapper;
-import com.api.igdb.request.ProtoRequestKt;
-import com.api.igdb.request.TwitchAuthenticator;
 import com.api.igdb.utils.ImageBuilderKt;
 import com.api.igdb.utils.ImageSize;
 import com.api.igdb.utils.ImageType;
+import com.espacogeek.geek.cache.ProviderResponseCache;
 import com.espacogeek.geek.data.MediaDataController;
 import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.http.GuardedProvider;
+import com.espacogeek.geek.http.IgdbTokenManager;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
 import com.espacogeek.geek.models.AlternativeTitleModel;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.MediaCategoryModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
-import com.espacogeek.geek.services.ApiKeyService;
 import com.espacogeek.geek.services.GenreService;
 import com.espacogeek.geek.services.TypeReferenceService;
 
 import jakarta.annotation.PostConstruct;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import proto.Game;
-
-import static com.espacogeek.geek.data.api.MediaApi.ApiKey.*;
+import proto.GameResult;
 
 @Component("gamesAndVNsAPI")
+@GuardedProvider(OutboundProvider.IGDB)
 @RequiredArgsConstructor
 @Slf4j
 public class GamesAndVNsApiImpl implements MediaApi {
-    private final ApiKeyService apiKeyService;
-    private IGDBWrapper wrapper;
+    private final OutboundHttpClients httpClients;
+    private final ProviderResponseCache responseCache;
+    private final IgdbTokenManager tokenManager;
     private TypeReferenceModel typeReference;
     private final TypeReferenceService typeReferenceService;
     private final static String VN_ID_IGDB = "34"; // VN Genre ID in IGDB
+    private final static String URL_GAMES = "https://api.igdb.com/v4/games.pb";
+    private final static MediaType TEXT = MediaType.get("text/plain");
+    private final static String DETAILS_FIELDS = "*, artworks.image_id, cover.image_id, genres.name";
+    private final static int MAX_IDS_PER_QUERY = 500; // IGDB answers at most 500 results per query
     private final GenreService genreService;
 
-    private void newToken() {
-        var tAuth = TwitchAuthenticator.INSTANCE;
-        var clientId = apiKeyService.findById(IGDB_CLIENT_ID.getId()).orElseThrow().getKey();
-        var clientSecrete = apiKeyService.findById(IGDB_CLIENT_SECRET.getId()).orElseThrow().getKey();
-        var token = tAuth.requestTwitchToken(clientId, clientSecrete);
-        var tokenId = apiKeyService.findById(IGDB_TOKEN.getId()).orElseThrow();
-
-        assert token != null;
-        if (!token.getAccess_token().equals(tokenId.getKey())) {
-            tokenId.setKey(token.getAccess_token());
-            apiKeyService.save(tokenId);
+    @PostConstruct
+    private void init() {
+        typeReference = typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId()).orElseThrow();
+    }
+
+    /**
+     * Runs a query on the games endpoint through the shared HTTP client and
+     * reads the protobuf answer.
+     *
+     * @throws IOException if IGDB cannot be reached or does not answer with a success.
+     */
+    private List<Game> games(APICalypse apicalypse) throws IOException {
+        return GameResult.parseFrom(query(apicalypse)).getGamesList();
+    }
+
+    /**
+     * Gets the games of <code>ids</code> with <code>where id = (a,b,c)</code>
+     * queries of at most {@link #MAX_IDS_PER_QUERY} ids. Each game is kept in
+     * the {@link ProviderResponseCache} on its own, so single and batch
+     * lookups share the entries and only the games not asked recently are
+     * queried.
+     *
+     * @return the games found, by id. IGDB leaves the unknown ids out.
+     */
+    private Map<Integer, Game> gamesById(Collection<Integer> ids) throws IOException {
+        Map<Integer, Game> games = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : new LinkedHashSet<>(ids)) {
+            var cached = responseCache.get(cacheKey(id));
+            if (cached.isPresent()) {
+                GameResult.parseFrom(cached.get()).getGamesList().forEach(game -> games.put(id, game));
+            } else {
+                missing.add(id);
+            }
         }
 
-        wrapper.setCredentials(clientId, tokenId.getKey());
+        for (int from = 0; from < missing.size(); from += MAX_IDS_PER_QUERY) {
+            List<Integer> batch = missing.subList(from, Math.min(from + MAX_IDS_PER_QUERY, missing.size()));
+            var apicalypse = new APICalypse()
+                    .fields(DETAILS_FIELDS)
+                    .where("id = (" + batch.stream().map(String::valueOf).collect(Collectors.joining(",")) + ")")
+                    .limit(batch.size());
+
+            for (Game game : games(apicalypse)) {
+                if ((long) game.getId() == (long) 0L) continue;
+                int id = (int) game.getId();
+                responseCache.put(cacheKey(id), GameResult.newBuilder().addGames(game).build().toByteArray());
+                games.put(id, game);
+            }
+        }
+        return games;
     }
 
-    @PostConstruct
-    private void init() {
-        var tokenId = apiKeyService.findById(IGDB_TOKEN.getId()).orElseThrow();
-        var clientId = apiKeyService.findById(IGDB_CLIENT_ID.getId()).orElseThrow().getKey();
+    private static ProviderResponseCache.Key cacheKey(Integer id) {
+        return new ProviderResponseCache.Key("igdb", "game", String.valueOf(id), "details", DETAILS_FIELDS);
+    }
 
-        wrapper = IGDBWrapper.INSTANCE;
-        wrapper.setCredentials(clientId, tokenId.getKey());
+    /**
+     * Sends the query with the credentials of the {@link IgdbTokenManager}. A
+     * rejected token is renewed before failing, so the retry is signed with
+     * the new one.
+     */
+    private byte[] query(APICalypse apicalypse) throws IOException {
+        var credentials = tokenManager.credentials();
+        Request request = new Request.Builder()
+                .url(URL_GAMES)
+                .post(RequestBody.create(apicalypse.buildQuery(), TEXT))
+                .addHeader("Client-ID", credentials.clientId())
+                .addHeader("Authorization", "Bearer " + credentials.accessToken())
+                .build();
+
+        try (Response response = httpClients.client(OutboundProvider.IGDB).newCall(request).execute()) {
+            if (response.code() == 401) {
+                renewToken(credentials.accessToken());
+            }
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                throw new IOException("IGDB returned " + response.code());
+            }
+            return body.bytes();
+        }
+    }
 
-        typeReference = typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId()).orElseThrow();
+    private void renewToken(String rejectedToken) throws IOException {
+        try {
+            tokenManager.renew(rejectedToken);
+        } catch (RuntimeException e) {
+            throw new IOException("Could not renew the rejected IGDB token", e);
+        }
     }
 
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public MediaModel getDetails(Integer id) {
-        var apicalypse = new APICalypse().fields("*, artworks.image_id, cover.image_id, genres.name").where("id = " + id);
-        MediaModel media = null;
+        return getDetails(List.of(id)).get(id);
+    }
+
+    /**
+     * @see MediaApi#getDetails(Collection)
+     */
+    @Override
+    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
+    public Map<Integer, MediaModel> getDetails(Collection<Integer> ids) {
+        Map<Integer, MediaModel> medias = new LinkedHashMap<>();
 
         try {
-            var searchGames = ProtoRequestKt.games(wrapper, apicalypse);
+            var games = gamesById(ids);
 
-            for (Game result : searchGames) {
-                if ((long) result.getId() != (long) 0L) {
-                    media = new MediaModel();
-                    var reference = new ExternalReferenceModel(null, String.valueOf(result.getId()), media, typeReference);
+            for (Integer id : ids) {
+                Game result = games.get(id);
+                if (result == null) continue;
 
-                    List<String> genresName = new ArrayList<>();
-                    result.getGenresList().forEach((genre) -> {
-                        genresName.add(genre.getName());
-                    });
+                var media = new MediaModel();
+                var reference = new ExternalReferenceModel(null, String.valueOf(result.getId()), media, typeReference);
 
-                    media.setGenre(new java.util.LinkedHashSet<>(genreService.findAllByNames(genresName)));
-                    media.setAbout(result.getSummary());
-                    media.setName(result.getName());
+                List<String> genresName = new ArrayList<>();
+                result.getGenresList().forEach((genre) -> {
+                    genresName.add(genre.getName());
+                });
 
-                    media.setCover(
-                        !result.getCover().getImageId().isEmpty()
-                                    ? ImageBuilderKt.imageBuilder(result.getCover().getImageId(),
-                                            ImageSize.COVER_BIG, ImageType.PNG)
-                                    : null);
-                    media.setBanner(result.getArtworksList().isEmpty() ? null
-                            : ImageBuilderKt.imageBuilder(result.getArtworksList().getFirst().getImageId(),
-                                    ImageSize.SCREENSHOT_HUGE, ImageType.PNG));
+                media.setGenre(new java.util.LinkedHashSet<>(genreService.findAllByNames(genresName)));
+                media.setAbout(result.getSummary());
+                media.setName(result.getName());
+                setArtwork(media, result);
 
-                    var alternativeTitles = new ArrayList<AlternativeTitleModel>();
-                    for (proto.AlternativeName title : result.getAlternativeNamesList()) {
-                        if (!title.getName().isEmpty()) alternativeTitles.add(new AlternativeTitleModel(null, title.getName(), media));
-                    }
-                    media.setAlternativeTitles(new java.util.LinkedHashSet<>(alternativeTitles));
-                    media.setExternalReference(new java.util.LinkedHashSet<>(List.of(reference)));
+                var alternativeTitles = new ArrayList<AlternativeTitleModel>();
+                for (proto.AlternativeName title : result.getAlternativeNamesList()) {
+                    if (!title.getName().isEmpty()) alternativeTitles.add(new AlternativeTitleModel(null, title.getName(), media));
                 }
+                media.setAlternativeTitles(new java.util.LinkedHashSet<>(alternativeTitles));
+                media.setExternalReference(new java.util.LinkedHashSet<>(List.of(reference)));
+
+                medias.put(id, media);
             }
 
-        } catch (RequestException e) {
-            newToken();
-            log.error("Error while fetching details for media with id {}: {}", id, e.getMessage());
+        } catch (IOException e) {
+            log.error("Error while fetching details for medias with ids {}: {}", ids, e.getMessage());
             throw new com.espacogeek.geek.exception.RequestException();
         }
-        return media;
+        return medias;
     }
 
     @Override
@@ -132,7 +215,7 @@ public class GamesAndVNsApiImpl implements MediaApi {
         List<MediaModel> medias = new ArrayList<>();
 
         try {
-            var searchGames = ProtoRequestKt.games(wrapper, apicalypse);
+            var searchGames = games(apicalypse);
 
             for (Game result : searchGames) {
                 if ((long) result.getId() != (long) 0L) {
@@ -166,8 +249,7 @@ public class GamesAndVNsApiImpl implements MediaApi {
                 }
             }
 
-        } catch (RequestException e) {
-            newToken();
+        } catch (IOException e) {
             log.error("Error while searching for media with query {}: {}", search, e.getMessage());
             throw new com.espacogeek.geek.exception.RequestException();
         }
@@ -178,33 +260,49 @@ public class GamesAndVNsApiImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public MediaModel getArtwork(Integer id) {
-        var apicalypse = new APICalypse().fields("*, artworks.image_id, cover.image_id").where("id = " + id);
-        MediaModel media = null;
+        return getArtwork(List.of(id)).get(id);
+    }
+
+    /**
+     * Reads the same games as {@link #getDetails(Collection)}, whose fields
+     * hold the artwork too, so refreshing the details and the artwork of a
+     * game costs one request.
+     *
+     * @see MediaApi#getArtwork(Collection)
+     */
+    @Override
+    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
+    public Map<Integer, MediaModel> getArtwork(Collection<Integer> ids) {
+        Map<Integer, MediaModel> medias = new LinkedHashMap<>();
 
         try {
-            var searchGames = ProtoRequestKt.games(wrapper, apicalypse);
+            var games = gamesById(ids);
 
-            for (Game result : searchGames) {
-                if ((long) result.getId() != (long) 0L) {
-                    media = new MediaModel();
+            for (Integer id : ids) {
+                Game result = games.get(id);
+                if (result == null) continue;
 
-                    media.setCover(
-                        !result.getCover().getImageId().isEmpty()
-                                    ? ImageBuilderKt.imageBuilder(result.getCover().getImageId(),
-                                            ImageSize.COVER_BIG, ImageType.PNG)
-                                    : null);
-                    media.setBanner(result.getArtworksList().isEmpty() ? null
-                            : ImageBuilderKt.imageBuilder(result.getArtworksList().getFirst().getImageId(),
-                                    ImageSize.SCREENSHOT_HUGE, ImageType.PNG));
-                }
+                var media = new MediaModel();
+                setArtwork(media, result);
+                medias.put(id, media);
             }
 
-        } catch (RequestException e) {
-            newToken();
-            log.error("Error while fetching artwork for media with id {}: {}", id, e.getMessage());
+        } catch (IOException e) {
+            log.error("Error while fetching artwork for medias with ids {}: {}", ids, e.getMessage());
             throw new com.espacogeek.geek.exception.RequestException();
         }
 
-        return media;
+        return medias;
+    }
+
+    private static void setArtwork(MediaModel media, Game result) {
+        media.setCover(
+            !result.getCover().getImageId().isEmpty()
+                        ? ImageBuilderKt.imageBuilder(result.getCover().getImageId(),
+                                ImageSize.COVER_BIG, ImageType.PNG)
+                        : null);
+        media.setBanner(result.getArtworksList().isEmpty() ? null
+                : ImageBuilderKt.imageBuilder(result.getArtworksList().getFirst().getImageId(),
+                        ImageSize.SCREENSHOT_HUGE, ImageType.PNG));
     }
 }
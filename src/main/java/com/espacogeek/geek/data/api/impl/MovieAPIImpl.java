@@ -11,8 +11,16 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
+import com.espacogeek.geek.cache.ProviderResponseCache;
 import com.espacogeek.geek.data.MediaDataController;
+import com.espacogeek.geek.data.api.FetchPlan;
+import com.espacogeek.geek.data.api.FetchPlan.Facet;
 import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.data.api.MediaBundle;
+import com.espacogeek.geek.http.GuardedProvider;
+import com.espacogeek.geek.http.OkHttpTmdbUrlReader;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
 import com.espacogeek.geek.models.AlternativeTitleModel;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.GenreModel;
@@ -43,6 +51,7 @@ import static com.espacogeek.geek.data.api.MediaApi.ApiKey.TMDB_API_KEY_ID;
 
 @SuppressWarnings("OptionalGetWithoutIsPresent")
 @Component("movieAPI")
+@GuardedProvider(OutboundProvider.TMDB)
 @Slf4j
 @RequiredArgsConstructor
 public class MovieAPIImpl implements MediaApi {
@@ -50,31 +59,33 @@ public class MovieAPIImpl implements MediaApi {
     private TmdbSearch searchApi;
 
     private final ApiKeyService apiKeyService;
+    private final OutboundHttpClients httpClients;
+    private final ProviderResponseCache responseCache;
     private final TypeReferenceService typeReferenceService;
     private final MediaCategoryService mediaCategoryService;
     private final GenreService genreService;
 
     @PostConstruct
     private void init() {
-        TmdbApi tmdbApi = new TmdbApi(this.apiKeyService.findById(TMDB_API_KEY_ID.getId()).get().getKey());
+        TmdbApi tmdbApi = new TmdbApi(new OkHttpTmdbUrlReader(httpClients.client(OutboundProvider.TMDB), this.apiKeyService.findById(TMDB_API_KEY_ID.getId()).get().getKey(), responseCache));
         this.api = tmdbApi.getMovies();
         this.searchApi = tmdbApi.getSearch();
     }
 
     /**
      * @see MediaApi#updateTitles()
-     * @see DataJumpUtils#getDataJumpTMDBArray(DataJumpTypeTMDB)
+     * @see DataJumpUtils#getDataJumpTMDBArray(okhttp3.OkHttpClient, DataJumpTypeTMDB)
      */
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public JSONArray updateTitles() {
-        return DataJumpUtils.getDataJumpTMDBArray(DataJumpTypeTMDB.MOVIE);
+        return DataJumpUtils.getDataJumpTMDBArray(httpClients.client(OutboundProvider.TMDB_EXPORT), DataJumpTypeTMDB.MOVIE);
     }
 
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public InputStream updateTitlesStream() {
-        return DataJumpUtils.getDataJumpTMDBStream(DataJumpTypeTMDB.MOVIE);
+        return DataJumpUtils.getDataJumpTMDBStream(httpClients.client(OutboundProvider.TMDB_EXPORT), DataJumpTypeTMDB.MOVIE);
     }
 
     /**
@@ -110,15 +121,19 @@ public class MovieAPIImpl implements MediaApi {
         return medias;
     }
 
-        /**
-     * @see MediaApi#updateTitles(
+    /**
+     * Asks for the facets of <code>plan</code> as <code>append_to_response</code>
+     * of the details request, in the order of {@link Facet}, so equal plans
+     * send equal requests and share the cached response.
+     *
+     * @see MediaApi#fetch(Integer, FetchPlan)
      */
-    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     @Override
-    public MediaModel getDetails(Integer id) {
+    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
+    public MediaBundle fetch(Integer id, FetchPlan plan) {
         MovieDb movieDb;
         try {
-            movieDb = api.getDetails(id, "en-US", MovieAppendToResponse.EXTERNAL_IDS, MovieAppendToResponse.ALTERNATIVE_TITLES, MovieAppendToResponse.IMAGES, MovieAppendToResponse.VIDEOS);
+            movieDb = api.getDetails(id, "en-US", appendToResponse(plan));
         } catch (TmdbResponseException e) {
             var code = e.getResponseCode();
             // tmdbCode 34 is RESOURCE_NOT_FOUND; also guard against HTTP 404 responses without a code
@@ -132,12 +147,12 @@ public class MovieAPIImpl implements MediaApi {
             throw new com.espacogeek.geek.exception.RequestException();
         }
 
-        var trailer = getTrailer(movieDb);
+        var trailer = plan.has(Facet.VIDEOS) ? getTrailer(movieDb) : null;
         var externalReferences = formatExternalReference(movieDb.getExternalIds(), movieDb.getId());
 
         if (trailer != null) externalReferences.add(trailer);
 
-        MediaModel serie = new MediaModel(
+        MediaModel movie = new MediaModel(
                 null,
                 movieDb.getTitle(),
                 null,
@@ -150,12 +165,42 @@ public class MovieAPIImpl implements MediaApi {
                 new java.util.LinkedHashSet<>(externalReferences),
                 null,
                 null,
-                new java.util.LinkedHashSet<>(formatGenre(movieDb.getGenres())),
+                plan.has(Facet.GENRES) && movieDb.getGenres() != null ? new java.util.LinkedHashSet<>(formatGenre(movieDb.getGenres())) : null,
+                null,
+                plan.has(Facet.ALTERNATIVE_TITLES) && movieDb.getAlternativeTitles() != null ? new java.util.LinkedHashSet<>(formatAlternativeTitles(movieDb.getAlternativeTitles().getTitles())) : null,
                 null,
-                new java.util.LinkedHashSet<>(formatAlternativeTitles(movieDb.getAlternativeTitles().getTitles())),
                 null);
 
-        return serie;
+        List<Keyword> keywords = plan.has(Facet.KEYWORDS) && movieDb.getKeywords() != null ? movieDb.getKeywords().getKeywords() : List.of();
+
+        return new MediaBundle(movie, keywords, plan);
+    }
+
+    private static MovieAppendToResponse[] appendToResponse(FetchPlan plan) {
+        List<MovieAppendToResponse> appendToResponse = new ArrayList<>();
+        for (Facet facet : plan.facets()) {
+            switch (facet) {
+                case KEYWORDS -> appendToResponse.add(MovieAppendToResponse.KEYWORDS);
+                case ALTERNATIVE_TITLES -> appendToResponse.add(MovieAppendToResponse.ALTERNATIVE_TITLES);
+                case IMAGES -> appendToResponse.add(MovieAppendToResponse.IMAGES);
+                case EXTERNAL_IDS -> appendToResponse.add(MovieAppendToResponse.EXTERNAL_IDS);
+                case VIDEOS -> appendToResponse.add(MovieAppendToResponse.VIDEOS);
+                default -> {
+                    // genres come with the details themselves and movies have no seasons
+                }
+            }
+        }
+        return appendToResponse.toArray(MovieAppendToResponse[]::new);
+    }
+
+    /**
+     * @see MediaApi#getDetails(Integer)
+     */
+    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
+    @Override
+    public MediaModel getDetails(Integer id) {
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? null : bundle.media();
     }
 
     public ExternalReferenceModel getTrailer(MovieDb movieDb) {
@@ -192,12 +237,8 @@ public class MovieAPIImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<Keyword> getKeyword(Integer id) {
-        try {
-            return api.getKeywords(id).getKeywords();
-        } catch (TmdbException e) {
-            log.error("Error fetching movie keywords", e);
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.keywords();
     }
 
     /**
@@ -206,14 +247,8 @@ public class MovieAPIImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<AlternativeTitleModel> getAlternativeTitles(Integer id) {
-        List<AlternativeTitle> rawAlternativeTitles;
-        try {
-            rawAlternativeTitles = api.getAlternativeTitles(id, "us").getTitles();
-        } catch (TmdbException e) {
-            log.error("Error fetching movie alternative titles", e);
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
-        return formatAlternativeTitles(rawAlternativeTitles);
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.alternativeTitles();
     }
 
     private List<AlternativeTitleModel> formatAlternativeTitles(List<AlternativeTitle> rawAlternativeTitles) {
@@ -232,14 +267,8 @@ public class MovieAPIImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<ExternalReferenceModel> getExternalReference(Integer id) {
-        ExternalIds rawExternalReferences;
-        try {
-            rawExternalReferences = api.getExternalIds(id);
-        } catch (TmdbException e) {
-            log.error("Error fetching movie external references", e);
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
-        return formatExternalReference(rawExternalReferences, id);
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.externalReferences();
     }
 
     private List<ExternalReferenceModel> formatExternalReference(ExternalIds rawExternalReferences, Integer id) {
@@ -260,18 +289,8 @@ public class MovieAPIImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<GenreModel> getGenre(Integer id) {
-        MovieDb movieDb;
-        try {
-            movieDb = api.getDetails(id, "en-US");
-        } catch (TmdbException e) {
-            log.error("Error fetching movie genres", e);
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
-
-        if (movieDb == null || movieDb.getGenres() == null) {
-            return new ArrayList<GenreModel>();
-        }
-        return formatGenre(movieDb.getGenres());
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.genres();
     }
 
     private List<GenreModel> formatGenre(List<Genre> rawGenres) {
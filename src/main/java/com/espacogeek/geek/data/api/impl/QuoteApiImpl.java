@@ -15,6 +15,9 @@ import org.springframework.stereotype.Component;
 import com.espacogeek.geek.data.api.MediaApi;
 import com.espacogeek.geek.data.api.QuoteApi;
 import com.espacogeek.geek.exception.GenericException;
+import com.espacogeek.geek.http.GuardedProvider;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
 import com.espacogeek.geek.models.ApiKeyModel;
 import com.espacogeek.geek.models.QuoteModel;
 import com.espacogeek.geek.services.ApiKeyService;
@@ -25,11 +28,13 @@ import okhttp3.Request;
 import okhttp3.Response;
 
 @Component("quoteApiImpl")
+@GuardedProvider(OutboundProvider.QUOTE)
 @Qualifier("quoteApiImpl")
 @RequiredArgsConstructor
 @Slf4j
 public class QuoteApiImpl implements QuoteApi {
     private final ApiKeyService apiKeyService;
+    private final OutboundHttpClients httpClients;
     private ApiKeyModel apiKey;
     private final static String URL_QUOTE = "https://api.api-ninjas.com/v1/quotes";
 
@@ -45,7 +50,7 @@ public class QuoteApiImpl implements QuoteApi {
 
     @Override
     public QuoteModel getRandomQuote() {
-        var client = new OkHttpClient().newBuilder().build();
+        OkHttpClient client = httpClients.client(OutboundProvider.QUOTE);
         Request request;
         try {
             request = new Request.Builder()
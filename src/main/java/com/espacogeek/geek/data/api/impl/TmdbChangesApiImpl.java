@@ -0,0 +1,112 @@
+package com.espacogeek.geek.data.api.impl;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.data.api.TmdbChangesApi;
+import com.espacogeek.geek.exception.RequestException;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
+import com.espacogeek.geek.models.ApiKeyModel;
+import com.espacogeek.geek.services.ApiKeyService;
+
+import jakarta.annotation.PostConstruct;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * A Implementation class of TmdbChangesApi @see TmdbChangesApi
+ * <p>
+ * Calls <code>/movie/changes</code> and <code>/tv/changes</code> under
+ * <code>tmdb.api.base-url</code>, which tests point to a local server.
+ */
+@Component
+@Slf4j
+public class TmdbChangesApiImpl implements TmdbChangesApi {
+    private final ApiKeyService apiKeyService;
+    private final HttpUrl baseUrl;
+    private final OkHttpClient client;
+    private String apiKey;
+
+    @Autowired
+    public TmdbChangesApiImpl(ApiKeyService apiKeyService, OutboundHttpClients httpClients, @Value("${tmdb.api.base-url:https://api.themoviedb.org/3}") String baseUrl) {
+        this(apiKeyService, httpClients.client(OutboundProvider.TMDB), baseUrl);
+    }
+
+    public TmdbChangesApiImpl(ApiKeyService apiKeyService, OkHttpClient client, String baseUrl) {
+        this.apiKeyService = apiKeyService;
+        this.client = client;
+        this.baseUrl = HttpUrl.get(baseUrl);
+    }
+
+    @PostConstruct
+    public void init() {
+        apiKey = apiKeyService.findById(MediaApi.ApiKey.TMDB_API_KEY_ID.getId())
+                .map(ApiKeyModel::getKey)
+                .orElse(null);
+        if (apiKey == null) {
+            log.error("API key for TMDB is missing.");
+        }
+    }
+
+    /**
+     * @see TmdbChangesApi#getChanges(Feed, LocalDate, LocalDate, int)
+     */
+    @Override
+    public ChangesPage getChanges(Feed feed, LocalDate start, LocalDate end, int page) {
+        HttpUrl url = baseUrl.newBuilder()
+                .addPathSegment(feed.getPath())
+                .addPathSegment("changes")
+                .addQueryParameter("start_date", start.toString())
+                .addQueryParameter("end_date", end.toString())
+                .addQueryParameter("page", String.valueOf(page))
+                .build();
+        Request request = new Request.Builder()
+                .url(url)
+                .get()
+                .addHeader("Accept", "application/json")
+                .addHeader("Authorization", "Bearer " + apiKey)
+                .build();
+
+        JSONObject json;
+        try (Response response = client.newCall(request).execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                log.error("TMDB {} changes returned {} for {} to {}, page {}", feed.getPath(), response.code(), start, end, page);
+                throw new RequestException();
+            }
+            json = (JSONObject) new JSONParser().parse(body.string());
+        } catch (IOException | ParseException | ClassCastException e) {
+            log.error("Error reading TMDB {} changes: {}", feed.getPath(), e.getMessage());
+            throw new RequestException();
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        JSONArray results = (JSONArray) json.get("results");
+        if (results != null) {
+            for (Object result : results) {
+                Object id = ((JSONObject) result).get("id");
+                if (id instanceof Number number) {
+                    ids.add(number.intValue());
+                }
+            }
+        }
+        int totalPages = json.get("total_pages") instanceof Number number ? number.intValue() : page;
+        return new ChangesPage(ids, page, totalPages);
+    }
+}
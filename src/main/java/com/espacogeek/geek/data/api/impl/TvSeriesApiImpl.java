@@ -14,8 +14,16 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
+import com.espacogeek.geek.cache.ProviderResponseCache;
 import com.espacogeek.geek.data.MediaDataController;
+import com.espacogeek.geek.data.api.FetchPlan;
+import com.espacogeek.geek.data.api.FetchPlan.Facet;
 import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.data.api.MediaBundle;
+import com.espacogeek.geek.http.GuardedProvider;
+import com.espacogeek.geek.http.OkHttpTmdbUrlReader;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
 import com.espacogeek.geek.models.AlternativeTitleModel;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.GenreModel;
@@ -48,6 +56,7 @@ import static com.espacogeek.geek.data.api.MediaApi.ApiKey.TMDB_API_KEY_ID;
 
 @SuppressWarnings({"OptionalGetWithoutIsPresent", "DataFlowIssue"})
 @Component("tvSeriesApi")
+@GuardedProvider(OutboundProvider.TMDB)
 @RequiredArgsConstructor
 @Slf4j
 public class TvSeriesApiImpl implements MediaApi {
@@ -55,31 +64,33 @@ public class TvSeriesApiImpl implements MediaApi {
     private TmdbSearch searchApi;
 
     private final ApiKeyService apiKeyService;
+    private final OutboundHttpClients httpClients;
+    private final ProviderResponseCache responseCache;
     private final MediaCategoryService mediaCategoryService;
     private final TypeReferenceService typeReferenceService;
     private final GenreService genreService;
 
     @PostConstruct
     private void init() {
-        TmdbApi tmdbApi = new TmdbApi(this.apiKeyService.findById(TMDB_API_KEY_ID.getId()).get().getKey());
+        TmdbApi tmdbApi = new TmdbApi(new OkHttpTmdbUrlReader(httpClients.client(OutboundProvider.TMDB), this.apiKeyService.findById(TMDB_API_KEY_ID.getId()).get().getKey(), responseCache));
         this.api = tmdbApi.getTvSeries();
         this.searchApi = tmdbApi.getSearch();
     }
 
     /**
      * @see MediaApi#updateTitles()
-     * @see DataJumpUtils#getDataJumpTMDBArray(DataJumpTypeTMDB)
+     * @see DataJumpUtils#getDataJumpTMDBArray(okhttp3.OkHttpClient, DataJumpTypeTMDB)
      */
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public JSONArray updateTitles() {
-        return DataJumpUtils.getDataJumpTMDBArray(DataJumpTypeTMDB.SERIES);
+        return DataJumpUtils.getDataJumpTMDBArray(httpClients.client(OutboundProvider.TMDB_EXPORT), DataJumpTypeTMDB.SERIES);
     }
 
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public InputStream updateTitlesStream() {
-        return DataJumpUtils.getDataJumpTMDBStream(DataJumpTypeTMDB.SERIES);
+        return DataJumpUtils.getDataJumpTMDBStream(httpClients.client(OutboundProvider.TMDB_EXPORT), DataJumpTypeTMDB.SERIES);
     }
 
     /**
@@ -116,14 +127,18 @@ public class TvSeriesApiImpl implements MediaApi {
     }
 
     /**
-     * @see MediaApi#updateTitles()
+     * Asks for the facets of <code>plan</code> as <code>append_to_response</code>
+     * of the details request, in the order of {@link Facet}, so equal plans
+     * send equal requests and share the cached response.
+     *
+     * @see MediaApi#fetch(Integer, FetchPlan)
      */
-    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     @Override
-    public MediaModel getDetails(Integer id) {
+    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
+    public MediaBundle fetch(Integer id, FetchPlan plan) {
         TvSeriesDb rawSerieDetails;
         try {
-            rawSerieDetails = api.getDetails(id, "en-US", TvSeriesAppendToResponse.EXTERNAL_IDS, TvSeriesAppendToResponse.ALTERNATIVE_TITLES, TvSeriesAppendToResponse.IMAGES, TvSeriesAppendToResponse.VIDEOS);
+            rawSerieDetails = api.getDetails(id, "en-US", appendToResponse(plan));
         } catch (TmdbResponseException e) {
             var code = e.getResponseCode();
             // tmdbCode 34 is RESOURCE_NOT_FOUND; also guard against HTTP 404 responses without a code
@@ -137,8 +152,8 @@ public class TvSeriesApiImpl implements MediaApi {
             throw new com.espacogeek.geek.exception.RequestException();
         }
 
-        var season = formatSeason(rawSerieDetails.getSeasons());
-        var trailer = getTrailer(rawSerieDetails);
+        var season = rawSerieDetails.getSeasons() == null ? new ArrayList<SeasonModel>() : formatSeason(rawSerieDetails.getSeasons());
+        var trailer = plan.has(Facet.VIDEOS) ? getTrailer(rawSerieDetails) : null;
         var externalReferences = formatExternalReference(rawSerieDetails.getExternalIds(), rawSerieDetails.getId());
 
         if (trailer != null) externalReferences.add(trailer);
@@ -156,12 +171,42 @@ public class TvSeriesApiImpl implements MediaApi {
                 new java.util.LinkedHashSet<>(externalReferences),
                 null,
                 null,
-                new java.util.LinkedHashSet<>(formatGenre(rawSerieDetails.getGenres())),
+                plan.has(Facet.GENRES) && rawSerieDetails.getGenres() != null ? new java.util.LinkedHashSet<>(formatGenre(rawSerieDetails.getGenres())) : null,
                 null,
-                new java.util.LinkedHashSet<>(formatAlternativeTitles(rawSerieDetails.getAlternativeTitles().getResults())),
-                new java.util.LinkedHashSet<>(season));
+                plan.has(Facet.ALTERNATIVE_TITLES) && rawSerieDetails.getAlternativeTitles() != null ? new java.util.LinkedHashSet<>(formatAlternativeTitles(rawSerieDetails.getAlternativeTitles().getResults())) : null,
+                plan.has(Facet.SEASONS) ? new java.util.LinkedHashSet<>(season) : null,
+                null);
+
+        List<Keyword> keywords = plan.has(Facet.KEYWORDS) && rawSerieDetails.getKeywords() != null ? rawSerieDetails.getKeywords().getResults() : List.of();
 
-        return serie;
+        return new MediaBundle(serie, keywords, plan);
+    }
+
+    private static TvSeriesAppendToResponse[] appendToResponse(FetchPlan plan) {
+        List<TvSeriesAppendToResponse> appendToResponse = new ArrayList<>();
+        for (Facet facet : plan.facets()) {
+            switch (facet) {
+                case KEYWORDS -> appendToResponse.add(TvSeriesAppendToResponse.KEYWORDS);
+                case ALTERNATIVE_TITLES -> appendToResponse.add(TvSeriesAppendToResponse.ALTERNATIVE_TITLES);
+                case IMAGES -> appendToResponse.add(TvSeriesAppendToResponse.IMAGES);
+                case EXTERNAL_IDS -> appendToResponse.add(TvSeriesAppendToResponse.EXTERNAL_IDS);
+                case VIDEOS -> appendToResponse.add(TvSeriesAppendToResponse.VIDEOS);
+                default -> {
+                    // genres and seasons come with the details themselves
+                }
+            }
+        }
+        return appendToResponse.toArray(TvSeriesAppendToResponse[]::new);
+    }
+
+    /**
+     * @see MediaApi#getDetails(Integer)
+     */
+    @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
+    @Override
+    public MediaModel getDetails(Integer id) {
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? null : bundle.media();
     }
 
     public ExternalReferenceModel getTrailer(TvSeriesDb rawSerieDetails) {
@@ -200,11 +245,8 @@ public class TvSeriesApiImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<Keyword> getKeyword(Integer id) {
-        try {
-            return api.getKeywords(id).getResults();
-        } catch (TmdbException e) {
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.keywords();
     }
 
     /**
@@ -213,13 +255,8 @@ public class TvSeriesApiImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<AlternativeTitleModel> getAlternativeTitles(Integer id) {
-        List<AlternativeTitle> rawAlternativeTitles;
-        try {
-            rawAlternativeTitles = api.getAlternativeTitles(id).getResults();
-        } catch (TmdbException e) {
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
-        return formatAlternativeTitles(rawAlternativeTitles);
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.alternativeTitles();
     }
 
     private List<AlternativeTitleModel> formatAlternativeTitles(List<AlternativeTitle> rawAlternativeTitles) {
@@ -238,13 +275,8 @@ public class TvSeriesApiImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<ExternalReferenceModel> getExternalReference(Integer id) {
-        ExternalIds rawExternalReferences;
-        try {
-            rawExternalReferences = api.getExternalIds(id);
-        } catch (TmdbException e) {
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
-        return formatExternalReference(rawExternalReferences, id);
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.externalReferences();
     }
 
     private List<ExternalReferenceModel> formatExternalReference(ExternalIds rawExternalReferences, Integer id) {
@@ -271,17 +303,8 @@ public class TvSeriesApiImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<GenreModel> getGenre(Integer id) {
-        TvSeriesDb rawSerieDetails;
-        try {
-            rawSerieDetails = api.getDetails(id, "en-US");
-        } catch (TmdbException e) {
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
-
-        if (rawSerieDetails == null || rawSerieDetails.getGenres() == null) {
-            return new ArrayList<GenreModel>();
-        }
-        return formatGenre(rawSerieDetails.getGenres());
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.genres();
     }
 
     private List<GenreModel> formatGenre(List<Genre> rawGenres) {
@@ -308,15 +331,8 @@ public class TvSeriesApiImpl implements MediaApi {
     @Override
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
     public List<SeasonModel> getSeason(Integer id) {
-        List<TvSeason> rawSession;
-
-        try {
-            rawSession = api.getDetails(id, "en-US").getSeasons();
-        } catch (TmdbException e) {
-            throw new com.espacogeek.geek.exception.RequestException();
-        }
-
-        return formatSeason(rawSession);
+        MediaBundle bundle = fetch(id, FetchPlan.FULL);
+        return bundle == null ? new ArrayList<>() : bundle.seasons();
     }
 
     private List<SeasonModel> formatSeason(List<TvSeason> rawSeasons) {
@@ -0,0 +1,105 @@
+package com.espacogeek.geek.data.export;
+
+import java.util.Arrays;
+
+/**
+ * What changed in a TMDB export since the one last ingested.
+ * <p>
+ * A title is in an export when its ID is listed and it is not marked adult,
+ * so a title TMDB deletes or marks adult is removed. The IDs of both exports
+ * are compared as sorted primitive arrays, in one pass, without boxing.
+ *
+ * @param current the export to ingest.
+ * @param added   the indexes in <code>current</code> of the titles the
+ *                baseline does not have, in ID order.
+ * @param removed the IDs of the titles of the baseline <code>current</code>
+ *                does not have, in ascending order.
+ */
+public record ExportDiff(ExportSnapshot current, int[] added, int[] removed) {
+
+    /**
+     * @param baseline the export last ingested, or <code>null</code> to ingest
+     *                 every title of <code>current</code>.
+     * @param current  the export to ingest.
+     */
+    public static ExportDiff between(ExportSnapshot baseline, ExportSnapshot current) {
+        long[] titles = sortedTitles(current);
+        int[] previous = baseline == null ? new int[0] : sortedIds(baseline);
+
+        int[] added = new int[titles.length];
+        int[] removed = new int[previous.length];
+        int addedCount = 0;
+        int removedCount = 0;
+        int i = 0;
+        int j = 0;
+        int last = -1;
+        while (i < titles.length || j < previous.length) {
+            int id = i < titles.length ? id(titles[i]) : Integer.MAX_VALUE;
+            int previousId = j < previous.length ? previous[j] : Integer.MAX_VALUE;
+            if (i < titles.length && id == last) {
+                i++;
+            } else if (j < previous.length && (i == titles.length || previousId < id)) {
+                removed[removedCount++] = previousId;
+                j = skip(previous, j);
+            } else if (j < previous.length && previousId == id) {
+                last = id;
+                i++;
+                j = skip(previous, j);
+            } else {
+                added[addedCount++] = index(titles[i]);
+                last = id;
+                i++;
+            }
+        }
+        return new ExportDiff(current, Arrays.copyOf(added, addedCount), Arrays.copyOf(removed, removedCount));
+    }
+
+    /**
+     * @return the titles of the export not marked adult, as the ID in the
+     *         high half and the index in the low half, sorted by ID.
+     */
+    private static long[] sortedTitles(ExportSnapshot snapshot) {
+        long[] titles = new long[snapshot.size()];
+        int count = 0;
+        for (int index = 0; index < snapshot.size(); index++) {
+            if (!snapshot.adult(index)) {
+                titles[count++] = ((long) snapshot.id(index) << 32) | index;
+            }
+        }
+        titles = Arrays.copyOf(titles, count);
+        Arrays.sort(titles);
+        return titles;
+    }
+
+    private static int[] sortedIds(ExportSnapshot snapshot) {
+        int[] ids = new int[snapshot.size()];
+        int count = 0;
+        for (int index = 0; index < snapshot.size(); index++) {
+            if (!snapshot.adult(index)) {
+                ids[count++] = snapshot.id(index);
+            }
+        }
+        ids = Arrays.copyOf(ids, count);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * @return the position after the run of <code>ids[from]</code>.
+     */
+    private static int skip(int[] ids, int from) {
+        int to = from + 1;
+        while (to < ids.length && ids[to] == ids[from]) {
+            to++;
+        }
+        return to;
+    }
+
+    private static int id(long title) {
+        return (int) (title >>> 32);
+    }
+
+    private static int index(long title) {
+        return (int) title;
+    }
+}
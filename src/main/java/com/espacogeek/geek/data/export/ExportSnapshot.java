@@ -0,0 +1,239 @@
+package com.espacogeek.geek.data.export;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+/**
+ * One day of a TMDB daily export, decompressed on disk and read through
+ * memory-mapped files.
+ * <p>
+ * A snapshot directory holds three files:
+ * <ul>
+ * <li><code>records.bin</code>: a header (format, count) and one fixed-width
+ * record per title: the TMDB ID, the adult and video flags and the
+ * popularity.</li>
+ * <li><code>offsets.bin</code>: where each original title starts in
+ * <code>titles.bin</code>, plus where the last one ends.</li>
+ * <li><code>titles.bin</code>: the original titles, UTF-8, back to back.</li>
+ * </ul>
+ * The lines of the export that are not a JSON object with an ID are left
+ * out, so the record at an index is always a title. The mapped buffers are
+ * only read with absolute gets, so a snapshot can be shared between threads.
+ */
+@Slf4j
+public final class ExportSnapshot implements AutoCloseable {
+    static final String RECORDS = "records.bin";
+    static final String OFFSETS = "offsets.bin";
+    static final String TITLES = "titles.bin";
+
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 16;
+    private static final int ADULT = 1;
+    private static final int VIDEO = 2;
+
+    private final DataJumpTypeTMDB type;
+    private final LocalDate date;
+    private final int size;
+    private final ByteBuffer records;
+    private final ByteBuffer offsets;
+    private final ByteBuffer titles;
+
+    private ExportSnapshot(DataJumpTypeTMDB type, LocalDate date, ByteBuffer records, ByteBuffer offsets, ByteBuffer titles) {
+        this.type = type;
+        this.date = date;
+        this.records = records;
+        this.offsets = offsets;
+        this.titles = titles;
+        this.size = records.getInt(4);
+    }
+
+    /**
+     * Maps the files of a snapshot written by {@link #write(InputStream, Path)}.
+     *
+     * @throws IOException if the files are missing, too large to map or of another format.
+     */
+    static ExportSnapshot open(Path directory, DataJumpTypeTMDB type, LocalDate date) throws IOException {
+        ByteBuffer records = map(directory.resolve(RECORDS));
+        if (records.capacity() < HEADER_BYTES || records.getInt(0) != FORMAT) {
+            throw new IOException("Unknown export snapshot format in " + directory);
+        }
+        int size = records.getInt(4);
+        ByteBuffer offsets = map(directory.resolve(OFFSETS));
+        if (records.capacity() != HEADER_BYTES + (long) size * RECORD_BYTES || offsets.capacity() != (size + 1L) * Long.BYTES) {
+            throw new IOException("Truncated export snapshot in " + directory);
+        }
+        return new ExportSnapshot(type, date, records, offsets, map(directory.resolve(TITLES)));
+    }
+
+    /**
+     * Writes the export read from <code>json</code>, one JSON object per
+     * line, as the files of a snapshot in <code>directory</code>. Only one
+     * line is held in memory at a time.
+     *
+     * @return the number of titles written.
+     */
+    static int write(InputStream json, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path recordsFile = directory.resolve(RECORDS);
+        int size = 0;
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(json, StandardCharsets.UTF_8));
+            DataOutputStream records = output(recordsFile);
+            DataOutputStream offsets = output(directory.resolve(OFFSETS));
+            BufferedOutputStream titles = new BufferedOutputStream(Files.newOutputStream(directory.resolve(TITLES)))) {
+            records.writeInt(FORMAT);
+            records.writeInt(0);
+
+            JSONParser parser = new JSONParser();
+            long offset = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JSONObject title;
+                try {
+                    if (!(parser.parse(line) instanceof JSONObject object) || !(object.get("id") instanceof Number)) {
+                        continue;
+                    }
+                    title = object;
+                } catch (ParseException e) {
+                    log.error("Error parsing TMDB JSON line: {}", e.getMessage());
+                    continue;
+                }
+
+                records.writeInt(((Number) title.get("id")).intValue());
+                records.writeInt((Boolean.TRUE.equals(title.get("adult")) ? ADULT : 0) | (Boolean.TRUE.equals(title.get("video")) ? VIDEO : 0));
+                records.writeDouble(title.get("popularity") instanceof Number popularity ? popularity.doubleValue() : 0d);
+
+                offsets.writeLong(offset);
+                byte[] name = originalTitle(title).getBytes(StandardCharsets.UTF_8);
+                titles.write(name);
+                offset += name.length;
+                size++;
+            }
+            offsets.writeLong(offset);
+        }
+
+        try (FileChannel channel = FileChannel.open(recordsFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, size), 4);
+        }
+        return size;
+    }
+
+    public DataJumpTypeTMDB type() {
+        return type;
+    }
+
+    public LocalDate date() {
+        return date;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int id(int index) {
+        return records.getInt(record(index));
+    }
+
+    public double popularity(int index) {
+        return records.getDouble(record(index) + 8);
+    }
+
+    public boolean adult(int index) {
+        return (records.getInt(record(index) + 4) & ADULT) != 0;
+    }
+
+    public boolean video(int index) {
+        return (records.getInt(record(index) + 4) & VIDEO) != 0;
+    }
+
+    public String originalTitle(int index) {
+        record(index);
+        int start = (int) offsets.getLong(index * Long.BYTES);
+        int end = (int) offsets.getLong((index + 1) * Long.BYTES);
+        byte[] name = new byte[end - start];
+        titles.get(start, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the title at <code>index</code> as the line of the export, with
+     *         the keys the batch processors read.
+     */
+    @SuppressWarnings("unchecked")
+    public JSONObject json(int index) {
+        JSONObject json = new JSONObject();
+        json.put("id", (long) id(index));
+        json.put(titleKey(type), originalTitle(index));
+        json.put("popularity", popularity(index));
+        if (type == DataJumpTypeTMDB.MOVIE) {
+            json.put("adult", adult(index));
+            json.put("video", video(index));
+        }
+        return json;
+    }
+
+    /**
+     * Nothing to release: the mappings are dropped with the snapshot.
+     */
+    @Override
+    public void close() {
+    }
+
+    private int record(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large to map");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static DataOutputStream output(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    }
+
+    private static String originalTitle(JSONObject title) {
+        for (String key : new String[] { "original_title", "original_name", "name" }) {
+            if (title.get(key) != null) {
+                return title.get(key).toString();
+            }
+        }
+        return "";
+    }
+
+    private static String titleKey(DataJumpTypeTMDB type) {
+        return switch (type) {
+            case MOVIE -> "original_title";
+            case SERIES -> "original_name";
+            case PERSON -> "name";
+        };
+    }
+}
@@ -0,0 +1,238 @@
+package com.espacogeek.geek.data.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.espacogeek.geek.exception.GenericException;
+import com.espacogeek.geek.exception.RequestException;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
+import com.espacogeek.geek.utils.DataJumpUtils;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Downloads each day's TMDB export once and keeps it as an
+ * {@link ExportSnapshot} under <code>{tmdb.export.snapshot.dir}/{type}/{date}/</code>,
+ * so re-runs, restarts and the other jobs of the day read it from disk.
+ * <p>
+ * A snapshot is written to a temporary directory and moved in place, so a
+ * directory with the date as name is always complete. Concurrent callers of
+ * the same export wait for one download. Snapshots older than
+ * <code>tmdb.export.snapshot.retention-days</code> are deleted after each
+ * download.
+ */
+@Component
+@Slf4j
+public class TmdbExportSnapshots {
+    private static final String TEMPORARY = ".tmp";
+
+    @FunctionalInterface
+    interface ExportSource {
+        InputStream open(DataJumpTypeTMDB type, LocalDate date);
+    }
+
+    private final ExportSource exportSource;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final int retentionDays;
+    private final int availableHourUtc;
+    private final Clock clock;
+    private final ConcurrentHashMap<Path, Object> locks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TmdbExportSnapshots(
+        OutboundHttpClients httpClients,
+        MeterRegistry meterRegistry,
+        @Value("${tmdb.export.snapshot.dir:data/tmdb-exports}") String directory,
+        @Value("${tmdb.export.snapshot.retention-days:3}") int retentionDays,
+        @Value("${tmdb.export.available-hour-utc:" + DataJumpUtils.EXPORT_AVAILABLE_HOUR_UTC + "}") int availableHourUtc
+    ) {
+        this((type, date) -> DataJumpUtils.getDataJumpTMDBStream(httpClients.client(OutboundProvider.TMDB_EXPORT), type, date),
+            meterRegistry, Paths.get(directory), retentionDays, availableHourUtc, Clock.systemUTC());
+    }
+
+    TmdbExportSnapshots(ExportSource exportSource, MeterRegistry meterRegistry, Path directory, int retentionDays, int availableHourUtc, Clock clock) {
+        this.exportSource = exportSource;
+        this.meterRegistry = meterRegistry;
+        this.directory = directory;
+        this.retentionDays = retentionDays;
+        this.availableHourUtc = availableHourUtc;
+        this.clock = clock;
+    }
+
+    /**
+     * The newest export TMDB has published. When the export of the expected
+     * day cannot be downloaded yet, the one of the day before is used.
+     *
+     * @throws RequestException if neither can be downloaded.
+     */
+    public ExportSnapshot latest(DataJumpTypeTMDB type) {
+        LocalDate date = DataJumpUtils.latestExportDate(ZonedDateTime.now(clock), availableHourUtc);
+        try {
+            return snapshot(type, date);
+        } catch (RequestException e) {
+            log.warn("The TMDB {} export of {} is not available, using the one of the day before", type.getValue(), date);
+            return snapshot(type, date.minusDays(1));
+        }
+    }
+
+    /**
+     * The export of a given day, downloaded if it is not on disk.
+     *
+     * @throws RequestException if it has to be downloaded and cannot be.
+     */
+    public ExportSnapshot snapshot(DataJumpTypeTMDB type, LocalDate date) {
+        Path snapshot = directory.resolve(type.getValue()).resolve(date.toString());
+        if (!Files.isDirectory(snapshot)) {
+            synchronized (locks.computeIfAbsent(snapshot, key -> new Object())) {
+                if (!Files.isDirectory(snapshot)) {
+                    download(type, date, snapshot);
+                    deleteExpired(type, snapshot);
+                } else {
+                    count(type, "hit");
+                }
+            }
+        } else {
+            count(type, "hit");
+        }
+
+        try {
+            return ExportSnapshot.open(snapshot, type, date);
+        } catch (IOException e) {
+            throw new GenericException("Could not open the TMDB export snapshot " + snapshot + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return whether the export of the day is on disk, so opening it costs
+     *         no download.
+     */
+    public boolean isStored(DataJumpTypeTMDB type, LocalDate date) {
+        return Files.isDirectory(directory.resolve(type.getValue()).resolve(date.toString()));
+    }
+
+    /**
+     * Compares an export with the one last ingested.
+     *
+     * @param date     the day of the export to ingest, or <code>null</code> for the latest.
+     * @param baseline the day of the export last ingested, or <code>null</code> when there is none.
+     * @throws RequestException if one of them has to be downloaded and cannot be.
+     */
+    public ExportDiff diff(DataJumpTypeTMDB type, LocalDate date, LocalDate baseline) {
+        ExportSnapshot current = date == null ? latest(type) : snapshot(type, date);
+        ExportSnapshot previous = baseline == null ? null : snapshot(type, baseline);
+        ExportDiff diff = ExportDiff.between(previous, current);
+        if (previous == null) {
+            log.info("The TMDB {} export of {} has {} titles, none ingested before", type.getValue(), current.date(), diff.added().length);
+        } else {
+            log.info("The TMDB {} export of {} has {} titles added and {} removed since the one of {}",
+                type.getValue(), current.date(), diff.added().length, diff.removed().length, baseline);
+        }
+        return diff;
+    }
+
+    private void download(DataJumpTypeTMDB type, LocalDate date, Path snapshot) {
+        Path temporary = snapshot.resolveSibling(snapshot.getFileName() + TEMPORARY);
+        long start = System.nanoTime();
+        int titles;
+        try {
+            deleteRecursively(temporary);
+            try (InputStream export = exportSource.open(type, date)) {
+                titles = ExportSnapshot.write(export, temporary);
+            }
+            try {
+                Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, snapshot);
+            }
+        } catch (IOException e) {
+            deleteQuietly(temporary);
+            count(type, "failure");
+            throw new GenericException("Could not store the TMDB " + type.getValue() + " export of " + date + ": " + e.getMessage());
+        } catch (RuntimeException e) {
+            deleteQuietly(temporary);
+            count(type, "failure");
+            throw e;
+        }
+        count(type, "download");
+        log.info("Stored the TMDB {} export of {}: {} titles in {} ms", type.getValue(), date, titles, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Deletes the snapshots of the type older than the retention, but the one
+     * just downloaded, which a restart may still need, and the temporary
+     * directories left by interrupted downloads.
+     */
+    private void deleteExpired(DataJumpTypeTMDB type, Path downloaded) {
+        LocalDate oldest = LocalDate.now(clock).minusDays(retentionDays);
+        List<Path> expired;
+        try (Stream<Path> snapshots = Files.list(directory.resolve(type.getValue()))) {
+            expired = snapshots.filter(snapshot -> !snapshot.equals(downloaded) && isExpired(snapshot, oldest)).toList();
+        } catch (IOException e) {
+            log.warn("Could not list the TMDB export snapshots: {}", e.getMessage());
+            return;
+        }
+        expired.forEach(snapshot -> {
+            if (deleteQuietly(snapshot)) {
+                log.info("Deleted the TMDB export snapshot {}", snapshot);
+            }
+        });
+    }
+
+    private boolean isExpired(Path snapshot, LocalDate oldest) {
+        String name = snapshot.getFileName().toString();
+        if (name.endsWith(TEMPORARY)) {
+            return !locks.containsKey(snapshot.resolveSibling(name.substring(0, name.length() - TEMPORARY.length())));
+        }
+        try {
+            return LocalDate.parse(name).isBefore(oldest);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private boolean deleteQuietly(Path path) {
+        try {
+            deleteRecursively(path);
+            return true;
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private void count(DataJumpTypeTMDB type, String result) {
+        meterRegistry.counter("tmdb.export.snapshots", "type", type.getValue(), "result", result).increment();
+    }
+}
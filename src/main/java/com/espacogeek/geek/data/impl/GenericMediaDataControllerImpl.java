@@ -4,15 +4,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.LinkedHashSet;
-import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.function.Consumer;
 
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.context.annotation.Lazy;
@@ -27,22 +31,28 @@ import com.espacogeek.geek.models.MediaCategoryModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.SeasonModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.search.MediaSuggestIndex;
 import com.espacogeek.geek.services.AlternativeTitlesService;
 import com.espacogeek.geek.services.ExternalReferenceService;
 import com.espacogeek.geek.services.GenreService;
 import com.espacogeek.geek.services.MediaService;
 import com.espacogeek.geek.services.SeasonService;
+import com.espacogeek.geek.utils.EntityFieldCopier;
 import com.espacogeek.geek.utils.MediaLazyLoader;
+import com.espacogeek.geek.utils.MediaPayloadHash;
 
-import jakarta.persistence.Id;
-import jakarta.persistence.ManyToMany;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Component("genericMediaDataController")
 @Qualifier("genericMediaDataController")
 @Slf4j
 public class GenericMediaDataControllerImpl implements MediaDataController {
+    /**
+     * Copies the provider columns of a media. The payload hash is ours, not
+     * the provider's, so it is left out.
+     */
+    private static final EntityFieldCopier<MediaModel> BASIC_ATTRIBUTES = EntityFieldCopier.of(MediaModel.class, "payloadHash");
+
     @Lazy
     protected MediaService mediaService;
     private final GenreService genreService;
@@ -50,6 +60,11 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
     private final ExternalReferenceService externalReferenceService;
     private final SeasonService seasonService;
     private final MediaLazyLoader mediaLazyLoader;
+    private final MediaSuggestIndex mediaSuggestIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${media.update.differential.enabled:true}")
+    private boolean differentialUpdate;
 
     @Autowired
     public GenericMediaDataControllerImpl(
@@ -58,7 +73,9 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
             AlternativeTitlesService alternativeTitlesService,
             ExternalReferenceService externalReferenceService,
             SeasonService seasonService,
-            MediaLazyLoader mediaLazyLoader
+            MediaLazyLoader mediaLazyLoader,
+            MediaSuggestIndex mediaSuggestIndex,
+            MeterRegistry meterRegistry
     ) {
         this.mediaService = mediaService;
         this.genreService = genreService;
@@ -66,6 +83,8 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
         this.externalReferenceService = externalReferenceService;
         this.seasonService = seasonService;
         this.mediaLazyLoader = mediaLazyLoader;
+        this.mediaSuggestIndex = mediaSuggestIndex;
+        this.meterRegistry = meterRegistry;
     }
 
     public GenericMediaDataControllerImpl getInstance() {
@@ -73,6 +92,11 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
     }
 
     /**
+     * When <code>media.update.differential.enabled</code> is on, a payload that
+     * hashes the same as the last one applied to the media only touches its
+     * <code>update_at</code>, and otherwise only the new alternative titles,
+     * external references, genres and seasons are written.
+     *
      * @see MediaDataController#updateAllInformation(MediaModel, MediaModel, TypeReferenceModel, MediaApi)
      */
     @Override
@@ -80,14 +104,7 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
         mediaLazyLoader.initializeCollections(media);
 
         if (result == null) {
-            Collection<ExternalReferenceModel> externalReferences = media.getExternalReference();
-            if (externalReferences == null || !Hibernate.isInitialized(externalReferences)) {
-                externalReferences = externalReferenceService.findAll(media);
-            }
-            var id = externalReferences.stream()
-                        .filter(externalReference -> externalReference.getTypeReference().getId().equals(typeReference.getId()))
-                        .map(ExternalReferenceModel::getReference)
-                        .findFirst()
+            var id = externalId(media, typeReference)
                         .orElseThrow(() -> new IllegalArgumentException("Reference not found for the given typeReference"));
             result = mediaApi.getDetails(Integer.valueOf(id));
         }
@@ -96,11 +113,27 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
             return media;
         }
 
+        Date updateAt = Date.from(LocalDateTime.now().toInstant(ZoneOffset.UTC));
+        long payloadHash = MediaPayloadHash.of(result);
+        if (differentialUpdate && media.getId() != null && media.getPayloadHash() != null && media.getPayloadHash() == payloadHash) {
+            // Still moves update_at, or the media would be picked as stale again on every read.
+            mediaService.markUpdated(media, updateAt);
+            meterRegistry.counter("media.update.differential", "result", "unchanged").increment();
+            countWrites("medias", 1);
+            for (String table : List.of("alternative_titles", "external_references", "genres", "seasons")) {
+                countSkippedRoundTrip(table);
+            }
+            return media;
+        }
+        meterRegistry.counter("media.update.differential", "result", "changed").increment();
+
         updateBasicAttributes(media, result, typeReference, mediaApi);
         updateArtworks(media, result, typeReference, mediaApi);
 
-        media.setUpdateAt(Date.from(LocalDateTime.now().toInstant(ZoneOffset.UTC)));
+        media.setPayloadHash(payloadHash);
+        media.setUpdateAt(updateAt);
         mediaService.save(media);
+        countWrites("medias", 1);
 
         updateAlternativeTitles(media, result, typeReference, mediaApi);
         updateExternalReferences(media, result, typeReference, mediaApi);
@@ -110,6 +143,47 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
         return media;
     }
 
+    /**
+     * Asks the provider for the details of every media with one
+     * {@link MediaApi#getDetails(java.util.Collection)} call, then updates each
+     * media like {@link #updateAllInformation(MediaModel, MediaModel, TypeReferenceModel, MediaApi)}.
+     * The medias without a reference of <code>typeReference</code> or unknown
+     * to the provider are returned as they are.
+     *
+     * @see MediaDataController#updateAllInformation(List, TypeReferenceModel, MediaApi)
+     */
+    @Override
+    public List<MediaModel> updateAllInformation(List<MediaModel> medias, TypeReferenceModel typeReference, MediaApi mediaApi) {
+        List<Integer> ids = new ArrayList<>(medias.size());
+        for (MediaModel media : medias) {
+            mediaLazyLoader.initializeCollections(media);
+            ids.add(externalId(media, typeReference).map(Integer::valueOf).orElse(null));
+        }
+
+        Map<Integer, MediaModel> results = mediaApi.getDetails(ids.stream().filter(Objects::nonNull).toList());
+
+        List<MediaModel> updated = new ArrayList<>(medias.size());
+        for (int i = 0; i < medias.size(); i++) {
+            MediaModel result = ids.get(i) == null ? null : results.get(ids.get(i));
+            updated.add(result == null ? medias.get(i) : updateAllInformation(medias.get(i), result, typeReference, mediaApi));
+        }
+        return updated;
+    }
+
+    /**
+     * @return the reference of the media in the provider of <code>typeReference</code>.
+     */
+    private Optional<String> externalId(MediaModel media, TypeReferenceModel typeReference) {
+        Collection<ExternalReferenceModel> externalReferences = media.getExternalReference();
+        if (externalReferences == null || !Hibernate.isInitialized(externalReferences)) {
+            externalReferences = externalReferenceService.findAll(media);
+        }
+        return externalReferences.stream()
+                    .filter(externalReference -> externalReference.getTypeReference().getId().equals(typeReference.getId()))
+                    .map(ExternalReferenceModel::getReference)
+                    .findFirst();
+    }
+
     @Override
     public MediaModel updateArtworks(MediaModel media, MediaModel result, TypeReferenceModel typeReference, MediaApi mediaApi) {
         MediaModel rawArtwork = new MediaModel();
@@ -173,7 +247,8 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
             }
         }
 
-        alternativeTitlesService.saveAll(new ArrayList<>(media.getAlternativeTitles()));
+        var unsavedAlternativeTitles = media.getAlternativeTitles().stream().filter((alternativeTitle) -> alternativeTitle.getId() == null).toList();
+        saveChildren("alternative_titles", media.getAlternativeTitles(), unsavedAlternativeTitles, alternativeTitlesService::saveAll);
         return new ArrayList<>(media.getAlternativeTitles());
     }
 
@@ -205,7 +280,9 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
             }
         }
 
-        externalReferenceService.saveAll(new ArrayList<>(media.getExternalReference()));
+        // Also covers references set on a new media before it was saved, as in searchMedia.
+        var unsavedExternalReferences = media.getExternalReference().stream().filter((reference) -> reference.getId() == null).toList();
+        saveChildren("external_references", media.getExternalReference(), unsavedExternalReferences, externalReferenceService::saveAll);
 
         return new ArrayList<>(media.getExternalReference());
     }
@@ -234,14 +311,16 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
             media.setGenre(new LinkedHashSet<>());
         }
 
+        List<GenreModel> newGenres = new ArrayList<>();
         rawGenres.forEach((rawGenre) -> {
             if (media.getGenre().stream().noneMatch((genre) -> genre.getId().equals(rawGenre.getId()))) {
                 rawGenre.setMedias(new ArrayList<>(List.of(media)));
                 media.getGenre().add(rawGenre);
+                newGenres.add(rawGenre);
             }
         });
 
-        genreService.saveAll(new ArrayList<>(media.getGenre()));
+        saveChildren("genres", media.getGenre(), newGenres, genreService::saveAll);
         return new ArrayList<>(media.getGenre());
     }
 
@@ -272,13 +351,42 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
             }
         });
 
-        var savedSeasons = seasonService.saveAll(seasons);
+        List<SeasonModel> savedSeasons = null;
+        if (seasons.isEmpty() && differentialUpdate) {
+            countSkippedRoundTrip("seasons");
+        } else {
+            savedSeasons = seasonService.saveAll(seasons);
+            countWrites("seasons", seasons.size());
+        }
         List<SeasonModel> newSeasons = media.getSeason() == null ? new ArrayList<>() : new ArrayList<>(media.getSeason());
         newSeasons.addAll(savedSeasons == null ? new ArrayList<>() : savedSeasons);
 
         return newSeasons;
     }
 
+    /**
+     * Saves the children of a media: only the unsaved ones when
+     * <code>media.update.differential.enabled</code> is on, skipping the round
+     * trip when there are none, and all of them otherwise.
+     */
+    private <T> void saveChildren(String table, Collection<T> all, List<T> unsaved, Consumer<List<T>> saveAll) {
+        List<T> toSave = differentialUpdate ? unsaved : new ArrayList<>(all);
+        if (toSave.isEmpty()) {
+            countSkippedRoundTrip(table);
+            return;
+        }
+        saveAll.accept(toSave);
+        countWrites(table, toSave.size());
+    }
+
+    private void countWrites(String table, int rows) {
+        meterRegistry.counter("media.update.writes", "table", table).increment(rows);
+    }
+
+    private void countSkippedRoundTrip(String table) {
+        meterRegistry.counter("media.update.round_trips.saved", "table", table).increment();
+    }
+
     @Override
     public List<MediaModel> searchMedia(String search, MediaApi mediaApi, TypeReferenceModel typeReference, MediaCategoryModel mediaCategory) {
         var rawMediaSearchList = mediaApi.doSearch(search, mediaCategory);
@@ -296,6 +404,8 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
                     updateBasicAttributes(media, mediaSearch, typeReference, mediaApi);
 
                     mediaService.save(media);
+                    mediaSuggestIndex.index(media);
+                    mediaSuggestIndex.indexAlternativeTitles(media.getId(), media.getAlternativeTitles());
                 }
 
                 result.add(media);
@@ -333,22 +443,7 @@ public class GenericMediaDataControllerImpl implements MediaDataController {
 
         if (rawMedia == null) return media;
 
-        for (Field field : media.getClass().getDeclaredFields()) {
-            field.setAccessible(true);
-            for (Field rawField : rawMedia.getClass().getDeclaredFields()) {
-                rawField.setAccessible(true);
-                if (field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class) || field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(Id.class)) continue;
-                if (field.getName().equals(rawField.getName())) {
-                    try {
-                        field.set(media, rawField.get(rawMedia));
-                    } catch (IllegalAccessException e) {
-                        log.error("Failed to update basic attributes for media: {}", e.getMessage());
-                    }
-                }
-            }
-        }
-
-        return media;
+        return BASIC_ATTRIBUTES.copy(rawMedia, media);
     }
 
     /**
@@ -18,6 +18,7 @@ import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.MediaCategoryModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.search.MediaSuggestIndex;
 import com.espacogeek.geek.services.ExternalReferenceService;
 import com.espacogeek.geek.services.GenreService;
 import com.espacogeek.geek.services.MediaService;
@@ -27,6 +28,7 @@ import com.espacogeek.geek.services.SeasonService;
 import com.espacogeek.geek.services.TypeReferenceService;
 import com.espacogeek.geek.utils.MediaLazyLoader;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 
 @Component("movieController")
@@ -51,9 +53,11 @@ public class MovieControllerImpl extends GenericMediaDataControllerImpl {
             AlternativeTitlesService alternativeTitlesService,
             ExternalReferenceService baseExternalReferenceService,
             SeasonService seasonService,
-            MediaLazyLoader mediaLazyLoader
+            MediaLazyLoader mediaLazyLoader,
+            MediaSuggestIndex mediaSuggestIndex,
+            MeterRegistry meterRegistry
     ) {
-        super(mediaService, genreService, alternativeTitlesService, baseExternalReferenceService, seasonService, mediaLazyLoader);
+        super(mediaService, genreService, alternativeTitlesService, baseExternalReferenceService, seasonService, mediaLazyLoader, mediaSuggestIndex, meterRegistry);
         this.movieAPI = movieAPI;
         this.mediaCategoryService = mediaCategoryService;
         this.externalReferenceService = externalReferenceService;
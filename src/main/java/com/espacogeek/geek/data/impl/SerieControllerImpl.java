@@ -18,7 +18,9 @@ import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.MediaCategoryModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.search.MediaSuggestIndex;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 
 @Component("serieController")
@@ -33,8 +35,8 @@ public class SerieControllerImpl extends GenericMediaDataControllerImpl {
 
     private TypeReferenceModel typeReference;
 
-    public SerieControllerImpl(MediaService mediaService, GenreService genreService, AlternativeTitlesService alternativeTitlesService, ExternalReferenceService externalReferenceService, SeasonService seasonService, @Qualifier("tvSeriesApi") MediaApi tvSeriesApi, MediaCategoryService mediaCategoryService, ExternalReferenceService externalReferenceService1, TypeReferenceService typeReferenceService, MediaLazyLoader mediaLazyLoader) {
-        super(mediaService, genreService, alternativeTitlesService, externalReferenceService, seasonService, mediaLazyLoader);
+    public SerieControllerImpl(MediaService mediaService, GenreService genreService, AlternativeTitlesService alternativeTitlesService, ExternalReferenceService externalReferenceService, SeasonService seasonService, @Qualifier("tvSeriesApi") MediaApi tvSeriesApi, MediaCategoryService mediaCategoryService, ExternalReferenceService externalReferenceService1, TypeReferenceService typeReferenceService, MediaLazyLoader mediaLazyLoader, MediaSuggestIndex mediaSuggestIndex, MeterRegistry meterRegistry) {
+        super(mediaService, genreService, alternativeTitlesService, externalReferenceService, seasonService, mediaLazyLoader, mediaSuggestIndex, meterRegistry);
         this.tvSeriesApi = tvSeriesApi;
         this.mediaCategoryService = mediaCategoryService;
         this.externalReferenceService = externalReferenceService1;
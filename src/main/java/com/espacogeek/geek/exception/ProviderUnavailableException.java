@@ -0,0 +1,24 @@
+package com.espacogeek.geek.exception;
+
+/**
+ * Thrown without calling the provider when its circuit breaker is open or
+ * its bulkhead is full, so callers can fall back to the stored data instead
+ * of waiting on it.
+ */
+public class ProviderUnavailableException extends RequestException {
+    private final String provider;
+
+    public ProviderUnavailableException(String provider) {
+        super();
+        this.provider = provider;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Provider " + provider + " is unavailable";
+    }
+}
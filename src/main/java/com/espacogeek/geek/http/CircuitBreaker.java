@@ -0,0 +1,162 @@
+package com.espacogeek.geek.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A count based circuit breaker.
+ * <p>
+ * While <code>CLOSED</code> the outcome of the last <code>windowSize</code>
+ * calls is kept, and the breaker opens once at least
+ * <code>minimumCalls</code> of them are known and the share of failed or of
+ * slow calls reaches <code>failureRateThreshold</code>. An
+ * <code>OPEN</code> breaker rejects every call for <code>openNanos</code>,
+ * then lets <code>halfOpenCalls</code> trial calls through: the breaker
+ * closes if they all succeed and opens again as soon as one fails.
+ */
+final class CircuitBreaker {
+    enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int gaugeValue;
+
+        State(int gaugeValue) {
+            this.gaugeValue = gaugeValue;
+        }
+
+        int gaugeValue() {
+            return gaugeValue;
+        }
+    }
+
+    /** Notified of every state change, outside the breaker lock. */
+    interface Listener {
+        void onTransition(State from, State to);
+    }
+
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final Listener listener;
+
+    // Ring of the last outcomes, 0 success, 1 failure and 2 slow success.
+    private final byte[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    CircuitBreaker(double failureRateThreshold, long slowCallMillis, int windowSize, int minimumCalls, long openMillis, int halfOpenCalls, Listener listener) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.outcomes = new byte[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.listener = listener;
+    }
+
+    /**
+     * @param now the current {@link System#nanoTime()}.
+     * @return whether a call may go through now. A permitted call must be
+     *         followed by {@link #onResult(boolean, long, long)}.
+     */
+    boolean tryAcquire(long now) {
+        State from;
+        synchronized (this) {
+            from = state;
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (now - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialsStarted = 0;
+                trialsSucceeded = 0;
+            }
+            if (trialsStarted >= halfOpenCalls) {
+                return false;
+            }
+            trialsStarted++;
+        }
+        if (from != State.HALF_OPEN) {
+            listener.onTransition(from, State.HALF_OPEN);
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param success   whether the call succeeded.
+     * @param durationNanos how long the call took.
+     * @param now       the current {@link System#nanoTime()}.
+     */
+    void onResult(boolean success, long durationNanos, long now) {
+        boolean slow = durationNanos >= slowCallNanos;
+        State from;
+        State to;
+        synchronized (this) {
+            from = state;
+            if (state == State.HALF_OPEN) {
+                if (!success || slow) {
+                    open(now);
+                } else if (++trialsSucceeded >= halfOpenCalls) {
+                    close();
+                }
+            } else if (state == State.CLOSED) {
+                record(!success ? (byte) 1 : slow ? (byte) 2 : (byte) 0);
+                if (recorded >= minimumCalls
+                        && (failures >= failureRateThreshold * recorded || slowCalls >= failureRateThreshold * recorded)) {
+                    open(now);
+                }
+            }
+            to = state;
+        }
+        if (from != to) {
+            listener.onTransition(from, to);
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(byte outcome) {
+        if (recorded == outcomes.length) {
+            forget(outcomes[next]);
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        if (outcome == 1) failures++;
+        if (outcome == 2) slowCalls++;
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == 1) failures--;
+        if (outcome == 2) slowCalls--;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.espacogeek.geek.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts the public methods of a provider client behind the circuit breaker and
+ * bulkhead of the provider, see {@link ProviderGuardAspect}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GuardedProvider {
+    OutboundProvider value();
+}
@@ -0,0 +1,219 @@
+package com.espacogeek.geek.http;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.api.igdb.request.TwitchAuthenticator;
+import com.espacogeek.geek.data.api.MediaApi.ApiKey;
+import com.espacogeek.geek.exception.GenericException;
+import com.espacogeek.geek.services.ApiKeyService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Keeps the Twitch app token the IGDB requests are signed with.
+ * <p>
+ * The client ID, secret and token are read from <code>api_keys</code> once, at
+ * startup, and served from memory afterwards. Every
+ * <code>igdb.token.check-interval-ms</code> the token is renewed in the
+ * background when it expires within <code>igdb.token.refresh-before-seconds</code>,
+ * or when its expiry is unknown, like the token stored by a previous run. A
+ * token IGDB rejects is renewed at once through {@link #renew(String)}.
+ * Concurrent renewals share one Twitch request.
+ */
+@Component
+@Slf4j
+public class IgdbTokenManager {
+    private static final long UNKNOWN = 0L;
+
+    /**
+     * The headers of an IGDB request.
+     */
+    public record Credentials(String clientId, String accessToken) {
+    }
+
+    record IssuedToken(String accessToken, long expiresInSeconds) {
+    }
+
+    @FunctionalInterface
+    interface TokenSource {
+        IssuedToken request(String clientId, String clientSecret);
+    }
+
+    private final ApiKeyService apiKeyService;
+    private final TokenSource tokenSource;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final boolean enabled;
+    private final Duration refreshBefore;
+    private final AtomicReference<CompletableFuture<Credentials>> renewal = new AtomicReference<>();
+
+    private volatile String clientSecret;
+    private volatile Credentials credentials;
+    private volatile long expiresAt = UNKNOWN;
+
+    @Autowired
+    public IgdbTokenManager(
+        ApiKeyService apiKeyService,
+        MeterRegistry meterRegistry,
+        @Value("${igdb.token.refresh.enabled:true}") boolean enabled,
+        @Value("${igdb.token.refresh-before-seconds:86400}") long refreshBeforeSeconds
+    ) {
+        this(apiKeyService, IgdbTokenManager::requestTwitchToken, meterRegistry, System::currentTimeMillis, enabled, Duration.ofSeconds(refreshBeforeSeconds));
+    }
+
+    IgdbTokenManager(ApiKeyService apiKeyService, TokenSource tokenSource, MeterRegistry meterRegistry, LongSupplier clock, boolean enabled, Duration refreshBefore) {
+        this.apiKeyService = apiKeyService;
+        this.tokenSource = tokenSource;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.refreshBefore = refreshBefore;
+        Gauge.builder("igdb.token.expires_in", this, IgdbTokenManager::secondsToExpiry)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        this.clientSecret = key(ApiKey.IGDB_CLIENT_SECRET);
+        this.credentials = new Credentials(key(ApiKey.IGDB_CLIENT_ID), key(ApiKey.IGDB_TOKEN));
+    }
+
+    /**
+     * @return the current credentials, from memory.
+     */
+    public Credentials credentials() {
+        return credentials;
+    }
+
+    @Scheduled(initialDelayString = "${igdb.token.check-initial-delay-ms:60000}", fixedDelayString = "${igdb.token.check-interval-ms:3600000}")
+    public void scheduledRenewal() {
+        if (!enabled || !isExpiring()) {
+            return;
+        }
+        try {
+            renew(credentials.accessToken());
+        } catch (RuntimeException e) {
+            log.error("Could not renew the IGDB token", e);
+        }
+    }
+
+    /**
+     * Renews the token, unless it was renewed since <code>staleToken</code>
+     * was read, in which case the current credentials are returned. A caller
+     * that asks while a renewal runs waits for it instead of starting another.
+     *
+     * @param staleToken the token the caller found expired or rejected.
+     * @return the credentials to retry with.
+     * @throws GenericException if Twitch does not issue a token.
+     */
+    public Credentials renew(String staleToken) {
+        while (true) {
+            Credentials current = credentials;
+            if (!current.accessToken().equals(staleToken)) {
+                return current;
+            }
+            CompletableFuture<Credentials> running = renewal.get();
+            if (running != null) {
+                return join(running);
+            }
+
+            CompletableFuture<Credentials> mine = new CompletableFuture<>();
+            if (renewal.compareAndSet(null, mine)) {
+                try {
+                    // A renewal that ended between the reads above already replaced the token.
+                    mine.complete(credentials.accessToken().equals(staleToken) ? requestToken() : credentials);
+                } catch (RuntimeException e) {
+                    mine.completeExceptionally(e);
+                } finally {
+                    renewal.set(null);
+                }
+                return join(mine);
+            }
+        }
+    }
+
+    boolean isExpiring() {
+        return expiresAt == UNKNOWN || clock.getAsLong() >= expiresAt - refreshBefore.toMillis();
+    }
+
+    private Credentials requestToken() {
+        String clientId = credentials.clientId();
+        IssuedToken issued;
+        try {
+            issued = tokenSource.request(clientId, clientSecret);
+        } catch (RuntimeException e) {
+            meterRegistry.counter("igdb.token.renewals", "result", "failure").increment();
+            throw e;
+        }
+        if (issued == null) {
+            meterRegistry.counter("igdb.token.renewals", "result", "failure").increment();
+            throw new GenericException("Twitch did not issue an IGDB token");
+        }
+
+        Credentials renewed = new Credentials(clientId, issued.accessToken());
+        this.expiresAt = clock.getAsLong() + Duration.ofSeconds(issued.expiresInSeconds()).toMillis();
+        this.credentials = renewed;
+        meterRegistry.counter("igdb.token.renewals", "result", "success").increment();
+        log.info("Renewed the IGDB token, valid for {} seconds", issued.expiresInSeconds());
+
+        store(renewed.accessToken());
+        return renewed;
+    }
+
+    /**
+     * Keeps the token for the next start. A failure only costs that start a
+     * renewal, so it is logged and ignored.
+     */
+    private void store(String accessToken) {
+        try {
+            apiKeyService.findById(ApiKey.IGDB_TOKEN.getId())
+                .filter(apiKey -> !accessToken.equals(apiKey.getKey()))
+                .ifPresent(apiKey -> {
+                    apiKey.setKey(accessToken);
+                    apiKeyService.save(apiKey);
+                });
+        } catch (RuntimeException e) {
+            log.warn("Could not store the renewed IGDB token: {}", e.getMessage());
+        }
+    }
+
+    private String key(ApiKey apiKey) {
+        return apiKeyService.findById(apiKey.getId())
+            .orElseThrow(() -> new GenericException("API key " + apiKey + " not found"))
+            .getKey();
+    }
+
+    private double secondsToExpiry() {
+        long at = expiresAt;
+        return at == UNKNOWN ? Double.NaN : (at - clock.getAsLong()) / 1000.0;
+    }
+
+    private static Credentials join(CompletableFuture<Credentials> renewal) {
+        try {
+            return renewal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static IssuedToken requestTwitchToken(String clientId, String clientSecret) {
+        var token = TwitchAuthenticator.INSTANCE.requestTwitchToken(clientId, clientSecret);
+        return token == null ? null : new IssuedToken(token.getAccess_token(), token.getExpires_in());
+    }
+}
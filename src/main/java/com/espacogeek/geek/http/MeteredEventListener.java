@@ -0,0 +1,79 @@
+package com.espacogeek.geek.http;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+
+/**
+ * Times one call of an {@link okhttp3.OkHttpClient}: the connection setup,
+ * the time to the first response byte and the whole call, all tagged with
+ * the provider. A call that reuses a pooled connection records no connect
+ * time.
+ */
+class MeteredEventListener extends EventListener {
+    private final MeterRegistry meterRegistry;
+    private final String provider;
+
+    private long callStart;
+    private long connectStart;
+    private boolean firstByteRecorded;
+
+    MeteredEventListener(MeterRegistry meterRegistry, String provider) {
+        this.meterRegistry = meterRegistry;
+        this.provider = provider;
+    }
+
+    static EventListener.Factory factory(MeterRegistry meterRegistry, String provider) {
+        return call -> new MeteredEventListener(meterRegistry, provider);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        record("http.client.connect", connectStart, "protocol", protocol == null ? "unknown" : protocol.toString());
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        record("http.client.connect", connectStart, "protocol", "failed");
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        if (!firstByteRecorded) {
+            firstByteRecorded = true;
+            record("http.client.ttfb", callStart);
+        }
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        record("http.client.calls", callStart, "outcome", "success");
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        record("http.client.calls", callStart, "outcome", "failure");
+    }
+
+    private void record(String name, long start, String... tags) {
+        meterRegistry.timer(name, Tags.of(tags).and("provider", provider))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,121 @@
+package com.espacogeek.geek.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import com.espacogeek.geek.cache.ProviderResponseCache;
+
+import info.movito.themoviedbapi.model.core.responses.TmdbResponseException;
+import info.movito.themoviedbapi.tools.RequestType;
+import info.movito.themoviedbapi.tools.TmdbUrlReader;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Makes the TMDB library send its requests through our pooled
+ * {@link OkHttpClient} instead of opening its own connections.
+ * <p>
+ * Like the library's own reader, the body is returned whatever the status
+ * code, since TMDB describes its errors in the JSON the library parses.
+ * <p>
+ * The successful <code>GET</code>s about one id, like
+ * <code>/movie/{id}/keywords</code>, are kept in the
+ * {@link ProviderResponseCache}, under the resource (<code>movie</code>), the
+ * id and the rest of the path as endpoint (<code>keywords</code>, or
+ * <code>details</code> for the id itself). Searches and lists are not.
+ */
+public class OkHttpTmdbUrlReader implements TmdbUrlReader {
+    private static final MediaType JSON = MediaType.get("application/json;charset=utf-8");
+    private static final String PROVIDER = "tmdb";
+
+    private final OkHttpClient client;
+    private final String apiKey;
+    private final ProviderResponseCache responseCache;
+
+    public OkHttpTmdbUrlReader(OkHttpClient client, String apiKey, ProviderResponseCache responseCache) {
+        this.client = client;
+        this.apiKey = apiKey;
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public String readUrl(String url, String jsonBody, RequestType requestType) throws TmdbResponseException {
+        Optional<ProviderResponseCache.Key> cacheKey = requestType == RequestType.GET ? cacheKeyOf(url) : Optional.empty();
+        if (cacheKey.isPresent()) {
+            Optional<byte[]> cached = responseCache.get(cacheKey.get());
+            if (cached.isPresent()) {
+                return new String(cached.get(), StandardCharsets.UTF_8);
+            }
+        }
+
+        RequestBody body = jsonBody == null ? RequestBody.create(new byte[0], JSON) : RequestBody.create(jsonBody, JSON);
+        Request.Builder request = new Request.Builder()
+                .url(url)
+                .addHeader("Accept", "application/json")
+                .addHeader("Authorization", "Bearer " + apiKey);
+        switch (requestType) {
+            case POST -> request.post(body);
+            case DELETE -> request.delete(jsonBody == null ? null : body);
+            default -> request.get();
+        }
+
+        try (Response response = client.newCall(request.build()).execute()) {
+            ResponseBody responseBody = response.body();
+            if (responseBody == null) {
+                return "";
+            }
+            byte[] content = responseBody.bytes();
+            if (response.isSuccessful() && cacheKey.isPresent()) {
+                responseCache.put(cacheKey.get(), content);
+            }
+            return new String(content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new TmdbResponseException(e);
+        }
+    }
+
+    /**
+     * @return the cache key of a request about one id, like
+     *         <code>/3/tv/1399/season/1?language=en-US</code>. The endpoint of
+     *         a request that appends other endpoints to the response lists
+     *         them all, like <code>details,keywords,images</code>.
+     */
+    static Optional<ProviderResponseCache.Key> cacheKeyOf(String url) {
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        if (httpUrl == null) {
+            return Optional.empty();
+        }
+        // The first segment is the API version.
+        List<String> segments = httpUrl.pathSegments();
+        for (int i = 2; i < segments.size(); i++) {
+            if (!isId(segments.get(i)) || isId(segments.get(i - 1))) {
+                continue;
+            }
+            List<String> rest = segments.subList(i + 1, segments.size());
+            String endpoint = rest.stream().filter(segment -> !isId(segment)).reduce((a, b) -> a + "." + b).orElse("details");
+            String appended = httpUrl.queryParameter("append_to_response");
+            if (appended != null) {
+                for (String append : appended.split(",")) {
+                    if (!append.isBlank()) {
+                        endpoint += "," + append.trim().split("/")[0];
+                    }
+                }
+            }
+            String query = httpUrl.newBuilder().removeAllQueryParameters("api_key").build().encodedQuery();
+            String variant = String.join("/", rest) + (query == null ? "" : "?" + query);
+            return Optional.of(new ProviderResponseCache.Key(PROVIDER, segments.get(i - 1), segments.get(i), endpoint, variant));
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isId(String segment) {
+        return !segment.isEmpty() && segment.chars().allMatch(Character::isDigit);
+    }
+}
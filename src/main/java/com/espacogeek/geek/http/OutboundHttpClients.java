@@ -0,0 +1,99 @@
+package com.espacogeek.geek.http;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Owns the one {@link OkHttpClient} every external call goes through.
+ * <p>
+ * All the providers share the same connection pool and dispatcher, so
+ * connections are kept alive and reused between calls (and multiplexed when
+ * the server speaks HTTP/2) instead of opening a new TLS session each time.
+ * OkHttp asks for and unpacks gzip responses by itself. What changes per
+ * provider is the timeouts, the metric tag and the rate limit of
+ * {@link ProviderRateLimiter}, through {@link #client(OutboundProvider)}.
+ * <p>
+ * Metrics: <code>http.client.pool.connections{state}</code> for the pool,
+ * and <code>http.client.connect</code>, <code>http.client.ttfb</code> and
+ * <code>http.client.calls</code> per provider, see {@link MeteredEventListener}.
+ */
+@Component
+public class OutboundHttpClients {
+    private final OkHttpClient base;
+    private final Map<OutboundProvider, OkHttpClient> clients = new EnumMap<>(OutboundProvider.class);
+
+    public OutboundHttpClients(
+        Environment environment,
+        MeterRegistry meterRegistry,
+        ProviderRateLimiter rateLimiter,
+        @Value("${http.client.pool.max-idle:20}") int maxIdleConnections,
+        @Value("${http.client.pool.keep-alive-seconds:300}") long keepAliveSeconds,
+        @Value("${http.client.max-requests:128}") int maxRequests,
+        @Value("${http.client.max-requests-per-host:32}") int maxRequestsPerHost
+    ) {
+        ConnectionPool pool = new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS);
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        this.base = new OkHttpClient.Builder()
+                .connectionPool(pool)
+                .dispatcher(dispatcher)
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .retryOnConnectionFailure(true)
+                .build();
+
+        Gauge.builder("http.client.pool.connections", pool, ConnectionPool::idleConnectionCount)
+                .tag("state", "idle")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.connections", pool, p -> p.connectionCount() - p.idleConnectionCount())
+                .tag("state", "active")
+                .register(meterRegistry);
+        Gauge.builder("http.client.dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .register(meterRegistry);
+
+        for (OutboundProvider provider : OutboundProvider.values()) {
+            clients.put(provider, base.newBuilder()
+                    .connectTimeout(timeout(environment, provider, "connect-timeout-ms", provider.getConnectTimeout()))
+                    .readTimeout(timeout(environment, provider, "read-timeout-ms", provider.getReadTimeout()))
+                    .callTimeout(timeout(environment, provider, "call-timeout-ms", provider.getCallTimeout()))
+                    .addInterceptor(new RateLimitInterceptor(rateLimiter, provider))
+                    .eventListenerFactory(MeteredEventListener.factory(meterRegistry, provider.getKey()))
+                    .build());
+        }
+    }
+
+    private static Duration timeout(Environment environment, OutboundProvider provider, String name, Duration fallback) {
+        Long millis = environment.getProperty("http.client." + provider.getKey() + "." + name, Long.class);
+        return millis == null ? fallback : Duration.ofMillis(millis);
+    }
+
+    /**
+     * @param provider the service to call.
+     * @return the client of the provider, on the shared pool.
+     */
+    public OkHttpClient client(OutboundProvider provider) {
+        return clients.get(provider);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        base.dispatcher().executorService().shutdown();
+        base.connectionPool().evictAll();
+    }
+}
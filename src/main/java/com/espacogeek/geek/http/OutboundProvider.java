@@ -0,0 +1,35 @@
+package com.espacogeek.geek.http;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * The external services the API calls, with their default timeouts. A zero
+ * timeout means none.
+ * <p>
+ * Each default can be changed with
+ * <code>http.client.{key}.connect-timeout-ms</code>,
+ * <code>http.client.{key}.read-timeout-ms</code> and
+ * <code>http.client.{key}.call-timeout-ms</code>.
+ */
+@Getter
+public enum OutboundProvider {
+    TMDB("tmdb", Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(30)),
+    /** The daily export files, which are large and streamed. */
+    TMDB_EXPORT("tmdb-export", Duration.ofSeconds(10), Duration.ofSeconds(60), Duration.ZERO),
+    IGDB("igdb", Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(30)),
+    QUOTE("quote", Duration.ofSeconds(3), Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+    private final String key;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration callTimeout;
+
+    OutboundProvider(String key, Duration connectTimeout, Duration readTimeout, Duration callTimeout) {
+        this.key = key;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.callTimeout = callTimeout;
+    }
+}
@@ -0,0 +1,51 @@
+package com.espacogeek.geek.http;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the public methods of the {@link GuardedProvider} beans through
+ * {@link ProviderGuards}.
+ * <p>
+ * It is ordered outside the <code>@Retryable</code> advice, so a call counts
+ * once whatever its retries, and an open breaker answers at once instead of
+ * being retried. The TMDB export downloads (<code>updateTitles*</code>) are
+ * left out: they go to another host and only run in batch jobs.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class ProviderGuardAspect {
+    private final ProviderGuards providerGuards;
+
+    public ProviderGuardAspect(ProviderGuards providerGuards) {
+        this.providerGuards = providerGuards;
+    }
+
+    @Around("@within(guardedProvider) && execution(public * *(..)) && !execution(* updateTitles*(..))")
+    public Object guard(ProceedingJoinPoint joinPoint, GuardedProvider guardedProvider) throws Throwable {
+        try {
+            return providerGuards.call(guardedProvider.value(), () -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedCallException(e);
+                }
+            });
+        } catch (CheckedCallException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class CheckedCallException extends RuntimeException {
+        CheckedCallException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
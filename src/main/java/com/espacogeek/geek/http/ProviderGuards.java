@@ -0,0 +1,135 @@
+package com.espacogeek.geek.http;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.espacogeek.geek.exception.ProviderUnavailableException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The circuit breaker and the bulkhead of every provider.
+ * <p>
+ * A call is rejected with a {@link ProviderUnavailableException}, without
+ * reaching the provider, when its breaker is open or when
+ * <code>http.bulkhead.{key}.max-concurrent</code> calls to it are already
+ * running and none ends within <code>http.bulkhead.max-wait-ms</code>. The
+ * breaker settings, <code>http.circuit-breaker.*</code>, are shared by
+ * every provider.
+ * <p>
+ * Metrics: <code>http.circuit_breaker.state{provider}</code> (0 closed, 1
+ * open, 2 half open), <code>http.circuit_breaker.transitions{provider,state}</code>,
+ * <code>http.bulkhead.available{provider}</code> and
+ * <code>http.calls.rejected{provider,reason}</code>.
+ */
+@Slf4j
+@Component
+public class ProviderGuards {
+    private static final Map<OutboundProvider, Integer> DEFAULT_MAX_CONCURRENT = Map.of(
+            OutboundProvider.TMDB, 20,
+            OutboundProvider.IGDB, 8,
+            OutboundProvider.QUOTE, 2);
+
+    private final MeterRegistry meterRegistry;
+    private final long bulkheadMaxWaitMs;
+    private final Map<OutboundProvider, CircuitBreaker> breakers = new EnumMap<>(OutboundProvider.class);
+    private final Map<OutboundProvider, Semaphore> bulkheads = new EnumMap<>(OutboundProvider.class);
+
+    public ProviderGuards(
+        Environment environment,
+        MeterRegistry meterRegistry,
+        @Value("${http.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+        @Value("${http.circuit-breaker.slow-call-ms:5000}") long slowCallMs,
+        @Value("${http.circuit-breaker.window-size:20}") int windowSize,
+        @Value("${http.circuit-breaker.minimum-calls:10}") int minimumCalls,
+        @Value("${http.circuit-breaker.open-ms:30000}") long openMs,
+        @Value("${http.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+        @Value("${http.bulkhead.max-wait-ms:0}") long bulkheadMaxWaitMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.bulkheadMaxWaitMs = bulkheadMaxWaitMs;
+
+        for (OutboundProvider provider : OutboundProvider.values()) {
+            String key = provider.getKey();
+            CircuitBreaker breaker = new CircuitBreaker(failureRateThreshold, slowCallMs, windowSize, minimumCalls, openMs, halfOpenCalls,
+                    (from, to) -> {
+                        log.warn("Circuit breaker of {} went from {} to {}", key, from, to);
+                        meterRegistry.counter("http.circuit_breaker.transitions", "provider", key, "state", to.name().toLowerCase()).increment();
+                    });
+            breakers.put(provider, breaker);
+            Gauge.builder("http.circuit_breaker.state", breaker, b -> b.state().gaugeValue())
+                    .tag("provider", key)
+                    .register(meterRegistry);
+
+            int maxConcurrent = environment.getProperty("http.bulkhead." + key + ".max-concurrent", Integer.class,
+                    DEFAULT_MAX_CONCURRENT.getOrDefault(provider, 10));
+            Semaphore bulkhead = new Semaphore(maxConcurrent);
+            bulkheads.put(provider, bulkhead);
+            Gauge.builder("http.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                    .tag("provider", key)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Runs a call to the provider behind its breaker and bulkhead.
+     *
+     * @param provider the provider called.
+     * @param call     the call.
+     * @return what the call returned.
+     * @throws ProviderUnavailableException if the call was rejected.
+     */
+    public <T> T call(OutboundProvider provider, Supplier<T> call) {
+        CircuitBreaker breaker = breakers.get(provider);
+        Semaphore bulkhead = bulkheads.get(provider);
+
+        if (!acquire(bulkhead)) {
+            reject(provider, "bulkhead_full");
+        }
+        try {
+            if (!breaker.tryAcquire(System.nanoTime())) {
+                reject(provider, "circuit_open");
+            }
+
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                T result = call.get();
+                success = true;
+                return result;
+            } catch (UnsupportedOperationException e) {
+                // Not a provider failure: the client does not implement the method.
+                success = true;
+                throw e;
+            } finally {
+                long end = System.nanoTime();
+                breaker.onResult(success, end - start, end);
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean acquire(Semaphore bulkhead) {
+        try {
+            return bulkheadMaxWaitMs <= 0 ? bulkhead.tryAcquire() : bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(OutboundProvider provider, String reason) {
+        meterRegistry.counter("http.calls.rejected", "provider", provider.getKey(), "reason", reason).increment();
+        throw new ProviderUnavailableException(provider.getKey());
+    }
+}
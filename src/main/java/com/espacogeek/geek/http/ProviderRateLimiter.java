@@ -0,0 +1,102 @@
+package com.espacogeek.geek.http;
+
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the calls to each provider within its quota, with one
+ * {@link TokenBucket} per provider shared by every thread of the application.
+ * <p>
+ * Every call made through {@link OutboundHttpClients} takes a permit first,
+ * with the {@link RequestPriority} of the calling thread. The rate and burst
+ * of a provider are <code>http.rate-limit.{key}.permits-per-second</code> and
+ * <code>http.rate-limit.{key}.burst</code>; a provider without a rate, like
+ * the TMDB export files, is not limited.
+ * <p>
+ * Metrics: <code>http.rate_limit.available{provider}</code>, the permits left
+ * in the bucket, <code>http.rate_limit.permits{provider,priority}</code> and
+ * <code>http.rate_limit.wait{provider,priority}</code>, the time spent waiting
+ * for them.
+ */
+@Component
+public class ProviderRateLimiter {
+    private static final Map<OutboundProvider, Double> DEFAULT_RATES = Map.of(
+            OutboundProvider.TMDB, 40d,
+            OutboundProvider.IGDB, 4d,
+            OutboundProvider.QUOTE, 1d);
+    private static final long BACKGROUND_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<OutboundProvider, TokenBucket> buckets = new EnumMap<>(OutboundProvider.class);
+
+    public ProviderRateLimiter(
+        Environment environment,
+        MeterRegistry meterRegistry,
+        @Value("${http.rate-limit.background-reserve:0.5}") double backgroundReserve
+    ) {
+        this.meterRegistry = meterRegistry;
+        long now = System.nanoTime();
+        for (OutboundProvider provider : OutboundProvider.values()) {
+            String prefix = "http.rate-limit." + provider.getKey() + ".";
+            double rate = environment.getProperty(prefix + "permits-per-second", Double.class, DEFAULT_RATES.getOrDefault(provider, 0d));
+            if (rate <= 0) {
+                continue;
+            }
+            int burst = environment.getProperty(prefix + "burst", Integer.class, (int) Math.max(1, Math.ceil(rate)));
+            TokenBucket bucket = new TokenBucket(rate, burst, backgroundReserve, now);
+            buckets.put(provider, bucket);
+            Gauge.builder("http.rate_limit.available", bucket, b -> b.available(System.nanoTime()))
+                    .tag("provider", provider.getKey())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Waits for a permit to call the provider.
+     *
+     * @param provider the provider about to be called.
+     * @param priority the priority of the call.
+     * @throws InterruptedIOException if the thread is interrupted while waiting.
+     */
+    public void acquire(OutboundProvider provider, RequestPriority priority) throws InterruptedIOException {
+        TokenBucket bucket = buckets.get(provider);
+        if (bucket == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (priority == RequestPriority.INTERACTIVE) {
+                sleep(bucket.reserve(start));
+            } else {
+                long wait;
+                while ((wait = bucket.tryAcquireBackground(System.nanoTime())) > 0) {
+                    sleep(Math.max(wait, BACKGROUND_RETRY_NANOS));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a " + provider.getKey() + " permit");
+        }
+
+        String priorityTag = priority.name().toLowerCase();
+        meterRegistry.counter("http.rate_limit.permits", "provider", provider.getKey(), "priority", priorityTag).increment();
+        meterRegistry.timer("http.rate_limit.wait", "provider", provider.getKey(), "priority", priorityTag)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static void sleep(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.espacogeek.geek.http;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Takes a permit of the provider, with the priority of the calling thread,
+ * before letting a call through.
+ */
+class RateLimitInterceptor implements Interceptor {
+    private final ProviderRateLimiter rateLimiter;
+    private final OutboundProvider provider;
+
+    RateLimitInterceptor(ProviderRateLimiter rateLimiter, OutboundProvider provider) {
+        this.rateLimiter = rateLimiter;
+        this.provider = provider;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        rateLimiter.acquire(provider, RequestPriority.current());
+        return chain.proceed(chain.request());
+    }
+}
@@ -0,0 +1,75 @@
+package com.espacogeek.geek.http;
+
+/**
+ * How urgent the provider calls of the current thread are.
+ * <p>
+ * Calls are {@link #INTERACTIVE} unless the code making them runs inside
+ * {@link #runAs(RequestPriority, Runnable)}. The rate limiter keeps part of
+ * every provider quota for interactive calls, so batch jobs and background
+ * refreshes never leave a user waiting behind them.
+ */
+public enum RequestPriority {
+    /** A user is waiting for the answer. */
+    INTERACTIVE,
+    /** Batch ingestion and background refreshes. */
+    BACKGROUND;
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @return the priority of the calls made by the current thread.
+     */
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority == null ? INTERACTIVE : priority;
+    }
+
+    /**
+     * Runs the task with the given priority, restoring the previous one after.
+     *
+     * @param priority the priority of the calls made by the task.
+     * @param task     the task.
+     */
+    public static void runAs(RequestPriority priority, Runnable task) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Wraps a task handed to another thread so it runs with the priority of
+     * the thread that wraps it. Meant for the <code>TaskDecorator</code> of
+     * executors that run provider calls for other threads.
+     *
+     * @param task the task.
+     * @return the task, run with the current priority.
+     */
+    public static Runnable inherit(Runnable task) {
+        RequestPriority priority = current();
+        return () -> runAs(priority, task);
+    }
+
+    /**
+     * Sets the priority of the current thread until {@link #clear()}, for code
+     * that cannot wrap its work in {@link #runAs(RequestPriority, Runnable)}.
+     */
+    public static void set(RequestPriority priority) {
+        CURRENT.set(priority);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    private static void restore(RequestPriority previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
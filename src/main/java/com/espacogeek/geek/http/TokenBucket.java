@@ -0,0 +1,87 @@
+package com.espacogeek.geek.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket, kept as the time at which it will be full again
+ * (the generic cell rate algorithm): taking a permit moves that time one
+ * interval further with a compare-and-set, so no thread ever blocks another.
+ * <p>
+ * Interactive callers reserve their permit straight away and wait for it if
+ * the bucket is empty. Background callers only take a permit while more
+ * than the reserved share of the bucket is left, and otherwise wait and
+ * retry, so they can never queue ahead of an interactive call.
+ */
+final class TokenBucket {
+    private final long intervalNanos;
+    private final long burst;
+    // How far ahead of now the full time may be for each kind of caller.
+    private final long interactiveToleranceNanos;
+    private final long backgroundToleranceNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param permitsPerSecond  the sustained rate.
+     * @param burst             how many permits can be taken at once.
+     * @param backgroundReserve share of the burst background callers cannot use,
+     *                          always leaving them at least one permit.
+     * @param now               the current {@link System#nanoTime()}.
+     */
+    TokenBucket(double permitsPerSecond, int burst, double backgroundReserve, long now) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("A token bucket needs a positive rate and burst");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burst = burst;
+        this.interactiveToleranceNanos = (burst - 1) * intervalNanos;
+        long reserved = Math.min(burst - 1, (long) Math.floor(burst * backgroundReserve));
+        this.backgroundToleranceNanos = interactiveToleranceNanos - reserved * intervalNanos;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Reserves a permit.
+     *
+     * @param now the current {@link System#nanoTime()}.
+     * @return the nanoseconds to wait before using the permit.
+     */
+    long reserve(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (fullAt.compareAndSet(current, next)) {
+                return Math.max(0, current - interactiveToleranceNanos - now);
+            }
+        }
+    }
+
+    /**
+     * Takes a permit if one is left outside the interactive reserve.
+     *
+     * @param now the current {@link System#nanoTime()}.
+     * @return zero when the permit was taken, or else the nanoseconds to wait
+     *         before trying again.
+     */
+    long tryAcquireBackground(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long wait = current - backgroundToleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, Math.max(current, now) + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param now the current {@link System#nanoTime()}.
+     * @return the permits that can be taken right now.
+     */
+    long available(long now) {
+        long available = (now + interactiveToleranceNanos + intervalNanos - fullAt.get()) / intervalNanos;
+        return Math.max(0, Math.min(burst, available));
+    }
+}
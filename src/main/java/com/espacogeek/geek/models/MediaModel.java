@@ -91,6 +91,13 @@ public class MediaModel implements Serializable {
     @OneToMany(mappedBy = "media", fetch = FetchType.LAZY)
     private Set<SeasonModel> season;
 
+    /**
+     * Hash of the last provider payload applied to this media, see
+     * {@link com.espacogeek.geek.utils.MediaPayloadHash}.
+     */
+    @Column(name = "payload_hash")
+    private Long payloadHash;
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
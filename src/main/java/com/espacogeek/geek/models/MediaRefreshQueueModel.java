@@ -0,0 +1,47 @@
+package com.espacogeek.geek.models;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "media_refresh_queue")
+public class MediaRefreshQueueModel implements Serializable {
+    @Id
+    @Column(name = "media_id")
+    private Integer mediaId;
+
+    @Column(name = "provider", length = 20, nullable = false)
+    private String provider;
+
+    @Column(name = "priority", nullable = false)
+    private Double priority;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "enqueued_at", nullable = false)
+    private Date enqueuedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "locked_until")
+    private Date lockedUntil;
+}
@@ -0,0 +1,32 @@
+package com.espacogeek.geek.models;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "provider_sync_state")
+public class ProviderSyncStateModel implements Serializable {
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "synced_until", nullable = false)
+    private LocalDate syncedUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
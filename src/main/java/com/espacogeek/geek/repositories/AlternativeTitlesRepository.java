@@ -3,11 +3,15 @@ package com.espacogeek.geek.repositories;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.espacogeek.geek.models.AlternativeTitleModel;
 import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.types.AlternativeTitleSummary;
 
 @Repository
 public interface AlternativeTitlesRepository extends JpaRepository<AlternativeTitleModel, Integer> {
@@ -16,4 +20,16 @@ public interface AlternativeTitlesRepository extends JpaRepository<AlternativeTi
 
     List<AlternativeTitleModel> findByMediaIn(Collection<MediaModel> medias);
 
+    /**
+     * Loads alternative title summaries ordered by ID, starting after the given
+     * ID, so the whole table can be walked in fixed-size chunks.
+     *
+     * @param lastId   the last ID of the previous chunk, or 0 for the first one.
+     * @param pageable the chunk size; only the first page is used.
+     * @return the next chunk of alternative title summaries.
+     */
+    @Query("SELECT new com.espacogeek.geek.types.AlternativeTitleSummary(a.id, a.media.id, a.name) " +
+           "FROM AlternativeTitleModel a WHERE a.id > :lastId ORDER BY a.id")
+    List<AlternativeTitleSummary> findSummariesByIdGreaterThan(@Param("lastId") Integer lastId, Pageable pageable);
+
 }
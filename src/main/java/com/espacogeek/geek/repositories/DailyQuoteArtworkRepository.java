@@ -11,4 +11,6 @@ import com.espacogeek.geek.models.DailyQuoteArtworkModel;
 @Repository
 public interface DailyQuoteArtworkRepository extends JpaRepository<DailyQuoteArtworkModel, Integer> {
     Optional<DailyQuoteArtworkModel> findByDate(Date date);
+
+    Optional<DailyQuoteArtworkModel> findFirstByOrderByDateDesc();
 }
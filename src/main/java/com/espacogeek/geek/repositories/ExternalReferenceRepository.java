@@ -4,12 +4,16 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.types.ExternalReferenceKey;
 
 @Repository
 public interface ExternalReferenceRepository extends JpaRepository<ExternalReferenceModel, Integer> {
@@ -22,4 +26,43 @@ public interface ExternalReferenceRepository extends JpaRepository<ExternalRefer
     List<ExternalReferenceModel> findAllByMediaIn(Collection<MediaModel> medias);
 
     boolean existsByMediaId(Integer id);
+
+    /**
+     * Maps external IDs of one provider to the IDs of the local medias, in one
+     * query. External IDs without a media are left out.
+     *
+     * @param references    the external IDs.
+     * @param typeReference the ID of the provider type reference.
+     * @param categories    the media categories the IDs belong to, since the
+     *                      IDs of a provider may repeat across its catalogs.
+     * @return the IDs of the matching medias.
+     */
+    @Query("SELECT DISTINCT e.media.id FROM ExternalReferenceModel e " +
+           "WHERE e.typeReference.id = :typeReference AND e.reference IN :references " +
+           "AND e.media.mediaCategory.id IN :categories")
+    List<Integer> findMediaIdsByReferences(
+            @Param("references") Collection<String> references,
+            @Param("typeReference") Integer typeReference,
+            @Param("categories") Collection<Integer> categories);
+
+    /**
+     * Finds the next references of one provider in ID order, starting a page
+     * after the given ID, so every reference can be scanned by keyset pages
+     * without loading an entity per row.
+     *
+     * @param typeReference the ID of the provider type reference.
+     * @param after         the ID of the last reference of the previous page,
+     *                      or <code>0</code> for the first page.
+     * @param pageable      the number of references to return; only the first
+     *                      page is used.
+     * @return the ID and value of the references found.
+     */
+    @Query("SELECT new com.espacogeek.geek.types.ExternalReferenceKey(e.id, e.reference) " +
+           "FROM ExternalReferenceModel e " +
+           "WHERE e.typeReference.id = :typeReference AND e.id > :after " +
+           "ORDER BY e.id")
+    List<ExternalReferenceKey> findKeysByTypeReferenceAfter(
+            @Param("typeReference") Integer typeReference,
+            @Param("after") Integer after,
+            Pageable pageable);
 }
@@ -0,0 +1,139 @@
+package com.espacogeek.geek.repositories;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.espacogeek.geek.models.MediaRefreshQueueModel;
+
+@Repository
+public interface MediaRefreshQueueRepository extends JpaRepository<MediaRefreshQueueModel, Integer> {
+    /**
+     * Queues the stale medias that are in the most user lists, or updates the
+     * priority of the ones already queued.
+     * <p>
+     * The priority is <code>users * popularityWeight + days since the last
+     * update</code>, counting <code>neverUpdatedAgeDays</code> for medias never
+     * updated. Games and visual novels are refreshed from IGDB, the rest from
+     * TMDB.
+     *
+     * @return the number of rows inserted or updated, as reported by MariaDB.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO media_refresh_queue (media_id, provider, priority, enqueued_at, attempts)
+            SELECT m.id_media,
+                   CASE WHEN m.id_category IN (2, 3) THEN 'IGDB' ELSE 'TMDB' END,
+                   COUNT(*) * :popularityWeight
+                       + COALESCE(TIMESTAMPDIFF(HOUR, m.update_at, :now) / 24.0, :neverUpdatedAgeDays),
+                   :now,
+                   0
+            FROM user_media_list l
+            JOIN medias m ON m.id_media = l.media_id
+            WHERE (m.update_at IS NULL OR m.update_at < :staleBefore)
+              AND m.id_category IN (1, 2, 3, 4, 5, 7)
+            GROUP BY m.id_media, m.id_category, m.update_at
+            ORDER BY COUNT(*) DESC
+            LIMIT :limit
+            ON DUPLICATE KEY UPDATE priority = VALUES(priority)
+            """, nativeQuery = true)
+    int enqueuePopularStaleMedias(
+            @Param("now") Date now,
+            @Param("staleBefore") Date staleBefore,
+            @Param("popularityWeight") double popularityWeight,
+            @Param("neverUpdatedAgeDays") double neverUpdatedAgeDays,
+            @Param("limit") int limit);
+
+    /**
+     * Queues the stale medias not queued yet, least recently updated (or never
+     * updated) first, with the same priority as
+     * {@link #enqueuePopularStaleMedias}. Walks <code>idx_media_update_at</code>
+     * instead of ranking every stale media.
+     *
+     * @return the number of rows inserted.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO media_refresh_queue (media_id, provider, priority, enqueued_at, attempts)
+            SELECT m.id_media,
+                   CASE WHEN m.id_category IN (2, 3) THEN 'IGDB' ELSE 'TMDB' END,
+                   (SELECT COUNT(*) FROM user_media_list l WHERE l.media_id = m.id_media) * :popularityWeight
+                       + COALESCE(TIMESTAMPDIFF(HOUR, m.update_at, :now) / 24.0, :neverUpdatedAgeDays),
+                   :now,
+                   0
+            FROM medias m
+            WHERE (m.update_at IS NULL OR m.update_at < :staleBefore)
+              AND m.id_category IN (1, 2, 3, 4, 5, 7)
+              AND NOT EXISTS (SELECT 1 FROM media_refresh_queue q WHERE q.media_id = m.id_media)
+            ORDER BY m.update_at ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    int enqueueOldestStaleMedias(
+            @Param("now") Date now,
+            @Param("staleBefore") Date staleBefore,
+            @Param("popularityWeight") double popularityWeight,
+            @Param("neverUpdatedAgeDays") double neverUpdatedAgeDays,
+            @Param("limit") int limit);
+
+    /**
+     * Claims the queued medias of the provider with the highest priority that
+     * no instance holds, until <code>lockedUntil</code>. The single
+     * <code>UPDATE</code> makes the claim atomic, so two instances never claim
+     * the same media.
+     *
+     * @return the number of medias claimed.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE media_refresh_queue
+            SET locked_by = :owner, locked_until = :lockedUntil
+            WHERE provider = :provider
+              AND (locked_until IS NULL OR locked_until < :now)
+            ORDER BY priority DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    int claim(
+            @Param("provider") String provider,
+            @Param("owner") String owner,
+            @Param("now") Date now,
+            @Param("lockedUntil") Date lockedUntil,
+            @Param("limit") int limit);
+
+    @Query("SELECT q FROM MediaRefreshQueueModel q WHERE q.provider = :provider AND q.lockedBy = :owner AND q.lockedUntil > :now ORDER BY q.priority DESC")
+    List<MediaRefreshQueueModel> findClaimed(@Param("provider") String provider, @Param("owner") String owner, @Param("now") Date now);
+
+    /**
+     * Extends the lease of a claimed media until <code>lockedUntil</code>, if
+     * the owner still holds it. A lease that ended may already be claimed by
+     * another instance, so it is not renewed.
+     *
+     * @return <code>1</code> if the owner still holds the media, <code>0</code> otherwise.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MediaRefreshQueueModel q SET q.lockedUntil = :lockedUntil WHERE q.mediaId = :mediaId AND q.lockedBy = :owner AND q.lockedUntil > :now")
+    int renewClaim(@Param("mediaId") Integer mediaId, @Param("owner") String owner, @Param("now") Date now, @Param("lockedUntil") Date lockedUntil);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MediaRefreshQueueModel q WHERE q.mediaId = :mediaId AND q.lockedBy = :owner")
+    int deleteClaimed(@Param("mediaId") Integer mediaId, @Param("owner") String owner);
+
+    /**
+     * Gives a claimed media back after a failed refresh. It may only be claimed
+     * again after <code>retryAt</code>.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MediaRefreshQueueModel q SET q.attempts = q.attempts + 1, q.lockedBy = NULL, q.lockedUntil = :retryAt WHERE q.mediaId = :mediaId AND q.lockedBy = :owner")
+    int release(@Param("mediaId") Integer mediaId, @Param("owner") String owner, @Param("retryAt") Date retryAt);
+}
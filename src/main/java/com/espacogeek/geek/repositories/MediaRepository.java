@@ -1,18 +1,22 @@
 package com.espacogeek.geek.repositories;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.types.MediaSummary;
 
 @Repository
 public interface MediaRepository extends JpaRepository<MediaModel, Integer> {
@@ -26,26 +30,39 @@ public interface MediaRepository extends JpaRepository<MediaModel, Integer> {
      *
      * This query searches for MediaModel entities where the name or any alternative
      * title matches the provided name or alternativeTitle parameters. It filters
-     * the
-     * results to only include those within the specified media category.
+     * the results to only include those within the specified media category.
+     * Only the columns of {@link MediaSummary} are selected, so neither the
+     * <code>about</code> text nor the eager associations of MediaModel are
+     * loaded.
      *
      * @param name             The name of the media to search for.
      * @param alternativeTitle The alternative title of the media to search for.
      * @param category         The ID of the media category to filter results by.
      * @param pageable         Pagination information.
-     * @return A list of MediaModel objects that match the search criteria.
-     */
-@Query("SELECT m FROM MediaModel m " +
-           "WHERE m.mediaCategory.id = :category " +
-           "AND (" +
-           "   m.name LIKE CONCAT('%', :name, '%') " +
-           "   OR EXISTS (" +
-           "       SELECT 1 FROM AlternativeTitleModel a " +
-           "       WHERE a.media = m " +
-           "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
-           "   )" +
-           ")")
-    Page<MediaModel> findMediaByNameOrAlternativeTitleAndMediaCategory(
+     * @return A page of media summaries that match the search criteria.
+     */
+    @Query(value = "SELECT new com.espacogeek.geek.types.MediaSummary(m.id, m.name, m.cover, m.mediaCategory.id, m.updateAt) " +
+               "FROM MediaModel m " +
+               "WHERE m.mediaCategory.id = :category " +
+               "AND (" +
+               "   m.name LIKE CONCAT('%', :name, '%') " +
+               "   OR EXISTS (" +
+               "       SELECT 1 FROM AlternativeTitleModel a " +
+               "       WHERE a.media = m " +
+               "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
+               "   )" +
+               ")",
+           countQuery = "SELECT COUNT(m) FROM MediaModel m " +
+               "WHERE m.mediaCategory.id = :category " +
+               "AND (" +
+               "   m.name LIKE CONCAT('%', :name, '%') " +
+               "   OR EXISTS (" +
+               "       SELECT 1 FROM AlternativeTitleModel a " +
+               "       WHERE a.media = m " +
+               "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
+               "   )" +
+               ")")
+    Page<MediaSummary> findSummariesByNameOrAlternativeTitleAndMediaCategory(
             @Param("name") String name,
             @Param("alternativeTitle") String alternativeTitle,
             @Param("category") Integer category,
@@ -53,16 +70,136 @@ public interface MediaRepository extends JpaRepository<MediaModel, Integer> {
 
     /**
      * Finds media by matching name or alternative title within multiple media
-     * categories.
+     * categories, selecting only the columns of {@link MediaSummary}.
      *
      * @param name             The name of the media to search for.
      * @param alternativeTitle The alternative title of the media to search for.
      * @param categories       The IDs of the media categories to filter results by.
      * @param pageable         Pagination information.
-     * @return A page of MediaModel objects that match the search criteria.
+     * @return A page of media summaries that match the search criteria.
+     */
+    @Query(value = "SELECT new com.espacogeek.geek.types.MediaSummary(m.id, m.name, m.cover, m.mediaCategory.id, m.updateAt) " +
+               "FROM MediaModel m " +
+               "WHERE m.mediaCategory.id IN :categories " +
+               "AND (" +
+               "   m.name LIKE CONCAT('%', :name, '%') " +
+               "   OR EXISTS (" +
+               "       SELECT 1 FROM AlternativeTitleModel a " +
+               "       WHERE a.media = m " +
+               "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
+               "   )" +
+               ")",
+           countQuery = "SELECT COUNT(m) FROM MediaModel m " +
+               "WHERE m.mediaCategory.id IN :categories " +
+               "AND (" +
+               "   m.name LIKE CONCAT('%', :name, '%') " +
+               "   OR EXISTS (" +
+               "       SELECT 1 FROM AlternativeTitleModel a " +
+               "       WHERE a.media = m " +
+               "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
+               "   )" +
+               ")")
+    Page<MediaSummary> findSummariesByNameOrAlternativeTitleAndMediaCategoryIn(
+            @Param("name") String name,
+            @Param("alternativeTitle") String alternativeTitle,
+            @Param("categories") Collection<Integer> categories,
+            @PageableDefault(size = 10, page = 0) Pageable pageable);
+
+    /**
+     * Loads the summaries of the given medias, e.g. the IDs ranked by
+     * {@link #findMediaIdsByFullTextAndMediaCategoryIn}. The order of the
+     * result is undefined.
+     *
+     * @param ids the IDs (PK) of the medias.
+     * @return the summaries of the medias that exist.
+     */
+    @Query("SELECT new com.espacogeek.geek.types.MediaSummary(m.id, m.name, m.cover, m.mediaCategory.id, m.updateAt) " +
+           "FROM MediaModel m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Finds the summaries of the first medias, ordered by name then ID, matching name or
+     * alternative title within multiple media categories. Starts a keyset
+     * (seek) pagination continued by
+     * {@link #findSummariesByNameOrAlternativeTitleAndMediaCategoryInAfter}.
+     * <p>
+     * Unlike {@link #findSummariesByNameOrAlternativeTitleAndMediaCategoryIn} it
+     * runs no count query, and medias without a name are skipped since they
+     * cannot be positioned by a cursor.
+     *
+     * @param name             The name of the media to search for.
+     * @param alternativeTitle The alternative title of the media to search for.
+     * @param categories       The IDs of the media categories to filter results by.
+     * @param pageable         The number of medias to return; only the first page is used.
+     * @return The first media summaries in (name, ID) order.
+     */
+    @Query("SELECT new com.espacogeek.geek.types.MediaSummary(m.id, m.name, m.cover, m.mediaCategory.id, m.updateAt) " +
+               "FROM MediaModel m " +
+               "WHERE m.mediaCategory.id IN :categories " +
+               "AND m.name IS NOT NULL " +
+               "AND (" +
+               "   m.name LIKE CONCAT('%', :name, '%') " +
+               "   OR EXISTS (" +
+               "       SELECT 1 FROM AlternativeTitleModel a " +
+               "       WHERE a.media = m " +
+               "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
+               "   )" +
+               ") " +
+               "ORDER BY m.name, m.id")
+    List<MediaSummary> findSummariesByNameOrAlternativeTitleAndMediaCategoryInFirst(
+            @Param("name") String name,
+            @Param("alternativeTitle") String alternativeTitle,
+            @Param("categories") Collection<Integer> categories,
+            Pageable pageable);
+
+    /**
+     * Same as {@link #findSummariesByNameOrAlternativeTitleAndMediaCategoryInFirst}
+     * but only returns medias positioned after the given (name, ID) cursor, so
+     * deep pages seek through the (id_category, name_media) index instead of
+     * scanning and discarding an OFFSET.
+     *
+     * @param name             The name of the media to search for.
+     * @param alternativeTitle The alternative title of the media to search for.
+     * @param categories       The IDs of the media categories to filter results by.
+     * @param afterName        The name of the last media of the previous page.
+     * @param afterId          The ID of the last media of the previous page.
+     * @param pageable         The number of medias to return; only the first page is used.
+     * @return The next media summaries in (name, ID) order.
      */
-    @Query("SELECT m FROM MediaModel m " +
+    @Query("SELECT new com.espacogeek.geek.types.MediaSummary(m.id, m.name, m.cover, m.mediaCategory.id, m.updateAt) " +
+               "FROM MediaModel m " +
                "WHERE m.mediaCategory.id IN :categories " +
+               "AND m.name IS NOT NULL " +
+               "AND (m.name > :afterName OR (m.name = :afterName AND m.id > :afterId)) " +
+               "AND (" +
+               "   m.name LIKE CONCAT('%', :name, '%') " +
+               "   OR EXISTS (" +
+               "       SELECT 1 FROM AlternativeTitleModel a " +
+               "       WHERE a.media = m " +
+               "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
+               "   )" +
+               ") " +
+               "ORDER BY m.name, m.id")
+    List<MediaSummary> findSummariesByNameOrAlternativeTitleAndMediaCategoryInAfter(
+            @Param("name") String name,
+            @Param("alternativeTitle") String alternativeTitle,
+            @Param("categories") Collection<Integer> categories,
+            @Param("afterName") String afterName,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
+
+    /**
+     * Counts the medias returned by the keyset pagination of
+     * {@link #findSummariesByNameOrAlternativeTitleAndMediaCategoryInFirst}.
+     *
+     * @param name             The name of the media to search for.
+     * @param alternativeTitle The alternative title of the media to search for.
+     * @param categories       The IDs of the media categories to filter results by.
+     * @return The number of matching medias.
+     */
+    @Query("SELECT COUNT(m) FROM MediaModel m " +
+               "WHERE m.mediaCategory.id IN :categories " +
+               "AND m.name IS NOT NULL " +
                "AND (" +
                "   m.name LIKE CONCAT('%', :name, '%') " +
                "   OR EXISTS (" +
@@ -71,10 +208,61 @@ public interface MediaRepository extends JpaRepository<MediaModel, Integer> {
                "       AND a.name LIKE CONCAT('%', :alternativeTitle, '%')" +
                "   )" +
                ")")
-    Page<MediaModel> findMediaByNameOrAlternativeTitleAndMediaCategoryIn(
+    long countMediaByNameOrAlternativeTitleAndMediaCategoryIn(
             @Param("name") String name,
             @Param("alternativeTitle") String alternativeTitle,
-            @Param("categories") java.util.Collection<Integer> categories,
+            @Param("categories") Collection<Integer> categories);
+
+    /**
+     * Finds the IDs of media whose name or any alternative title matches the
+     * given full-text query within multiple media categories, ordered by
+     * relevance.
+     *
+     * Uses the FULLTEXT indexes on {@code medias.name_media} and
+     * {@code alternative_titles.name_title}. Exact name matches come first,
+     * then results are ranked by the best natural-language relevance of the
+     * name or any alternative title.
+     *
+     * @param query      The boolean-mode query used to filter results, e.g.
+     *                   {@code +chrono* +trigger*}.
+     * @param name       The raw search term, used for exact-match boosting and
+     *                   natural-language ranking.
+     * @param categories The IDs of the media categories to filter results by.
+     * @param pageable   Pagination information. Sorting is ignored since results
+     *                   are ordered by relevance.
+     * @return A page of media IDs ordered by relevance.
+     */
+    @Query(value = "SELECT m.id_media FROM medias m " +
+               "WHERE m.id_category IN (:categories) " +
+               "AND (" +
+               "   MATCH(m.name_media) AGAINST(:query IN BOOLEAN MODE) " +
+               "   OR m.id_media IN (" +
+               "       SELECT a.id_media FROM alternative_titles a " +
+               "       WHERE MATCH(a.name_title) AGAINST(:query IN BOOLEAN MODE)" +
+               "   )" +
+               ") " +
+               "ORDER BY (m.name_media = :name) DESC, " +
+               "GREATEST(" +
+               "   MATCH(m.name_media) AGAINST(:name), " +
+               "   COALESCE((" +
+               "       SELECT MAX(MATCH(a2.name_title) AGAINST(:name)) FROM alternative_titles a2 " +
+               "       WHERE a2.id_media = m.id_media" +
+               "   ), 0)" +
+               ") DESC, m.id_media",
+           countQuery = "SELECT COUNT(*) FROM medias m " +
+               "WHERE m.id_category IN (:categories) " +
+               "AND (" +
+               "   MATCH(m.name_media) AGAINST(:query IN BOOLEAN MODE) " +
+               "   OR m.id_media IN (" +
+               "       SELECT a.id_media FROM alternative_titles a " +
+               "       WHERE MATCH(a.name_title) AGAINST(:query IN BOOLEAN MODE)" +
+               "   )" +
+               ")",
+           nativeQuery = true)
+    Page<Integer> findMediaIdsByFullTextAndMediaCategoryIn(
+            @Param("query") String query,
+            @Param("name") String name,
+            @Param("categories") Collection<Integer> categories,
             @PageableDefault(size = 10, page = 0) Pageable pageable);
 
     /**
@@ -136,4 +324,92 @@ public interface MediaRepository extends JpaRepository<MediaModel, Integer> {
      */
     @Query("SELECT DISTINCT m FROM MediaModel m LEFT JOIN FETCH m.externalReference WHERE m.id = :id")
     Optional<MediaModel> findByIdWithExternalReferences(@Param("id") Integer id);
+
+    /**
+     * Loads media summaries ordered by ID, starting after the given ID. Used to
+     * walk the whole table in fixed-size chunks (keyset pagination) without
+     * loading entities, e.g. to build {@link com.espacogeek.geek.search.MediaSuggestIndex}.
+     *
+     * @param lastId   the last ID of the previous chunk, or 0 for the first one.
+     * @param pageable the chunk size; only the first page is used.
+     * @return the next chunk of media summaries.
+     */
+    @Query("SELECT new com.espacogeek.geek.types.MediaSummary(m.id, m.name, m.cover, c.id, m.updateAt) " +
+           "FROM MediaModel m LEFT JOIN m.mediaCategory c " +
+           "WHERE m.id > :lastId ORDER BY m.id")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("lastId") Integer lastId, Pageable pageable);
+
+    /**
+     * Sets only the <code>update_at</code> of a media, for an update from a
+     * provider payload that did not change.
+     *
+     * @param id       the ID (PK) of the media.
+     * @param updateAt the new update date.
+     * @return the number of medias updated.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MediaModel m SET m.updateAt = :updateAt WHERE m.id = :id")
+    int updateUpdateAt(@Param("id") Integer id, @Param("updateAt") Date updateAt);
+
+    /**
+     * Keeps the medias no user has in a library or a list.
+     *
+     * @param ids the IDs (PK) of the medias.
+     * @return the IDs of the medias without users.
+     */
+    @Query("SELECT m.id FROM MediaModel m WHERE m.id IN :ids " +
+           "AND NOT EXISTS (SELECT 1 FROM UserLibraryModel l WHERE l.media = m) " +
+           "AND NOT EXISTS (SELECT 1 FROM UserMediaListModel u WHERE u.media = m)")
+    List<Integer> findIdsWithoutUsers(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM medias_has_genres WHERE medias_id_media IN (:ids)", nativeQuery = true)
+    int deleteGenreLinksByMediaIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM medias_has_companies WHERE medias_id_media IN (:ids)", nativeQuery = true)
+    int deleteCompanyLinksByMediaIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM medias_has_people WHERE medias_id_media IN (:ids)", nativeQuery = true)
+    int deletePeopleLinksByMediaIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("DELETE FROM AlternativeTitleModel a WHERE a.media.id IN :ids")
+    int deleteAlternativeTitlesByMediaIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("DELETE FROM ExternalReferenceModel e WHERE e.media.id IN :ids")
+    int deleteExternalReferencesByMediaIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("DELETE FROM SeasonModel s WHERE s.media.id IN :ids")
+    int deleteSeasonsByMediaIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("DELETE FROM MediaModel m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Deletes medias with their titles, references, seasons and links to
+     * genres, companies and people. The caller checks no user has them, see
+     * {@link #findIdsWithoutUsers(Collection)}.
+     *
+     * @param ids the IDs (PK) of the medias.
+     * @return the number of medias deleted.
+     */
+    @Transactional
+    default int deleteWithChildren(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        deleteGenreLinksByMediaIdIn(ids);
+        deleteCompanyLinksByMediaIdIn(ids);
+        deletePeopleLinksByMediaIdIn(ids);
+        deleteAlternativeTitlesByMediaIdIn(ids);
+        deleteExternalReferencesByMediaIdIn(ids);
+        deleteSeasonsByMediaIdIn(ids);
+        return deleteByIdIn(ids);
+    }
 }
@@ -0,0 +1,10 @@
+package com.espacogeek.geek.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.espacogeek.geek.models.ProviderSyncStateModel;
+
+@Repository
+public interface ProviderSyncStateRepository extends JpaRepository<ProviderSyncStateModel, String> {
+}
@@ -0,0 +1,96 @@
+package com.espacogeek.geek.search;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.espacogeek.geek.cache.BoundedTtlCache;
+import com.espacogeek.geek.models.MediaModel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Guards the external provider searches made when a local search finds
+ * nothing.
+ * <p>
+ * Concurrent searches of the same provider, category and query (ignoring case)
+ * share a single call: the first one runs it and the others wait for its
+ * result, so the provider is called and the found medias are imported only
+ * once. Searches the provider found nothing for are remembered for
+ * <code>media.search.external.negative-ttl-seconds</code> and answered with an
+ * empty list without calling it again.
+ */
+@Component
+public class ExternalSearchCoalescer {
+    private final ConcurrentHashMap<Key, CompletableFuture<List<MediaModel>>> inFlight = new ConcurrentHashMap<>();
+    private final BoundedTtlCache<Key, Boolean> emptyResults;
+    private final MeterRegistry meterRegistry;
+
+    public ExternalSearchCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${media.search.external.negative-ttl-seconds:300}") long negativeTtlSeconds,
+            @Value("${media.search.external.negative-max-size:10000}") int negativeMaxSize
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.emptyResults = new BoundedTtlCache<>("media.search.external.empty", negativeMaxSize, Duration.ofSeconds(negativeTtlSeconds), meterRegistry);
+    }
+
+    /**
+     * Runs the external search, unless the same search is already running or
+     * recently found nothing.
+     *
+     * @param provider   the name of the provider searched, e.g. <code>TMDB</code>.
+     * @param categoryId the category searched.
+     * @param query      the searched text.
+     * @param search     calls the provider and imports what it finds.
+     * @return the medias found, shared by every caller of a coalesced search.
+     */
+    public List<MediaModel> search(String provider, Integer categoryId, String query, Supplier<List<MediaModel>> search) {
+        Key key = new Key(provider, categoryId, query == null ? "" : query.trim().toLowerCase(Locale.ROOT));
+        if (emptyResults.getIfPresent(key) != null) {
+            return List.of();
+        }
+
+        CompletableFuture<List<MediaModel>> call = new CompletableFuture<>();
+        CompletableFuture<List<MediaModel>> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            meterRegistry.counter("media.search.external.coalesced", "provider", provider).increment();
+            return await(running);
+        }
+
+        try {
+            List<MediaModel> result = search.get();
+            if (result == null || result.isEmpty()) {
+                emptyResults.put(key, Boolean.TRUE);
+            }
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static List<MediaModel> await(CompletableFuture<List<MediaModel>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(String provider, Integer categoryId, String query) {
+    }
+}
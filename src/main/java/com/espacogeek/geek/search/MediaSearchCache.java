@@ -0,0 +1,132 @@
+package com.espacogeek.geek.search;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.espacogeek.geek.cache.BoundedTtlCache;
+import com.espacogeek.geek.types.MediaPage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of the pages returned by the media name searches.
+ * <p>
+ * Pages are keyed by category, normalized name (lower case, without
+ * diacritics, like the database collation compares them), page number and page
+ * size. They expire after <code>media.search.cache.ttl-seconds</code> and the
+ * least recently used ones are evicted past
+ * <code>media.search.cache.max-size</code> entries.
+ * <p>
+ * Saving a media invalidates every page of its category, once right away and
+ * once more after the transaction commits, so a page loaded while the
+ * transaction was open is not kept. A page whose category is invalidated while
+ * it is being loaded is returned but not cached.
+ */
+@Component
+public class MediaSearchCache {
+    private final boolean enabled;
+    private final BoundedTtlCache<Key, MediaPage> pages;
+
+    // Bumped on every invalidation, to detect pages loaded across one.
+    private final Map<Integer, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    public MediaSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${media.search.cache.enabled:true}") boolean enabled,
+            @Value("${media.search.cache.max-size:10000}") int maxSize,
+            @Value("${media.search.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.enabled = enabled;
+        this.pages = new BoundedTtlCache<>("media.search", maxSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    /**
+     * Returns the cached page of the search or loads and caches it.
+     *
+     * @param categories the categories searched, part of the key in the given order.
+     * @param name       the searched name.
+     * @param pageable   the requested page. Unpaged searches are never cached.
+     * @param loader     runs the search on a cache miss.
+     * @return the page of the search.
+     */
+    public MediaPage getOrLoad(List<Integer> categories, String name, Pageable pageable, Supplier<MediaPage> loader) {
+        if (!enabled || pageable == null || pageable.isUnpaged()) {
+            return loader.get();
+        }
+
+        Key key = new Key(categories, name == null ? null : MediaSuggestIndex.normalize(name),
+                pageable.getPageNumber(), pageable.getPageSize());
+        MediaPage cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generationOf(categories);
+        MediaPage page = loader.get();
+        if (page != null && generation == generationOf(categories)) {
+            pages.put(key, page);
+        }
+        return page;
+    }
+
+    /**
+     * Drops every cached page of the category, now and again after the current
+     * transaction commits.
+     *
+     * @param categoryId the category, or <code>null</code> to drop every page.
+     */
+    public void invalidate(Integer categoryId) {
+        invalidateNow(categoryId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(categoryId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Same as {@link #invalidate(Integer)} for several categories.
+     */
+    public void invalidate(Collection<Integer> categoryIds) {
+        categoryIds.stream().distinct().forEach(this::invalidate);
+    }
+
+    private void invalidateNow(Integer categoryId) {
+        if (categoryId == null) {
+            globalGeneration.incrementAndGet();
+            pages.invalidateAll();
+            return;
+        }
+        generations.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet();
+        pages.invalidateIf(key -> key.categories().contains(categoryId));
+    }
+
+    private long generationOf(List<Integer> categories) {
+        long generation = globalGeneration.get();
+        for (Integer category : categories) {
+            AtomicLong categoryGeneration = generations.get(category);
+            if (categoryGeneration != null) {
+                generation += categoryGeneration.get();
+            }
+        }
+        return generation;
+    }
+
+    private record Key(List<Integer> categories, String name, int page, int size) {
+    }
+}
@@ -0,0 +1,780 @@
+package com.espacogeek.geek.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.models.AlternativeTitleModel;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.repositories.AlternativeTitlesRepository;
+import com.espacogeek.geek.repositories.MediaRepository;
+import com.espacogeek.geek.types.AlternativeTitleSummary;
+import com.espacogeek.geek.types.MediaSimplefied;
+import com.espacogeek.geek.types.MediaSummary;
+import com.espacogeek.geek.utils.IntIntHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory autocomplete index over media names and alternative titles.
+ * <p>
+ * Every title is normalized (lower case, without diacritics) and appended to a
+ * single <code>char[]</code>, each one followed by a terminator. The start of
+ * every word of every title is kept in an <code>int[]</code> sorted by the text
+ * that follows it, so a prefix lookup is two binary searches bounding a range,
+ * and matches the beginning of any word (e.g. "trig" finds "Chrono Trigger").
+ * The media slot and rank of every sorted word start are kept alongside it, so
+ * the range is scanned without touching the text again.
+ * Media IDs, categories, display names and covers are kept in parallel
+ * primitive arrays indexed by a media slot.
+ * <p>
+ * New titles are appended to an unsorted tail which is scanned linearly and
+ * merged into the sorted array in the background once it grows past
+ * <code>media.suggest.unsorted-threshold</code> entries.
+ * <p>
+ * The index is loaded on startup from {@link MediaRepository} and
+ * {@link AlternativeTitlesRepository} and returns no suggestions until the load
+ * has finished. Incremental updates made inside a transaction are applied after
+ * it commits. A renamed media keeps matching its previous name; a removed
+ * media keeps its words in the arrays but its slot is skipped.
+ */
+@Component
+@Slf4j
+public class MediaSuggestIndex {
+    private static final char TERMINATOR = '\u0000';
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int NOT_FOUND = -1;
+    private static final String TMDB_COVER_PREFIX = MediaApi.ExternalCDN.TMDB.getUrl();
+
+    private final MediaRepository mediaRepository;
+    private final AlternativeTitlesRepository alternativeTitlesRepository;
+
+    @Value("${media.suggest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${media.suggest.unsorted-threshold:4096}")
+    private int unsortedThreshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private volatile boolean ready;
+
+    // Media slots: one per media ID.
+    private final IntIntHashMap slotsByMediaId = new IntIntHashMap(1_024);
+    private int[] slotMediaIds = new int[1_024];
+    private byte[] slotCategories = new byte[1_024];
+    private int[] slotNameStarts = new int[1_024];
+    private int[] slotNameLengths = new int[1_024];
+    private int[] slotCoverStarts = new int[1_024];
+    private int[] slotCoverLengths = new int[1_024];
+    private boolean[] slotTmdbCovers = new boolean[1_024];
+    private boolean[] slotRemoved = new boolean[1_024];
+    private int slotCount;
+    private char[] displayChars = new char[16_384];
+    private int displayLength;
+
+    // Searchable titles: normalized text followed by TERMINATOR, one entry per title.
+    private char[] keyChars = new char[16_384];
+    private int keyLength;
+    private int[] entryStarts = new int[1_024];
+    private int[] entrySlots = new int[1_024];
+    private int entryCount;
+
+    // Word starts (positions in keyChars): sorted part, with the rank and slot
+    // of each one packed as rank << 32 | slot, and unsorted tail.
+    private int[] sortedWordStarts = new int[0];
+    private long[] sortedWordCandidates = new long[0];
+    private int sortedWordCount;
+    private int[] tailWordStarts = new int[1_024];
+    private int tailWordCount;
+
+    public MediaSuggestIndex(MediaRepository mediaRepository, AlternativeTitlesRepository alternativeTitlesRepository) {
+        this.mediaRepository = mediaRepository;
+        this.alternativeTitlesRepository = alternativeTitlesRepository;
+    }
+
+    /**
+     * Loads the index in a background virtual thread once the application is
+     * ready, so startup is not delayed by a full scan of the media tables.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("Media suggest index disabled (media.suggest.enabled=false)");
+            return;
+        }
+        Thread.ofVirtual().name("media-suggest-loader").start(() -> {
+            try {
+                load();
+            } catch (Exception e) {
+                log.error("Failed to load media suggest index: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Reads every media and alternative title in ID order, chunk by chunk, and
+     * marks the index as ready.
+     */
+    public void load() {
+        long start = System.nanoTime();
+
+        int lastId = 0;
+        List<MediaSummary> medias;
+        do {
+            medias = mediaRepository.findSummariesByIdGreaterThan(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (MediaSummary media : medias) {
+                    indexLocked(media.id(), media.name(), media.cover(), media.categoryId());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!medias.isEmpty()) {
+                lastId = medias.getLast().id();
+            }
+        } while (medias.size() == LOAD_CHUNK_SIZE);
+
+        lastId = 0;
+        List<AlternativeTitleSummary> titles;
+        do {
+            titles = alternativeTitlesRepository.findSummariesByIdGreaterThan(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (AlternativeTitleSummary title : titles) {
+                    int slot = title.mediaId() == null ? NOT_FOUND : slotsByMediaId.get(title.mediaId(), NOT_FOUND);
+                    if (slot != NOT_FOUND && title.name() != null) {
+                        addKeyLocked(slot, title.name());
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!titles.isEmpty()) {
+                lastId = titles.getLast().id();
+            }
+        } while (titles.size() == LOAD_CHUNK_SIZE);
+
+        compact();
+        ready = true;
+
+        log.info("Media suggest index loaded: {} medias, {} titles, {} words, ~{} KiB in {} ms",
+                slotCount, entryCount, sortedWordCount + tailWordCount, estimatedBytes() / 1024,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Adds or updates a persisted media. Its name becomes searchable when it is
+     * new or has changed.
+     *
+     * @param media a media with ID; ignored otherwise.
+     */
+    public void index(MediaModel media) {
+        if (media == null || media.getId() == null) {
+            return;
+        }
+        Integer mediaId = media.getId();
+        String name = media.getName();
+        String cover = media.getCover();
+        Integer categoryId = media.getMediaCategory() != null ? media.getMediaCategory().getId() : null;
+
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                indexLocked(mediaId, name, cover, categoryId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            compactIfNeeded();
+        });
+    }
+
+    /**
+     * Makes the given alternative titles searchable for an already indexed
+     * media.
+     *
+     * @param mediaId the ID of the media the titles belong to.
+     * @param titles  newly persisted alternative titles.
+     */
+    public void indexAlternativeTitles(Integer mediaId, Collection<AlternativeTitleModel> titles) {
+        if (mediaId == null || titles == null || titles.isEmpty()) {
+            return;
+        }
+        List<String> names = titles.stream()
+                .filter(title -> title != null && title.getName() != null)
+                .map(AlternativeTitleModel::getName)
+                .toList();
+
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                int slot = slotsByMediaId.get(mediaId, NOT_FOUND);
+                if (slot == NOT_FOUND) {
+                    return;
+                }
+                for (String name : names) {
+                    addKeyLocked(slot, name);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            compactIfNeeded();
+        });
+    }
+
+    /**
+     * Stops suggesting the given medias, like the ones a job deleted.
+     *
+     * @param mediaIds the IDs of the removed medias.
+     */
+    public void remove(Collection<Integer> mediaIds) {
+        if (mediaIds == null || mediaIds.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = List.copyOf(mediaIds);
+
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                for (Integer mediaId : ids) {
+                    int slot = slotsByMediaId.get(mediaId, NOT_FOUND);
+                    if (slot != NOT_FOUND) {
+                        slotRemoved[slot] = true;
+                        slotsByMediaId.remove(mediaId);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Finds medias with a name or alternative title containing a word that
+     * starts with <code>prefix</code>.
+     * <p>
+     * Titles starting with the prefix rank before titles where only a later
+     * word matches, then shorter titles rank first.
+     *
+     * @param prefix   the text typed so far.
+     * @param category optional media category ID to filter by.
+     * @param limit    maximum number of medias to return.
+     * @return up to <code>limit</code> distinct medias, or an empty list while
+     *         the index is still loading.
+     */
+    public List<MediaSimplefied> suggest(String prefix, Integer category, int limit) {
+        if (!ready || prefix == null || limit <= 0) {
+            return List.of();
+        }
+        char[] query = normalize(prefix).trim().toCharArray();
+        if (query.length == 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] best = new long[limit];
+            int count = 0;
+
+            int end = bound(query, false);
+            for (int i = bound(query, true); i < end; i++) {
+                count = offerCandidate(best, count, sortedWordCandidates[i], category);
+            }
+            for (int i = 0; i < tailWordCount; i++) {
+                int position = tailWordStarts[i];
+                if (compareToQuery(keyChars, position, query) == 0) {
+                    count = offerCandidate(best, count, candidateOf(position), category);
+                }
+            }
+
+            Arrays.sort(best, 0, count);
+
+            List<MediaSimplefied> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                results.add(toMediaSimplefied((int) best[i]));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return an approximation of the heap used by the index arrays, in bytes.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = slotsByMediaId.estimatedBytes();
+            bytes += (long) slotMediaIds.length * (Integer.BYTES * 5 + 3);
+            bytes += (long) displayChars.length * Character.BYTES;
+            bytes += (long) keyChars.length * Character.BYTES;
+            bytes += (long) entryStarts.length * Integer.BYTES * 2;
+            bytes += (long) (sortedWordStarts.length + tailWordStarts.length) * Integer.BYTES;
+            bytes += (long) sortedWordCandidates.length * Long.BYTES;
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sorts the unsorted tail and merges it into the sorted word starts. The
+     * sort runs outside the write lock: entries are append-only, so the
+     * positions taken under the read lock stay valid while new titles arrive.
+     */
+    void compact() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int[] tail;
+            long[] tailCandidates;
+            int[] sorted;
+            long[] sortedCandidates;
+            int sortedCount;
+            char[] text;
+
+            lock.readLock().lock();
+            try {
+                tail = Arrays.copyOf(tailWordStarts, tailWordCount);
+                sorted = sortedWordStarts;
+                sortedCandidates = sortedWordCandidates;
+                sortedCount = sortedWordCount;
+                text = keyChars;
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (tail.length == 0) {
+                return;
+            }
+
+            sort(tail, 0, tail.length, 0, text);
+            tailCandidates = new long[tail.length];
+            lock.readLock().lock();
+            try {
+                for (int i = 0; i < tail.length; i++) {
+                    tailCandidates[i] = candidateOf(tail[i]);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            int[] merged = new int[sortedCount + tail.length];
+            long[] mergedCandidates = new long[merged.length];
+            merge(sorted, sortedCandidates, sortedCount, tail, tailCandidates, text, merged, mergedCandidates);
+
+            lock.writeLock().lock();
+            try {
+                sortedWordStarts = merged;
+                sortedWordCandidates = mergedCandidates;
+                sortedWordCount = merged.length;
+                System.arraycopy(tailWordStarts, tail.length, tailWordStarts, 0, tailWordCount - tail.length);
+                tailWordCount -= tail.length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private void compactIfNeeded() {
+        if (ready && tailWordCount >= unsortedThreshold && !compacting.get()) {
+            Thread.ofVirtual().name("media-suggest-compaction").start(this::compact);
+        }
+    }
+
+    private void indexLocked(Integer mediaId, String name, String cover, Integer categoryId) {
+        if (mediaId == null) {
+            return;
+        }
+
+        int slot = slotsByMediaId.get(mediaId, NOT_FOUND);
+        boolean nameChanged;
+        if (slot == NOT_FOUND) {
+            slot = newSlotLocked(mediaId);
+            nameChanged = name != null;
+        } else {
+            nameChanged = name != null && !sameText(displayChars, slotNameStarts[slot], slotNameLengths[slot], name);
+        }
+
+        if (categoryId != null) {
+            slotCategories[slot] = categoryId.byteValue();
+        }
+        if (nameChanged) {
+            slotNameStarts[slot] = appendDisplayLocked(name);
+            slotNameLengths[slot] = name.length();
+            addKeyLocked(slot, name);
+        }
+        if (cover != null) {
+            boolean tmdbCover = cover.startsWith(TMDB_COVER_PREFIX);
+            String stored = tmdbCover ? cover.substring(TMDB_COVER_PREFIX.length()) : cover;
+            if (tmdbCover != slotTmdbCovers[slot] || !sameText(displayChars, slotCoverStarts[slot], slotCoverLengths[slot], stored)) {
+                slotTmdbCovers[slot] = tmdbCover;
+                slotCoverStarts[slot] = appendDisplayLocked(stored);
+                slotCoverLengths[slot] = stored.length();
+            }
+        }
+    }
+
+    private int newSlotLocked(int mediaId) {
+        if (slotCount == slotMediaIds.length) {
+            int capacity = slotMediaIds.length << 1;
+            slotMediaIds = Arrays.copyOf(slotMediaIds, capacity);
+            slotCategories = Arrays.copyOf(slotCategories, capacity);
+            slotNameStarts = Arrays.copyOf(slotNameStarts, capacity);
+            slotNameLengths = Arrays.copyOf(slotNameLengths, capacity);
+            slotCoverStarts = Arrays.copyOf(slotCoverStarts, capacity);
+            slotCoverLengths = Arrays.copyOf(slotCoverLengths, capacity);
+            slotTmdbCovers = Arrays.copyOf(slotTmdbCovers, capacity);
+            slotRemoved = Arrays.copyOf(slotRemoved, capacity);
+        }
+        int slot = slotCount++;
+        slotMediaIds[slot] = mediaId;
+        slotsByMediaId.put(mediaId, slot);
+        return slot;
+    }
+
+    private int appendDisplayLocked(String text) {
+        displayChars = ensureCapacity(displayChars, displayLength + text.length());
+        int start = displayLength;
+        text.getChars(0, text.length(), displayChars, start);
+        displayLength += text.length();
+        return start;
+    }
+
+    private void addKeyLocked(int slot, String title) {
+        String normalized = normalize(title);
+        if (normalized.isBlank()) {
+            return;
+        }
+
+        keyChars = ensureCapacity(keyChars, keyLength + normalized.length() + 1);
+        int start = keyLength;
+        normalized.getChars(0, normalized.length(), keyChars, start);
+        keyLength += normalized.length();
+        keyChars[keyLength++] = TERMINATOR;
+
+        if (entryCount == entryStarts.length) {
+            entryStarts = Arrays.copyOf(entryStarts, entryCount << 1);
+            entrySlots = Arrays.copyOf(entrySlots, entryCount << 1);
+        }
+        entryStarts[entryCount] = start;
+        entrySlots[entryCount] = slot;
+        entryCount++;
+
+        for (int position = start; position < start + normalized.length(); position++) {
+            boolean wordStart = Character.isLetterOrDigit(keyChars[position])
+                    && (position == start || !Character.isLetterOrDigit(keyChars[position - 1]));
+            if (wordStart) {
+                if (tailWordCount == tailWordStarts.length) {
+                    tailWordStarts = Arrays.copyOf(tailWordStarts, tailWordCount << 1);
+                }
+                tailWordStarts[tailWordCount++] = position;
+            }
+        }
+    }
+
+    /**
+     * Keeps the best ranked candidate of each media among the
+     * <code>best.length</code> best ones seen so far, in a max-heap whose root
+     * is the worst kept candidate, so the whole matching range is scanned in
+     * one pass without collecting it.
+     *
+     * @return the number of candidates now kept.
+     */
+    private int offerCandidate(long[] best, int count, long candidate, Integer category) {
+        if (count == best.length && candidate >= best[0]) {
+            return count;
+        }
+        int slot = (int) candidate;
+        if (slotRemoved[slot] || (category != null && slotCategories[slot] != category)) {
+            return count;
+        }
+        for (int i = 0; i < count; i++) {
+            if ((int) best[i] == slot) {
+                if (candidate < best[i]) {
+                    best[i] = candidate;
+                    siftDown(best, count, i);
+                }
+                return count;
+            }
+        }
+        if (count < best.length) {
+            best[count] = candidate;
+            siftUp(best, count);
+            return count + 1;
+        }
+        best[0] = candidate;
+        siftDown(best, count, 0);
+        return count;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int count, int index) {
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < count && heap[left] > heap[largest]) {
+                largest = left;
+            }
+            if (right < count && heap[right] > heap[largest]) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(heap, index, largest);
+            index = largest;
+        }
+    }
+
+    /**
+     * Encodes the word starting at <code>position</code> as
+     * <code>rank &lt;&lt; 32 | slot</code>, so sorting candidates orders them by
+     * rank: words starting their title first, then shorter titles.
+     */
+    private long candidateOf(int position) {
+        int entry = entryOf(position);
+        int start = entryStarts[entry];
+        int end = entry + 1 < entryCount ? entryStarts[entry + 1] - 1 : keyLength - 1;
+        long rank = Math.min(end - start, 0xFFFF);
+        if (position != start) {
+            rank |= 1L << 16;
+        }
+        return (rank << 32) | entrySlots[entry];
+    }
+
+    private int entryOf(int position) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (entryStarts[middle] <= position) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first sorted word starting with the query when
+     *         <code>first</code> is true, otherwise the index right after the
+     *         last one.
+     */
+    private int bound(char[] query, boolean first) {
+        int low = 0;
+        int high = sortedWordCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareToQuery(keyChars, sortedWordStarts[middle], query);
+            if (comparison < 0 || (!first && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private MediaSimplefied toMediaSimplefied(int slot) {
+        MediaSimplefied media = new MediaSimplefied();
+        media.setId(slotMediaIds[slot]);
+        media.setName(new String(displayChars, slotNameStarts[slot], slotNameLengths[slot]));
+        if (slotCoverLengths[slot] > 0 || slotTmdbCovers[slot]) {
+            String cover = new String(displayChars, slotCoverStarts[slot], slotCoverLengths[slot]);
+            media.setCover(slotTmdbCovers[slot] ? TMDB_COVER_PREFIX + cover : cover);
+        }
+        return media;
+    }
+
+    /**
+     * Compares the text starting at <code>position</code> with the query, only
+     * over the length of the query, so every text starting with the query
+     * compares as equal.
+     */
+    private static int compareToQuery(char[] text, int position, char[] query) {
+        for (int i = 0; i < query.length; i++) {
+            char current = text[position + i];
+            if (current != query[i]) {
+                return current - query[i];
+            }
+        }
+        return 0;
+    }
+
+    private static int compare(char[] text, int first, int second, int depth) {
+        while (true) {
+            char a = text[first + depth];
+            char b = text[second + depth];
+            if (a != b) {
+                return a - b;
+            }
+            if (a == TERMINATOR) {
+                return 0;
+            }
+            depth++;
+        }
+    }
+
+    /**
+     * Multikey (three-way radix) quicksort of text positions, comparing one
+     * character per pass.
+     */
+    private static void sort(int[] positions, int low, int high, int depth, char[] text) {
+        while (high - low > 1) {
+            if (high - low < INSERTION_SORT_THRESHOLD) {
+                insertionSort(positions, low, high, depth, text);
+                return;
+            }
+
+            char pivot = text[positions[(low + high) >>> 1] + depth];
+            int lessEnd = low;
+            int greaterStart = high - 1;
+            int i = low;
+            while (i <= greaterStart) {
+                char current = text[positions[i] + depth];
+                if (current < pivot) {
+                    swap(positions, lessEnd++, i++);
+                } else if (current > pivot) {
+                    swap(positions, i, greaterStart--);
+                } else {
+                    i++;
+                }
+            }
+
+            sort(positions, low, lessEnd, depth, text);
+            sort(positions, greaterStart + 1, high, depth, text);
+            if (pivot == TERMINATOR) {
+                return;
+            }
+            low = lessEnd;
+            high = greaterStart + 1;
+            depth++;
+        }
+    }
+
+    private static void insertionSort(int[] positions, int low, int high, int depth, char[] text) {
+        for (int i = low + 1; i < high; i++) {
+            int current = positions[i];
+            int j = i - 1;
+            while (j >= low && compare(text, positions[j], current, depth) > 0) {
+                positions[j + 1] = positions[j];
+                j--;
+            }
+            positions[j + 1] = current;
+        }
+    }
+
+    private static void merge(int[] sorted, long[] sortedCandidates, int sortedCount, int[] tail, long[] tailCandidates,
+            char[] text, int[] merged, long[] mergedCandidates) {
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < sortedCount || j < tail.length) {
+            boolean takeSorted = j == tail.length || (i < sortedCount && compare(text, sorted[i], tail[j], 0) <= 0);
+            if (takeSorted) {
+                mergedCandidates[k] = sortedCandidates[i];
+                merged[k++] = sorted[i++];
+            } else {
+                mergedCandidates[k] = tailCandidates[j];
+                merged[k++] = tail[j++];
+            }
+        }
+    }
+
+    private static void swap(int[] array, int first, int second) {
+        int temporary = array[first];
+        array[first] = array[second];
+        array[second] = temporary;
+    }
+
+    private static void swap(long[] array, int first, int second) {
+        long temporary = array[first];
+        array[first] = array[second];
+        array[second] = temporary;
+    }
+
+    private static char[] ensureCapacity(char[] array, int required) {
+        if (required <= array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(required, array.length + (array.length >> 1)));
+    }
+
+    private static boolean sameText(char[] chars, int start, int length, String text) {
+        if (length != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chars[start + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lower-cases the text and strips diacritics, so "Pokémon" and "pokemon"
+     * match.
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char current = decomposed.charAt(i);
+            if (current == TERMINATOR || Character.getType(current) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            normalized.append(Character.toLowerCase(current));
+        }
+        return normalized.toString();
+    }
+}
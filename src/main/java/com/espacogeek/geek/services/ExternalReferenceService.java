@@ -6,6 +6,7 @@ import java.util.Optional;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.utils.IdBitmap;
 
 /**
  * Interface for the ExternalReferenceService, which provides methods for retrieving ExternalReferenceModel objects.
@@ -52,4 +53,14 @@ public interface ExternalReferenceService {
      * @return ExternalReferenceModel list of <code>ExternalReferenceModel</code> found.
      */
     Optional<ExternalReferenceModel> findByReferenceAndType(String reference, TypeReferenceModel typeReference);
+
+    /**
+     * Loads the numeric values of every reference of a Type Reference, such as
+     * the TMDB IDs stored locally, reading them in pages. Values that are not
+     * a non-negative number are left out.
+     *
+     * @param typeReference the Type Reference to load.
+     * @return the values found, as a bitmap.
+     */
+    IdBitmap findAllReferenceIds(TypeReferenceModel typeReference);
 }
@@ -0,0 +1,24 @@
+package com.espacogeek.geek.services;
+
+/**
+ * Interface for the MediaRefreshQueueService, which keeps the persistent queue
+ * of medias to refresh from their external providers and drains it.
+ */
+public interface MediaRefreshQueueService {
+    /**
+     * Queues the stale medias, the most popular and the least recently updated
+     * first, and updates the priority of the popular ones already queued.
+     *
+     * @return the number of queue rows inserted or updated.
+     */
+    int enqueueStaleMedias();
+
+    /**
+     * Claims the next queued medias of the provider and refreshes them, no
+     * faster than the rate configured for the provider.
+     *
+     * @param provider the provider name, <code>TMDB</code> or <code>IGDB</code>.
+     * @return the number of medias refreshed.
+     */
+    int drain(String provider);
+}
@@ -0,0 +1,19 @@
+package com.espacogeek.geek.services;
+
+/**
+ * Interface for the MediaRefreshService, which refreshes stale medias in the
+ * background instead of on the read path.
+ */
+public interface MediaRefreshService {
+    /**
+     * Schedules a refresh of the media from its external provider.
+     * <p>
+     * A media already waiting or being refreshed is not scheduled again. When
+     * the queue is full the request is dropped; the media is scheduled again
+     * the next time it is read while stale.
+     *
+     * @param mediaId the ID (PK) of the media.
+     * @return <code>true</code> if the refresh was scheduled by this call.
+     */
+    boolean enqueue(Integer mediaId);
+}
@@ -0,0 +1,28 @@
+package com.espacogeek.geek.services;
+
+import java.util.Collection;
+
+import com.espacogeek.geek.types.MediaPage;
+
+/**
+ * Interface for the MediaSearchService, which searches several media categories
+ * at once.
+ */
+public interface MediaSearchService {
+    /**
+     * Searches every given category in parallel and merges the results into a
+     * single ranked page.
+     * <p>
+     * Each category is searched like its own query (e.g. <code>movie</code> or
+     * <code>game</code>), including the fallback to the external provider. A
+     * category that fails or does not answer before the deadline is left out,
+     * so the page may only hold partial results.
+     *
+     * @param name       the name or alternative title to search for.
+     * @param categories the IDs of the media categories to search in, or
+     *                   <code>null</code> for all of them.
+     * @param limit      the maximum number of medias to return.
+     * @return the merged page, best matches first.
+     */
+    MediaPage search(String name, Collection<Integer> categories, int limit);
+}
@@ -1,5 +1,7 @@
 package com.espacogeek.geek.services;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +10,7 @@ import org.springframework.data.domain.Pageable;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.types.MediaConnection;
 import com.espacogeek.geek.types.MediaPage;
 
 /**
@@ -22,6 +25,16 @@ public interface MediaService {
 
     List<MediaModel> saveAll(List<MediaModel> medias);
 
+    /**
+     * Marks the media as updated without saving anything else, for an update
+     * whose provider payload did not change since the last one. The media is
+     * given the new update date but is no longer managed afterwards.
+     *
+     * @param media    the stored media.
+     * @param updateAt the new update date.
+     */
+    void markUpdated(MediaModel media, Date updateAt);
+
     Optional<MediaModel> findByReferenceAndTypeReference(ExternalReferenceModel reference, TypeReferenceModel typeReferenceModel);
 
     /**
@@ -31,6 +44,24 @@ public interface MediaService {
      */
     Optional<MediaModel> findByIdEager(Integer id);
 
+    /**
+     * Reloads the media and updates it from its external provider if its last
+     * update is older than one day.
+     *
+     * @param id the ID (PK) of the media.
+     * @return the media, updated or not, or an empty Optional if it does not exist.
+     */
+    Optional<MediaModel> refreshIfStale(Integer id);
+
+    /**
+     * Reloads the media and updates it from its external provider whatever its
+     * last update, e.g. because the provider reported a change.
+     *
+     * @param id the ID (PK) of the media.
+     * @return the updated media, or an empty Optional if it does not exist.
+     */
+    Optional<MediaModel> refresh(Integer id);
+
     /**
      * Returns a random artwork URL if available.
      *
@@ -43,4 +74,26 @@ public interface MediaService {
     MediaPage findMovieByIdOrName(Integer id, String name, Pageable pageable);
 
     MediaPage findVisualNovelByIdOrName(Integer id, String name, Pageable pageable);
+
+    /**
+     * Searches local medias by name or alternative title using keyset
+     * pagination on (name, ID), without counting the total.
+     *
+     * @param name       the name or alternative title to search for.
+     * @param categories the IDs of the media categories to search in.
+     * @param first      the number of medias to return.
+     * @param after      the cursor of the last media of the previous page, or
+     *                   <code>null</code> for the first page.
+     * @return the page of medias and the cursor of the next one.
+     */
+    MediaConnection findConnectionByName(String name, Collection<Integer> categories, int first, String after);
+
+    /**
+     * Counts the medias that {@link #findConnectionByName} pages through.
+     *
+     * @param name       the name or alternative title to search for.
+     * @param categories the IDs of the media categories to search in.
+     * @return the number of matching medias.
+     */
+    long countConnectionByName(String name, Collection<Integer> categories);
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import com.espacogeek.geek.data.api.QuoteApi;
 import com.espacogeek.geek.exception.GenericException;
+import com.espacogeek.geek.exception.ProviderUnavailableException;
 import com.espacogeek.geek.models.DailyQuoteArtworkModel;
 import com.espacogeek.geek.models.QuoteModel;
 import com.espacogeek.geek.repositories.DailyQuoteArtworkRepository;
@@ -56,8 +57,13 @@ public class DailyQuoteArtworkServiceImpl implements DailyQuoteArtworkService {
             return existing.get();
         }
 
-        // Create new quote for today
-        QuoteModel quote = quoteApi.getRandomQuote();
+        // Create new quote for today, or show the last one while the quote provider is unavailable
+        QuoteModel quote;
+        try {
+            quote = quoteApi.getRandomQuote();
+        } catch (ProviderUnavailableException e) {
+            return dailyQuoteArtworkRepository.findFirstByOrderByDateDesc().orElseThrow(() -> e);
+        }
         String artwork = mediaService.randomArtwork().orElseThrow(() -> new GenericException("Artwork not found"));
 
         DailyQuoteArtworkModel dailyQuoteArtwork = new DailyQuoteArtworkModel();
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.espacogeek.geek.models.ExternalReferenceModel;
@@ -11,6 +13,8 @@ import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
 import com.espacogeek.geek.repositories.ExternalReferenceRepository;
 import com.espacogeek.geek.services.ExternalReferenceService;
+import com.espacogeek.geek.types.ExternalReferenceKey;
+import com.espacogeek.geek.utils.IdBitmap;
 
 /**
  * A Implementation class of @see ExternalReferenceService
@@ -21,6 +25,9 @@ public class ExternalReferenceServiceImpl implements ExternalReferenceService {
     @Autowired
     private ExternalReferenceRepository externalReferenceRepository;
 
+    @Value("${media.export.known-ids.page-size:10000}")
+    private int referencePageSize;
+
     /**
      * @see ExternalReferenceService#findAll(MediaModel)
      */
@@ -60,4 +67,27 @@ public class ExternalReferenceServiceImpl implements ExternalReferenceService {
     public Optional<ExternalReferenceModel> findByReferenceAndType(String reference, TypeReferenceModel typeReference) {
         return this.externalReferenceRepository.findByReferenceAndTypeReference(reference, typeReference);
     }
+
+    /**
+     * @see ExternalReferenceService#findAllReferenceIds(TypeReferenceModel)
+     */
+    @Override
+    public IdBitmap findAllReferenceIds(TypeReferenceModel typeReference) {
+        IdBitmap ids = new IdBitmap();
+        int after = 0;
+        List<ExternalReferenceKey> page;
+        do {
+            page = this.externalReferenceRepository.findKeysByTypeReferenceAfter(typeReference.getId(), after, PageRequest.of(0, referencePageSize));
+            for (ExternalReferenceKey key : page) {
+                try {
+                    int id = Integer.parseInt(key.reference());
+                    if (id >= 0) ids.add(id);
+                } catch (NumberFormatException e) {
+                    // not an ID of the provider, such as an IMDB "tt" one
+                }
+            }
+            if (!page.isEmpty()) after = page.getLast().id();
+        } while (page.size() == referencePageSize);
+        return ids;
+    }
 }
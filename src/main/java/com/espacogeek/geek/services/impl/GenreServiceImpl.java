@@ -4,7 +4,10 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.espacogeek.geek.cache.ReferenceDataRegistry;
 import com.espacogeek.geek.models.GenreModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.repositories.GenreRepository;
@@ -16,12 +19,15 @@ public class GenreServiceImpl implements GenreService {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
     /**
      * @see GenreService#findAllByName(List<String>)
      */
     @Override
     public List<GenreModel> findAllByNames(List<String> names) {
-        return genreRepository.findAllByNameIn(names);
+        return referenceDataRegistry.genres(names);
     }
 
     /**
@@ -33,10 +39,27 @@ public class GenreServiceImpl implements GenreService {
     }
 
     /**
+     * Reloads the reference data once the new genres are committed, so
+     * {@link #findAllByNames(List)} finds them.
+     *
      * @see GenreService#saveAll(List<GenreModel>)
      */
     @Override
     public List<GenreModel> saveAll (List<GenreModel> genres) {
-        return genreRepository.saveAll(genres);
+        List<GenreModel> saved = genreRepository.saveAll(genres);
+        if (saved.isEmpty()) {
+            return saved;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    referenceDataRegistry.reload();
+                }
+            });
+        } else {
+            referenceDataRegistry.reload();
+        }
+        return saved;
     }
 }
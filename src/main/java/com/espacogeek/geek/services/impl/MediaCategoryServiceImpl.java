@@ -5,8 +5,8 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.espacogeek.geek.cache.ReferenceDataRegistry;
 import com.espacogeek.geek.models.MediaCategoryModel;
-import com.espacogeek.geek.repositories.MediaCategoryRepository;
 import com.espacogeek.geek.services.MediaCategoryService;
 
 /**
@@ -16,13 +16,13 @@ import com.espacogeek.geek.services.MediaCategoryService;
 public class MediaCategoryServiceImpl implements MediaCategoryService {
     
     @Autowired
-    private MediaCategoryRepository mediaCategoryRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     /**
      * @see MediaCategoryService#findById(Integer)
      */
     @Override
     public Optional<MediaCategoryModel> findById(Integer id) {
-        return mediaCategoryRepository.findById(id);
+        return referenceDataRegistry.mediaCategory(id);
     }
 }
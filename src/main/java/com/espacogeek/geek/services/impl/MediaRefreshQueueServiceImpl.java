@@ -0,0 +1,245 @@
+package com.espacogeek.geek.services.impl;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.espacogeek.geek.data.MediaDataController.ExternalReferenceType;
+import com.espacogeek.geek.http.RequestPriority;
+import com.espacogeek.geek.models.MediaRefreshQueueModel;
+import com.espacogeek.geek.repositories.MediaRefreshQueueRepository;
+import com.espacogeek.geek.services.MediaRefreshQueueService;
+import com.espacogeek.geek.services.MediaService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Implementation class of MediaRefreshQueueService @see MediaRefreshQueueService
+ * <p>
+ * Every <code>media.refresh.queue.plan-interval-ms</code> the stale medias are
+ * queued in <code>media_refresh_queue</code>. Every
+ * <code>media.refresh.queue.drain-interval-ms</code> each provider claims as
+ * many medias as its rate allows until the next drain and refreshes them
+ * through {@link MediaService#refreshIfStale(Integer)}, spaced to keep the rate.
+ * <p>
+ * Claims are leases: a claimed media is skipped by every other instance until
+ * its lease ends, and the medias of an instance that stops are claimed again
+ * once theirs do. The lease of each media is renewed right before its refresh,
+ * and a drain that outlived its leases stops there, since the medias left may
+ * already be refreshed by another instance. A failed refresh is retried after a growing delay and
+ * dropped after <code>media.refresh.queue.max-attempts</code>.
+ */
+@Slf4j
+@Service
+public class MediaRefreshQueueServiceImpl implements MediaRefreshQueueService {
+    private static final double NEVER_UPDATED_AGE_DAYS = 30;
+    private static final List<String> PROVIDERS = List.of(ExternalReferenceType.TMDB.name(), ExternalReferenceType.IGDB.name());
+
+    private final MediaRefreshQueueRepository mediaRefreshQueueRepository;
+    private final MediaService mediaService;
+    private final AsyncTaskExecutor taskExecutor;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+    private final Map<String, AtomicBoolean> draining = new ConcurrentHashMap<>();
+
+    @Value("${media.refresh.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${media.refresh.queue.drain-interval-ms:30000}")
+    private long drainIntervalMs;
+
+    @Value("${media.refresh.queue.plan-size:5000}")
+    private int planSize;
+
+    @Value("${media.refresh.queue.stale-after-hours:48}")
+    private long staleAfterHours;
+
+    @Value("${media.refresh.queue.popularity-weight:10}")
+    private double popularityWeight;
+
+    @Value("${media.refresh.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${media.refresh.queue.rate.tmdb:2}")
+    private double tmdbRate;
+
+    @Value("${media.refresh.queue.rate.igdb:1}")
+    private double igdbRate;
+
+    public MediaRefreshQueueServiceImpl(
+            MediaRefreshQueueRepository mediaRefreshQueueRepository,
+            @Lazy MediaService mediaService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.mediaRefreshQueueRepository = mediaRefreshQueueRepository;
+        this.mediaService = mediaService;
+        this.taskExecutor = taskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.owner = instanceName();
+    }
+
+    @Scheduled(initialDelayString = "${media.refresh.queue.plan-initial-delay-ms:60000}", fixedDelayString = "${media.refresh.queue.plan-interval-ms:3600000}")
+    public void scheduledEnqueue() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int queued = enqueueStaleMedias();
+            log.info("Queued or reprioritized {} stale medias for refresh", queued);
+        } catch (RuntimeException e) {
+            log.error("Could not queue stale medias for refresh", e);
+        }
+    }
+
+    /**
+     * Starts a drain of every provider on the application task executor, so a
+     * slow provider does not hold the scheduler. A provider still draining from
+     * the previous run is skipped.
+     */
+    @Scheduled(initialDelayString = "${media.refresh.queue.drain-interval-ms:30000}", fixedDelayString = "${media.refresh.queue.drain-interval-ms:30000}")
+    public void scheduledDrain() {
+        if (!enabled) {
+            return;
+        }
+        for (String provider : PROVIDERS) {
+            AtomicBoolean running = draining.computeIfAbsent(provider, key -> new AtomicBoolean());
+            if (!running.compareAndSet(false, true)) {
+                continue;
+            }
+            taskExecutor.execute(() -> {
+                try {
+                    drain(provider);
+                } catch (RuntimeException e) {
+                    log.error("Could not drain the {} refresh queue", provider, e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * @see MediaRefreshQueueService#enqueueStaleMedias()
+     */
+    @Override
+    public int enqueueStaleMedias() {
+        Date now = new Date();
+        Date staleBefore = Date.from(now.toInstant().minus(Duration.ofHours(staleAfterHours)));
+
+        int queued = mediaRefreshQueueRepository.enqueuePopularStaleMedias(now, staleBefore, popularityWeight, NEVER_UPDATED_AGE_DAYS, planSize);
+        queued += mediaRefreshQueueRepository.enqueueOldestStaleMedias(now, staleBefore, popularityWeight, NEVER_UPDATED_AGE_DAYS, planSize);
+        meterRegistry.counter("media.refresh.queue.enqueued").increment(queued);
+        return queued;
+    }
+
+    /**
+     * @see MediaRefreshQueueService#drain(String)
+     */
+    @Override
+    public int drain(String provider) {
+        double rate = rateOf(provider);
+        if (rate <= 0) {
+            return 0;
+        }
+
+        // Claim what the rate allows until the next drain, and hold it long enough to finish.
+        int limit = (int) Math.max(1, Math.floor(rate * drainIntervalMs / 1_000d));
+        long spacingNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long leaseMs = drainIntervalMs * 3;
+        Instant now = Instant.now();
+        mediaRefreshQueueRepository.claim(provider, owner, Date.from(now), Date.from(now.plusMillis(leaseMs)), limit);
+        List<MediaRefreshQueueModel> claimed = mediaRefreshQueueRepository.findClaimed(provider, owner, Date.from(now));
+
+        int refreshed = 0;
+        long next = System.nanoTime();
+        for (MediaRefreshQueueModel entry : claimed) {
+            if (!sleepUntil(next)) {
+                break;
+            }
+            next = System.nanoTime() + spacingNanos;
+
+            // The medias were claimed together, so once one lease ended the rest did too.
+            Instant renewedAt = Instant.now();
+            if (mediaRefreshQueueRepository.renewClaim(entry.getMediaId(), owner, Date.from(renewedAt), Date.from(renewedAt.plusMillis(leaseMs))) == 0) {
+                meterRegistry.counter("media.refresh.queue.leases.lost", "provider", provider).increment();
+                log.warn("The {} refresh queue lease of media {} ended before its refresh, leaving the rest of the drain to the next one", provider, entry.getMediaId());
+                break;
+            }
+
+            try {
+                RequestPriority.runAs(RequestPriority.BACKGROUND, () -> mediaService.refreshIfStale(entry.getMediaId()));
+                mediaRefreshQueueRepository.deleteClaimed(entry.getMediaId(), owner);
+                meterRegistry.counter("media.refresh.queue.processed", "provider", provider, "result", "success").increment();
+                refreshed++;
+            } catch (RuntimeException e) {
+                fail(provider, entry, e);
+            }
+        }
+        return refreshed;
+    }
+
+    private void fail(String provider, MediaRefreshQueueModel entry, RuntimeException e) {
+        int attempts = entry.getAttempts() == null ? 1 : entry.getAttempts() + 1;
+        meterRegistry.counter("media.refresh.queue.processed", "provider", provider, "result", "failure").increment();
+        if (attempts >= maxAttempts) {
+            log.warn("Dropping media {} from the refresh queue after {} failed attempts: {}", entry.getMediaId(), attempts, e.getMessage());
+            mediaRefreshQueueRepository.deleteClaimed(entry.getMediaId(), owner);
+            return;
+        }
+
+        // Retry after 1, 2, 4... drain intervals.
+        Date retryAt = Date.from(Instant.now().plusMillis(drainIntervalMs << (attempts - 1)));
+        log.warn("Refresh of media {} failed, retrying after {}: {}", entry.getMediaId(), retryAt, e.getMessage());
+        mediaRefreshQueueRepository.release(entry.getMediaId(), owner, retryAt);
+    }
+
+    private double rateOf(String provider) {
+        return ExternalReferenceType.IGDB.name().equals(provider) ? igdbRate : tmdbRate;
+    }
+
+    /**
+     * @return <code>false</code> if interrupted while waiting.
+     */
+    private static boolean sleepUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String instanceName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String name = host + ":" + UUID.randomUUID();
+        return name.length() > 100 ? name.substring(name.length() - 100) : name;
+    }
+}
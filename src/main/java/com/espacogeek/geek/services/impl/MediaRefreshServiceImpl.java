@@ -0,0 +1,104 @@
+package com.espacogeek.geek.services.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import com.espacogeek.geek.http.RequestPriority;
+import com.espacogeek.geek.services.MediaRefreshService;
+import com.espacogeek.geek.services.MediaService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Implementation class of MediaRefreshService @see MediaRefreshService
+ * <p>
+ * Refreshes run on <code>media.refresh.concurrency</code> virtual threads
+ * taking from a queue of at most <code>media.refresh.queue-capacity</code>
+ * medias. The queue depth is exported as <code>media.refresh.queue.depth</code>,
+ * the time a media waited before its refresh started as
+ * <code>media.refresh.lag</code> and the refreshes themselves as
+ * <code>media.refresh</code>, tagged with their result.
+ */
+@Slf4j
+@Service
+public class MediaRefreshServiceImpl implements MediaRefreshService {
+    private final MediaService mediaService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Timer lag;
+
+    // Medias waiting or being refreshed, with the time they were scheduled.
+    private final ConcurrentHashMap<Integer, Long> pending = new ConcurrentHashMap<>();
+
+    public MediaRefreshServiceImpl(
+            @Lazy MediaService mediaService,
+            MeterRegistry meterRegistry,
+            @Value("${media.refresh.concurrency:4}") int concurrency,
+            @Value("${media.refresh.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.mediaService = mediaService;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("media-refresh-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.lag = Timer.builder("media.refresh.lag").register(meterRegistry);
+        Gauge.builder("media.refresh.queue.depth", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    /**
+     * @see MediaRefreshService#enqueue(Integer)
+     */
+    @Override
+    public boolean enqueue(Integer mediaId) {
+        if (mediaId == null || pending.putIfAbsent(mediaId, System.nanoTime()) != null) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> refresh(mediaId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(mediaId);
+            meterRegistry.counter("media.refresh", "result", "rejected").increment();
+            return false;
+        }
+    }
+
+    private void refresh(Integer mediaId) {
+        Long scheduledAt = pending.get(mediaId);
+        if (scheduledAt != null) {
+            lag.record(System.nanoTime() - scheduledAt, TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            RequestPriority.runAs(RequestPriority.BACKGROUND, () -> mediaService.refreshIfStale(mediaId));
+            meterRegistry.counter("media.refresh", "result", "success").increment();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("media.refresh", "result", "failure").increment();
+            log.warn("Background refresh of media {} failed: {}", mediaId, e.getMessage());
+        } finally {
+            pending.remove(mediaId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,210 @@
+package com.espacogeek.geek.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.espacogeek.geek.data.MediaDataController.MediaType;
+import com.espacogeek.geek.services.MediaSearchService;
+import com.espacogeek.geek.services.MediaService;
+import com.espacogeek.geek.types.MediaPage;
+import com.espacogeek.geek.types.MediaSimplefied;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Implementation class of MediaSearchService @see MediaSearchService
+ * <p>
+ * Every category is searched through {@link MediaService} on the virtual-thread
+ * application task executor, so a slow external provider only delays its own
+ * category. Anime series and anime movies are searched together, like the
+ * <code>anime</code> query does.
+ */
+@Slf4j
+@Service
+public class MediaSearchServiceImpl implements MediaSearchService {
+    private static final List<Integer> ALL_CATEGORIES = List.of(
+            MediaType.SERIE.getId(),
+            MediaType.GAME.getId(),
+            MediaType.VN.getId(),
+            MediaType.MOVIE.getId(),
+            MediaType.ANIME_SERIE.getId());
+
+    private final MediaService mediaService;
+
+    private final AsyncTaskExecutor taskExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${media.search.category-timeout-ms:3000}")
+    private long categoryTimeoutMs;
+
+    public MediaSearchServiceImpl(
+            MediaService mediaService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.mediaService = mediaService;
+        this.taskExecutor = taskExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @see MediaSearchService#search(String, Collection, int)
+     */
+    @Override
+    public MediaPage search(String name, Collection<Integer> categories, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        Map<String, FutureTask<MediaPage>> searches = new LinkedHashMap<>();
+        for (Integer category : categories == null || categories.isEmpty() ? ALL_CATEGORIES : categories) {
+            String searchName = searchNameOf(category);
+            if (searchName == null || searches.containsKey(searchName)) {
+                continue;
+            }
+            Function<Pageable, MediaPage> finder = finderOf(searchName, name);
+            FutureTask<MediaPage> task = new FutureTask<>(() -> finder.apply(pageable));
+            taskExecutor.execute(task);
+            searches.put(searchName, task);
+        }
+
+        // All categories run at the same time, so they share one deadline.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(categoryTimeoutMs);
+        List<MediaPage> pages = new ArrayList<>();
+        for (Map.Entry<String, FutureTask<MediaPage>> search : searches.entrySet()) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                MediaPage page = search.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                pages.add(page);
+            } catch (TimeoutException e) {
+                // Interrupts the provider call instead of leaving it to hold an executor thread.
+                search.getValue().cancel(true);
+                meterRegistry.counter("media.search.category.timeouts", "category", search.getKey()).increment();
+                log.warn("Search of '{}' in {} did not finish within {} ms, returning partial results", name, search.getKey(), categoryTimeoutMs);
+            } catch (ExecutionException e) {
+                meterRegistry.counter("media.search.category.failures", "category", search.getKey()).increment();
+                log.warn("Search of '{}' in {} failed: {}", name, search.getKey(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                searches.values().forEach(task -> task.cancel(true));
+                break;
+            }
+        }
+
+        return merge(name, pages, limit);
+    }
+
+    /**
+     * Merges the pages of every category ranking exact name matches first, then
+     * names starting with the search, then names containing it, then the rest
+     * (e.g. alternative title matches). Ties keep the position each media had
+     * in its own category, so the best result of every category comes before
+     * the second best of any.
+     */
+    private static MediaPage merge(String name, List<MediaPage> pages, int limit) {
+        String search = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+
+        List<RankedMedia> ranked = new ArrayList<>();
+        long totalElements = 0;
+        for (int order = 0; order < pages.size(); order++) {
+            MediaPage page = pages.get(order);
+            if (page == null || page.getContent() == null) {
+                continue;
+            }
+            totalElements += page.getTotalElements();
+            List<MediaSimplefied> content = page.getContent();
+            for (int position = 0; position < content.size(); position++) {
+                MediaSimplefied media = content.get(position);
+                if (media != null) {
+                    ranked.add(new RankedMedia(media, matchTier(search, media.getName()), position, order));
+                }
+            }
+        }
+
+        ranked.sort(Comparator.comparingInt(RankedMedia::tier)
+                .thenComparingInt(RankedMedia::position)
+                .thenComparingInt(RankedMedia::order));
+
+        List<MediaSimplefied> content = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (RankedMedia media : ranked) {
+            if (content.size() == limit) {
+                break;
+            }
+            if (media.media().getId() == null || seen.add(media.media().getId())) {
+                content.add(media.media());
+            }
+        }
+
+        MediaPage response = new MediaPage();
+        response.setContent(content);
+        response.setTotalElements(totalElements);
+        response.setTotalPages(content.isEmpty() ? 0 : 1);
+        response.setNumber(0);
+        response.setSize(limit);
+        return response;
+    }
+
+    private static int matchTier(String search, String mediaName) {
+        if (mediaName == null || search.isEmpty()) {
+            return 3;
+        }
+        String candidate = mediaName.trim().toLowerCase(Locale.ROOT);
+        if (candidate.equals(search)) {
+            return 0;
+        }
+        if (candidate.startsWith(search)) {
+            return 1;
+        }
+        return candidate.contains(search) ? 2 : 3;
+    }
+
+    /**
+     * @return the name of the query that searches the category, also used to
+     *         tag metrics, or <code>null</code> when it cannot be searched.
+     */
+    private static String searchNameOf(Integer category) {
+        if (category == null) {
+            return null;
+        }
+        if (category == MediaType.SERIE.getId()) return "tvserie";
+        if (category == MediaType.GAME.getId()) return "game";
+        if (category == MediaType.VN.getId()) return "vn";
+        if (category == MediaType.MOVIE.getId()) return "movie";
+        if (category == MediaType.ANIME_SERIE.getId() || category == MediaType.ANIME_MOVIE.getId()) return "anime";
+        return null;
+    }
+
+    private Function<Pageable, MediaPage> finderOf(String searchName, String name) {
+        return switch (searchName) {
+            case "tvserie" -> pageable -> mediaService.findSerieByIdOrName(null, name, pageable);
+            case "game" -> pageable -> mediaService.findGameByIdOrName(null, name, pageable);
+            case "vn" -> pageable -> mediaService.findVisualNovelByIdOrName(null, name, pageable);
+            case "movie" -> pageable -> mediaService.findMovieByIdOrName(null, name, pageable);
+            default -> pageable -> mediaService.findAnimeByIdOrName(null, name, pageable);
+        };
+    }
+
+    private record RankedMedia(MediaSimplefied media, int tier, int position, int order) {
+    }
+}
@@ -1,12 +1,22 @@
 package com.espacogeek.geek.services.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.concurrent.ThreadLocalRandom;
 
+import jakarta.persistence.EntityManager;
 import jakarta.validation.ValidationException;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,16 +26,26 @@ import org.springframework.stereotype.Service;
 
 import com.espacogeek.geek.data.MediaDataController;
 import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.exception.ProviderUnavailableException;
 import com.espacogeek.geek.models.ExternalReferenceModel;
+import com.espacogeek.geek.models.MediaCategoryModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
 import com.espacogeek.geek.repositories.ExternalReferenceRepository;
 import com.espacogeek.geek.repositories.MediaRepository;
+import com.espacogeek.geek.search.ExternalSearchCoalescer;
+import com.espacogeek.geek.search.MediaSearchCache;
 import com.espacogeek.geek.services.MediaCategoryService;
+import com.espacogeek.geek.services.MediaRefreshService;
 import com.espacogeek.geek.services.MediaService;
 import com.espacogeek.geek.services.TypeReferenceService;
+import com.espacogeek.geek.types.MediaConnection;
+import com.espacogeek.geek.types.MediaCursor;
+import com.espacogeek.geek.types.MediaEdge;
 import com.espacogeek.geek.types.MediaPage;
 import com.espacogeek.geek.types.MediaSimplefied;
+import com.espacogeek.geek.types.MediaSummary;
+import com.espacogeek.geek.utils.FullTextSearchUtils;
 import com.espacogeek.geek.utils.MediaUtils;
 import com.espacogeek.geek.utils.MediaLazyLoader;
 import jakarta.transaction.Transactional;
@@ -66,6 +86,28 @@ public class MediaServiceImpl implements MediaService {
 
     private final MediaLazyLoader mediaLazyLoader;
 
+    private final MediaSearchCache mediaSearchCache;
+
+    private final ExternalSearchCoalescer externalSearchCoalescer;
+
+    private final MediaRefreshService mediaRefreshService;
+
+    private final EntityManager entityManager;
+
+    @Value("${media.search.full-text.enabled:false}")
+    private boolean fullTextSearchEnabled;
+
+    @Value("${media.search.full-text.min-token-length:3}")
+    private int fullTextMinTokenLength;
+
+    /**
+     * <code>sync</code> updates stale medias before returning them,
+     * <code>async</code> returns them as they are and refreshes them in the
+     * background.
+     */
+    @Value("${media.refresh.mode:sync}")
+    private String refreshMode;
+
     public MediaServiceImpl(
             MediaRepository mediaRepository,
             ExternalReferenceRepository externalsRepo,
@@ -76,7 +118,11 @@ public class MediaServiceImpl implements MediaService {
             @Qualifier("gamesAndVNsAPI") MediaApi gamesAndVNsAPI,
             @Qualifier("movieAPI") MediaApi movieAPI,
             @Qualifier("tvSeriesApi") MediaApi tvSeriesApi,
-            MediaLazyLoader mediaLazyLoader
+            MediaLazyLoader mediaLazyLoader,
+            MediaSearchCache mediaSearchCache,
+            ExternalSearchCoalescer externalSearchCoalescer,
+            MediaRefreshService mediaRefreshService,
+            EntityManager entityManager
     ) {
         this.mediaRepository = mediaRepository;
         this.externalsRepo = externalsRepo;
@@ -88,6 +134,10 @@ public class MediaServiceImpl implements MediaService {
         this.movieAPI = movieAPI;
         this.tvSeriesApi = tvSeriesApi;
         this.mediaLazyLoader = mediaLazyLoader;
+        this.mediaSearchCache = mediaSearchCache;
+        this.externalSearchCoalescer = externalSearchCoalescer;
+        this.mediaRefreshService = mediaRefreshService;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -102,7 +152,9 @@ public class MediaServiceImpl implements MediaService {
         if (!hasInMemoryRefs && !hasDbRefs) {
             throw new ValidationException("Referência externa obrigatória");
         }
-        return (MediaModel) this.mediaRepository.save(media);
+        MediaModel saved = (MediaModel) this.mediaRepository.save(media);
+        invalidateSearchCache(List.of(media));
+        return saved;
     }
 
     /**
@@ -125,7 +177,37 @@ public class MediaServiceImpl implements MediaService {
         if (validToSave.isEmpty()) {
             return List.of();
         }
-        return this.mediaRepository.saveAll(validToSave);
+        List<MediaModel> saved = this.mediaRepository.saveAll(validToSave);
+        invalidateSearchCache(validToSave);
+        return saved;
+    }
+
+    /**
+     * Nothing searchable changes, so the search cache is kept. A managed media
+     * is detached before its <code>updateAt</code> is set, or the flush would
+     * write the whole row again after the bulk update.
+     *
+     * @see MediaService#markUpdated(MediaModel, Date)
+     */
+    @Override
+    public void markUpdated(MediaModel media, Date updateAt) {
+        this.mediaRepository.updateUpdateAt(media.getId(), updateAt);
+        if (entityManager.contains(media)) {
+            entityManager.detach(media);
+        }
+        media.setUpdateAt(updateAt);
+    }
+
+    /**
+     * Drops the cached search pages of the categories of the saved medias, so
+     * new and renamed medias are found by the next search.
+     */
+    private void invalidateSearchCache(List<MediaModel> medias) {
+        mediaSearchCache.invalidate(medias.stream()
+                .map(MediaModel::getMediaCategory)
+                .filter(Objects::nonNull)
+                .map(MediaCategoryModel::getId)
+                .toList());
     }
 
     private boolean hasInMemoryExternalReferences(MediaModel media) {
@@ -198,6 +280,28 @@ public class MediaServiceImpl implements MediaService {
     @Override
     @Transactional
     public Optional<MediaModel> findByIdEager(Integer id) {
+        return loadEager(id).map(this::updateIfStale);
+    }
+
+    /**
+     * @see MediaService#refreshIfStale(Integer)
+     */
+    @Override
+    @Transactional
+    public Optional<MediaModel> refreshIfStale(Integer id) {
+        return loadEager(id).map(this::update);
+    }
+
+    /**
+     * @see MediaService#refresh(Integer)
+     */
+    @Override
+    @Transactional
+    public Optional<MediaModel> refresh(Integer id) {
+        return loadEager(id).map(this::updateFromProvider);
+    }
+
+    private Optional<MediaModel> loadEager(Integer id) {
         // Use the specialized query that eagerly fetches externalReference in a single JOIN FETCH.
         // This avoids a lazy-load of externalReference later in the update flow, where the
         // Hibernate session may no longer be active (e.g. virtual-thread context switches).
@@ -213,9 +317,7 @@ public class MediaServiceImpl implements MediaService {
         // a Cartesian-product JOIN across multiple collection tables.
         mediaLazyLoader.initializeCollections(media);
 
-        media = update(media);
-
-        return Optional.ofNullable(media);
+        return Optional.of(media);
     }
 
     /**
@@ -288,23 +390,23 @@ public class MediaServiceImpl implements MediaService {
         var animeMovie = mediaCategoryService.findById(MediaDataController.MediaType.ANIME_MOVIE.getId()).orElseThrow();
         List<Integer> animeCategories = List.of(animeSerie.getId(), animeMovie.getId());
 
-        Page<MediaModel> results = (Page<MediaModel>) this.mediaRepository
-                .findMediaByNameOrAlternativeTitleAndMediaCategoryIn(name, name, animeCategories, safePageable);
+        return searchCached(animeCategories, name, safePageable,
+                () -> searchAnimeByName(name, safePageable, animeSerie, animeMovie, animeCategories));
+    }
+
+    private MediaPage searchAnimeByName(String name, Pageable safePageable, MediaCategoryModel animeSerie, MediaCategoryModel animeMovie, List<Integer> animeCategories) {
+        Page<MediaSummary> results = searchByNameOrAlternativeTitle(name, animeCategories, safePageable);
 
         if (results.hasContent()) {
-            List<MediaModel> refreshed = results.getContent().stream()
-                    .map(this::updateIfStale)
-                    .toList();
-            return mountMediaPage(new PageImpl<>(refreshed, safePageable, results.getTotalElements()));
+            return mountSummaryPage(results);
         }
 
         if (name == null || name.isBlank()) {
             return mountMediaPage(Page.empty(safePageable));
         }
 
-        var tmdbTypeReference = typeReferenceService.findById(MediaDataController.ExternalReferenceType.TMDB.getId()).orElseThrow();
-        List<MediaModel> seriesFetched = genericMediaDataController.searchMedia(name, tvSeriesApi, tmdbTypeReference, animeSerie);
-        List<MediaModel> movieFetched = genericMediaDataController.searchMedia(name, movieAPI, tmdbTypeReference, animeMovie);
+        List<MediaModel> seriesFetched = searchExternally(name, tvSeriesApi, MediaDataController.ExternalReferenceType.TMDB, animeSerie);
+        List<MediaModel> movieFetched = searchExternally(name, movieAPI, MediaDataController.ExternalReferenceType.TMDB, animeMovie);
 
         List<MediaModel> fetched = new ArrayList<>();
         fetched.addAll(seriesFetched);
@@ -332,49 +434,99 @@ public class MediaServiceImpl implements MediaService {
         return findTmdbMediaByIdOrName(id, name, pageable, MediaDataController.MediaType.MOVIE, movieAPI);
     }
 
+    /**
+     * @see MediaService#findConnectionByName(String, Collection, int, String)
+     */
+    @Override
+    public MediaConnection findConnectionByName(String name, Collection<Integer> categories, int first, String after) {
+        // One extra row tells whether there is a next page without a COUNT query.
+        Pageable limit = PageRequest.of(0, first + 1);
+        List<MediaSummary> medias;
+        if (after == null || after.isBlank()) {
+            medias = this.mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategoryInFirst(name, name, categories, limit);
+        } else {
+            MediaCursor cursor = MediaCursor.decode(after);
+            medias = this.mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategoryInAfter(name, name, categories, cursor.name(), cursor.id(), limit);
+        }
+
+        boolean hasNextPage = medias.size() > first;
+        List<MediaSummary> page = hasNextPage ? medias.subList(0, first) : medias;
+        List<MediaSimplefied> nodes = refreshStale(page);
+        List<MediaEdge> edges = new ArrayList<>(page.size());
+        for (int i = 0; i < page.size(); i++) {
+            // The cursor keeps the position of the row as read, even if the refresh renames it.
+            String cursor = new MediaCursor(page.get(i).name(), page.get(i).id()).encode();
+            edges.add(new MediaEdge(cursor, nodes.get(i)));
+        }
+
+        MediaConnection connection = new MediaConnection();
+        connection.setEdges(edges);
+        connection.setHasNextPage(hasNextPage);
+        connection.setEndCursor(edges.isEmpty() ? null : edges.getLast().getCursor());
+        connection.setName(name);
+        connection.setCategories(categories);
+        return connection;
+    }
+
+    /**
+     * @see MediaService#countConnectionByName(String, Collection)
+     */
+    @Override
+    public long countConnectionByName(String name, Collection<Integer> categories) {
+        return this.mediaRepository.countMediaByNameOrAlternativeTitleAndMediaCategoryIn(name, name, categories);
+    }
+
     @Transactional
     private MediaModel update(MediaModel media) {
+        if (!MediaUtils.updateMediaWhenLastTimeUpdateMoreThanOneDay(media)) {
+            return media;
+        }
+        return updateFromProvider(media);
+    }
+
+    /**
+     * Updates the media from its provider whatever its last update.
+     */
+    private MediaModel updateFromProvider(MediaModel media) {
         return switch (media.getMediaCategory().getId()) {
-            case 1 -> MediaUtils.updateMedia(List.of(media), serieController).getFirst();
+            case 1 -> serieController.updateAllInformation(media, null);
             case 4, 7 ->
-                MediaUtils.updateGenericMedia(List.of(media), genericMediaDataController, typeReferenceService.findById(MediaDataController.ExternalReferenceType.TMDB.getId()).get(), movieAPI).getFirst();
+                genericMediaDataController.updateAllInformation(media, null, typeReferenceService.findById(MediaDataController.ExternalReferenceType.TMDB.getId()).get(), movieAPI);
             case 5 ->
-                MediaUtils.updateGenericMedia(List.of(media), genericMediaDataController, typeReferenceService.findById(MediaDataController.ExternalReferenceType.TMDB.getId()).get(), tvSeriesApi).getFirst();
+                genericMediaDataController.updateAllInformation(media, null, typeReferenceService.findById(MediaDataController.ExternalReferenceType.TMDB.getId()).get(), tvSeriesApi);
             case 2, 3 ->
-                MediaUtils.updateGenericMedia(List.of(media), genericMediaDataController, typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId()).get(), gamesAndVNsAPI).getFirst();
+                genericMediaDataController.updateAllInformation(media, null, typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId()).get(), gamesAndVNsAPI);
             default -> media;
         };
-
     }
 
     @SuppressWarnings("unchecked")
     private MediaPage findTmdbMediaByIdOrName(Integer id, String name, Pageable pageable, MediaDataController.MediaType mediaType, MediaApi mediaApi) {
         Pageable safePageable = pageable != null ? pageable : Pageable.unpaged();
         var mediaCategory = mediaCategoryService.findById(mediaType.getId()).orElseThrow();
-        Page<MediaModel> results;
 
         if (id != null) {
             List<MediaModel> medias = new ArrayList<>();
             this.mediaRepository.findById(id).ifPresent(media -> medias.add((MediaModel) media));
-            results = new PageImpl<>(medias, safePageable, medias.size());
-            return mountMediaPage(results);
+            return mountMediaPage(new PageImpl<>(medias, safePageable, medias.size()));
         }
 
-        results = (Page<MediaModel>) this.mediaRepository.findMediaByNameOrAlternativeTitleAndMediaCategory(name, name, mediaCategory.getId(), safePageable);
+        return searchCached(List.of(mediaCategory.getId()), name, safePageable,
+                () -> searchTmdbMediaByName(name, safePageable, mediaCategory, mediaApi));
+    }
+
+    private MediaPage searchTmdbMediaByName(String name, Pageable safePageable, MediaCategoryModel mediaCategory, MediaApi mediaApi) {
+        Page<MediaSummary> results = searchByNameOrAlternativeTitle(name, mediaCategory.getId(), safePageable);
 
         if (results.hasContent()) {
-            List<MediaModel> refreshed = results.getContent().stream()
-                    .map(this::updateIfStale)
-                    .toList();
-            return mountMediaPage(new PageImpl<>(refreshed, safePageable, results.getTotalElements()));
+            return mountSummaryPage(results);
         }
 
         if (name == null || name.isBlank()) {
             return mountMediaPage(Page.empty(safePageable));
         }
 
-        var tmdbTypeReference = typeReferenceService.findById(MediaDataController.ExternalReferenceType.TMDB.getId()).orElseThrow();
-        List<MediaModel> fetched = genericMediaDataController.searchMedia(name, mediaApi, tmdbTypeReference, mediaCategory);
+        List<MediaModel> fetched = searchExternally(name, mediaApi, MediaDataController.ExternalReferenceType.TMDB, mediaCategory);
 
         if (fetched.isEmpty()) {
             return mountMediaPage(Page.empty(safePageable));
@@ -392,32 +544,31 @@ public class MediaServiceImpl implements MediaService {
     private MediaPage findGenericMediaByIdOrName(Integer id, String name, Pageable pageable, MediaDataController.MediaType mediaType) {
         Pageable safePageable = pageable != null ? pageable : Pageable.unpaged();
         var mediaCategory = mediaCategoryService.findById(mediaType.getId()).orElseThrow();
-        Page<MediaModel> results;
 
         if (id != null) {
             List<MediaModel> medias = new ArrayList<>();
             this.mediaRepository.findById(id)
                     .map(media -> updateIfStale((MediaModel) media))
                     .ifPresent(medias::add);
-            results = new PageImpl<>(medias, safePageable, medias.size());
-            return mountMediaPage(results);
+            return mountMediaPage(new PageImpl<>(medias, safePageable, medias.size()));
         }
 
-        results = this.mediaRepository.findMediaByNameOrAlternativeTitleAndMediaCategory(name, name, mediaCategory.getId(), safePageable);
+        return searchCached(List.of(mediaCategory.getId()), name, safePageable,
+                () -> searchGenericMediaByName(name, safePageable, mediaCategory));
+    }
+
+    private MediaPage searchGenericMediaByName(String name, Pageable safePageable, MediaCategoryModel mediaCategory) {
+        Page<MediaSummary> results = searchByNameOrAlternativeTitle(name, mediaCategory.getId(), safePageable);
 
         if (results.hasContent()) {
-            List<MediaModel> refreshed = results.getContent().stream()
-                    .map(this::updateIfStale)
-                    .toList();
-            return mountMediaPage(new PageImpl<>(refreshed, safePageable, results.getTotalElements()));
+            return mountSummaryPage(results);
         }
 
         if (name == null || name.isBlank()) {
             return mountMediaPage(Page.empty(safePageable));
         }
 
-        var igdbTypeReference = typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId()).orElseThrow();
-        List<MediaModel> fetched = genericMediaDataController.searchMedia(name, gamesAndVNsAPI, igdbTypeReference, mediaCategory);
+        List<MediaModel> fetched = searchExternally(name, gamesAndVNsAPI, MediaDataController.ExternalReferenceType.IGDB, mediaCategory);
 
         if (fetched.isEmpty()) {
             return mountMediaPage(Page.empty(safePageable));
@@ -432,25 +583,187 @@ public class MediaServiceImpl implements MediaService {
         return mountMediaPage(new PageImpl<>(pagedContent, safePageable, fetched.size()));
     }
 
+    /**
+     * Runs the search through the search cache. A search whose provider is
+     * unavailable finds nothing, leaving the answer to the stored medias, and
+     * its page is not cached, so the search reaches the provider again once it
+     * is back.
+     */
+    private MediaPage searchCached(List<Integer> categories, String name, Pageable pageable, Supplier<MediaPage> search) {
+        try {
+            return mediaSearchCache.getOrLoad(categories, name, pageable, search);
+        } catch (ProviderUnavailableException e) {
+            log.debug("Skipping the external search of \"{}\": {}", name, e.getMessage());
+            return mountMediaPage(Page.empty(pageable));
+        }
+    }
+
+    /**
+     * Searches the provider for medias missing locally and imports them, sharing
+     * the call with concurrent identical searches and skipping searches it
+     * recently found nothing for.
+     *
+     * @throws ProviderUnavailableException while the provider is unavailable.
+     */
+    private List<MediaModel> searchExternally(String name, MediaApi mediaApi, MediaDataController.ExternalReferenceType provider, MediaCategoryModel mediaCategory) {
+        return externalSearchCoalescer.search(provider.name(), mediaCategory.getId(), name, () -> {
+            var typeReference = typeReferenceService.findById(provider.getId()).orElseThrow();
+            return genericMediaDataController.searchMedia(name, mediaApi, typeReference, mediaCategory);
+        });
+    }
+
+    /**
+     * Searches local medias of one category by name or alternative title, using
+     * the ranked full-text query when it is enabled and the search has an
+     * indexable word, and the <code>LIKE</code> query otherwise.
+     */
+    private Page<MediaSummary> searchByNameOrAlternativeTitle(String name, Integer category, Pageable pageable) {
+        Optional<String> fullTextQuery = toFullTextQuery(name);
+        if (fullTextQuery.isEmpty()) {
+            return this.mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(name, name, category, pageable);
+        }
+        return findByFullText(fullTextQuery.get(), name, List.of(category), pageable);
+    }
+
+    /**
+     * Same as {@link #searchByNameOrAlternativeTitle(String, Integer, Pageable)} for several categories.
+     */
+    private Page<MediaSummary> searchByNameOrAlternativeTitle(String name, Collection<Integer> categories, Pageable pageable) {
+        Optional<String> fullTextQuery = toFullTextQuery(name);
+        if (fullTextQuery.isEmpty()) {
+            return this.mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategoryIn(name, name, categories, pageable);
+        }
+        return findByFullText(fullTextQuery.get(), name, categories, pageable);
+    }
+
+    private Optional<String> toFullTextQuery(String name) {
+        if (!fullTextSearchEnabled) {
+            return Optional.empty();
+        }
+        return FullTextSearchUtils.toBooleanModeQuery(name, fullTextMinTokenLength);
+    }
+
+    /**
+     * Runs the ranked full-text query, which only returns IDs, and loads the
+     * summaries of the matching medias keeping the relevance order.
+     */
+    private Page<MediaSummary> findByFullText(String query, String name, Collection<Integer> categories, Pageable pageable) {
+        Page<Integer> ids = this.mediaRepository.findMediaIdsByFullTextAndMediaCategoryIn(query, name, categories, pageable);
+        if (!ids.hasContent()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Integer, MediaSummary> mediasById = this.mediaRepository.findSummariesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(MediaSummary::id, Function.identity()));
+        List<MediaSummary> ranked = ids.getContent().stream()
+                .map(mediasById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(ranked, pageable, ids.getTotalElements());
+    }
+
     private MediaModel updateIfStale(MediaModel media) {
-        if (media == null) {
-            return null;
+        if (media == null || !MediaUtils.updateMediaWhenLastTimeUpdateMoreThanOneDay(media)) {
+            return media;
+        }
+
+        if (isAsyncRefresh()) {
+            mediaRefreshService.enqueue(media.getId());
+            return media;
+        }
+        try {
+            return update(media);
+        } catch (ProviderUnavailableException e) {
+            // Serve the stored media while the provider is unavailable; it stays stale for a later refresh.
+            log.debug("Serving stale media {}: {}", media.getId(), e.getMessage());
+            return media;
+        }
+    }
+
+    private static boolean isIgdbMedia(MediaModel media) {
+        Integer category = media.getMediaCategory() != null ? media.getMediaCategory().getId() : null;
+        return category != null && (category == MediaDataController.MediaType.GAME.getId() || category == MediaDataController.MediaType.VN.getId());
+    }
+
+    /**
+     * Same as {@link #updateIfStale(MediaModel)} for games and visual novels,
+     * which IGDB answers together, so a page of them costs one request.
+     */
+    private List<MediaModel> updateIgdbMediasIfStale(List<MediaModel> medias) {
+        if (medias.isEmpty()) {
+            return medias;
+        }
+        try {
+            return MediaUtils.updateGenericMedia(medias, genericMediaDataController,
+                    typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId()).orElseThrow(), gamesAndVNsAPI);
+        } catch (ProviderUnavailableException e) {
+            log.debug("Serving {} stale IGDB medias: {}", medias.size(), e.getMessage());
+            return medias;
+        }
+    }
+
+    private boolean isAsyncRefresh() {
+        return "async".equalsIgnoreCase(refreshMode);
+    }
+
+    /**
+     * Reloads and refreshes the full MediaModel of the stale summaries only.
+     * Fresh summaries are returned as they are, so a page without stale medias
+     * never hydrates an entity. In <code>async</code> refresh mode the stale
+     * medias are scheduled for a background refresh and returned as they are.
+     *
+     * @return the medias in the order of <code>summaries</code>.
+     */
+    private List<MediaSimplefied> refreshStale(List<MediaSummary> summaries) {
+        List<Integer> staleIds = summaries.stream()
+                .filter(summary -> MediaUtils.updateMediaWhenLastTimeUpdateMoreThanOneDay(summary.updateAt()))
+                .map(MediaSummary::id)
+                .toList();
+
+        Map<Integer, MediaSimplefied> refreshed = new HashMap<>();
+        if (isAsyncRefresh()) {
+            staleIds.forEach(mediaRefreshService::enqueue);
+        } else if (!staleIds.isEmpty()) {
+            List<MediaModel> igdbMedias = new ArrayList<>();
+            for (MediaModel media : this.mediaRepository.findAllById(staleIds)) {
+                if (isIgdbMedia(media)) {
+                    igdbMedias.add(media);
+                    continue;
+                }
+                MediaModel updated = updateIfStale(media);
+                refreshed.put(media.getId(), MediaSimplefied.fromMediaModel(updated != null ? updated : media));
+            }
+            for (MediaModel media : updateIgdbMediasIfStale(igdbMedias)) {
+                refreshed.put(media.getId(), MediaSimplefied.fromMediaModel(media));
+            }
         }
 
-        return MediaUtils.updateMediaWhenLastTimeUpdateMoreThanOneDay(media)
-                ? update(media)
-                : media;
+        List<MediaSimplefied> medias = new ArrayList<>(summaries.size());
+        for (MediaSummary summary : summaries) {
+            MediaSimplefied media = refreshed.get(summary.id());
+            medias.add(media != null ? media : MediaSimplefied.fromMediaSummary(summary));
+        }
+        return medias;
+    }
+
+    private MediaPage mountSummaryPage(Page<MediaSummary> summaries) {
+        return mountMediaPage(summaries, refreshStale(summaries.getContent()));
     }
 
     private MediaPage mountMediaPage(Page<MediaModel> medias) {
+        return mountMediaPage(medias, MediaSimplefied.fromMediaModelList(medias.getContent()));
+    }
+
+    private MediaPage mountMediaPage(Page<?> page, List<MediaSimplefied> content) {
         MediaPage response = new MediaPage();
 
-        response.setTotalPages(medias.getTotalPages());
-        response.setTotalElements(medias.getTotalElements());
-        response.setNumber(medias.getNumber());
-        response.setSize(medias.getSize());
+        response.setTotalPages(page.getTotalPages());
+        response.setTotalElements(page.getTotalElements());
+        response.setNumber(page.getNumber());
+        response.setSize(page.getSize());
 
-        response.setContent(MediaSimplefied.fromMediaModelList(medias.getContent()));
+        response.setContent(content);
 
         return response;
     }
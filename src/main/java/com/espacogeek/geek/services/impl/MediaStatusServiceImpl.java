@@ -5,8 +5,8 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.espacogeek.geek.cache.ReferenceDataRegistry;
 import com.espacogeek.geek.models.MediaStatusModel;
-import com.espacogeek.geek.repositories.MediaStatusRepository;
 import com.espacogeek.geek.services.MediaStatusService;
 
 /**
@@ -16,13 +16,13 @@ import com.espacogeek.geek.services.MediaStatusService;
 public class MediaStatusServiceImpl implements MediaStatusService {
 
     @Autowired
-    private MediaStatusRepository mediaStatusRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     /**
      * @see MediaStatusService#findAll()
      */
     @Override
     public List<MediaStatusModel> findAll() {
-        return mediaStatusRepository.findAll();
+        return referenceDataRegistry.mediaStatuses();
     }
 }
@@ -5,8 +5,8 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.espacogeek.geek.cache.ReferenceDataRegistry;
 import com.espacogeek.geek.models.TypeReferenceModel;
-import com.espacogeek.geek.repositories.TypeReferenceRepository;
 import com.espacogeek.geek.services.TypeReferenceService;
 
 /**
@@ -16,13 +16,13 @@ import com.espacogeek.geek.services.TypeReferenceService;
 public class TypeReferenceServiceImpl implements TypeReferenceService {
     
     @Autowired
-    private TypeReferenceRepository typeReferenceRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
     
     /**
      * @see TypeReferenceService#findById(Integer)
      */
     @Override
     public Optional<TypeReferenceModel> findById(Integer id) {
-        return this.typeReferenceRepository.findById(id);
+        return this.referenceDataRegistry.typeReference(id);
     }
 }
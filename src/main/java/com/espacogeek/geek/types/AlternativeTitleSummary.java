@@ -0,0 +1,7 @@
+package com.espacogeek.geek.types;
+
+/**
+ * Read-only projection of an alternative title and the ID of its media.
+ */
+public record AlternativeTitleSummary(Integer id, Integer mediaId, String name) {
+}
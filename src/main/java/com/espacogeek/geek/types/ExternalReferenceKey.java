@@ -0,0 +1,8 @@
+package com.espacogeek.geek.types;
+
+/**
+ * Read-only projection of the ID and value of an external reference, used to
+ * scan the references of a provider without loading their medias.
+ */
+public record ExternalReferenceKey(Integer id, String reference) {
+}
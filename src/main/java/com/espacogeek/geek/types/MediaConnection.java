@@ -0,0 +1,25 @@
+package com.espacogeek.geek.types;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A page of media search results navigated by cursor instead of page number.
+ * <p>
+ * <code>name</code> and <code>categories</code> keep the search that produced
+ * the page, so <code>totalElements</code> is only counted when the client
+ * selects it. They are not part of the GraphQL type.
+ */
+@Getter
+@Setter
+public class MediaConnection {
+    private List<MediaEdge> edges;
+    private boolean hasNextPage;
+    private String endCursor;
+
+    private String name;
+    private Collection<Integer> categories;
+}
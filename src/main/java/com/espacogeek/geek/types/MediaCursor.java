@@ -0,0 +1,46 @@
+package com.espacogeek.geek.types;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.espacogeek.geek.exception.InputValidationException;
+
+/**
+ * Position of a media in the (name, ID) order used by the keyset pagination
+ * of {@link MediaConnection}.
+ * <p>
+ * Clients receive it as an opaque URL-safe Base64 string and send it back
+ * unchanged as the <code>after</code> argument.
+ */
+public record MediaCursor(String name, Integer id) {
+
+    public String encode() {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + nameBytes.length)
+                .putInt(id)
+                .put(nameBytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @param cursor a value returned by {@link #encode()}.
+     * @return the decoded cursor.
+     * @throws InputValidationException if the cursor was not produced by
+     *                                  {@link #encode()}.
+     */
+    public static MediaCursor decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length < Integer.BYTES) {
+                throw new InputValidationException("Invalid cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int id = buffer.getInt();
+            String name = StandardCharsets.UTF_8.decode(buffer).toString();
+            return new MediaCursor(name, id);
+        } catch (IllegalArgumentException e) {
+            throw new InputValidationException("Invalid cursor");
+        }
+    }
+}
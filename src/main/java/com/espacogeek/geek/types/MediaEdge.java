@@ -0,0 +1,15 @@
+package com.espacogeek.geek.types;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaEdge {
+    private String cursor;
+    private MediaSimplefied node;
+}
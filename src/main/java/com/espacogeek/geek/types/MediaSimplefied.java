@@ -23,6 +23,14 @@ public class MediaSimplefied {
         return mediaSimplefied;
     }
 
+    public static MediaSimplefied fromMediaSummary(MediaSummary mediaSummary) {
+        MediaSimplefied mediaSimplefied = new MediaSimplefied();
+        mediaSimplefied.setId(mediaSummary.id());
+        mediaSimplefied.setName(mediaSummary.name());
+        mediaSimplefied.setCover(mediaSummary.cover());
+        return mediaSimplefied;
+    }
+
     public static List<MediaSimplefied> fromMediaModelList(List<MediaModel> mediaModels) {
         List<MediaSimplefied> mediaSimplefieds = new ArrayList<>();
         for (MediaModel mediaModel : mediaModels) {
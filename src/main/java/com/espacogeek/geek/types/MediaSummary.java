@@ -0,0 +1,10 @@
+package com.espacogeek.geek.types;
+
+import java.util.Date;
+
+/**
+ * Read-only projection of the columns needed to list a media without loading
+ * the whole <code>MediaModel</code> and its associations.
+ */
+public record MediaSummary(Integer id, String name, String cover, Integer categoryId, Date updateAt) {
+}
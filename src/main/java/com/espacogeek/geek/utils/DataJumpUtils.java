@@ -5,7 +5,10 @@ import java.io.InputStream;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.text.MessageFormat;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.zip.GZIPInputStream;
 
 import lombok.Getter;
@@ -35,30 +38,51 @@ public final class DataJumpUtils {
 
     }
 
+    /**
+     * The hour, in UTC, by which TMDB has published the export of the day.
+     */
+    public static final int EXPORT_AVAILABLE_HOUR_UTC = 8;
+
+    private static final DateTimeFormatter EXPORT_DATE = DateTimeFormatter.ofPattern("MM_dd_yyyy");
+
+    /**
+     * The date of the newest export TMDB should have published at
+     * <code>now</code>: today's once its publication hour has passed in UTC,
+     * yesterday's before it.
+     *
+     * @param now              the current time, in any zone.
+     * @param availableHourUtc the hour, in UTC, by which the export of the day is published.
+     * @return the date of the export.
+     */
+    public static LocalDate latestExportDate(final @NotNull ZonedDateTime now, int availableHourUtc) {
+        var utc = now.withZoneSameInstant(ZoneOffset.UTC);
+        return utc.getHour() < availableHourUtc ? utc.toLocalDate().minusDays(1) : utc.toLocalDate();
+    }
+
     /**
      *
      * This function get the daily datajump available by tmdb as a stream
      *
+     * @param client the client to download with, see {@link com.espacogeek.geek.http.OutboundProvider#TMDB_EXPORT}
      * @return an uncompressed GZIP InputStream with all titles
      */
-    public static InputStream getDataJumpTMDBStream(final @NotNull DataJumpTypeTMDB type) {
-        var now = LocalDateTime.now();
-
-        // If it's not 10 AM, use the previous day's export (TMDB provides daily dumps)
-        if (now.getHour() != 10) {
-            now = now.minusDays(1);
-        }
-
-        // formatting the date to do request as tmdb pattern
-        var month = String.valueOf(now.getMonth().getValue()).length() == 1 ? "0".concat(String.valueOf(now.getMonth().getValue())) : now.getMonth().getValue();
-        var day = String.valueOf(now.getDayOfMonth()).length() == 1 ? "0".concat(String.valueOf(now.getDayOfMonth())) : now.getDayOfMonth();
-        var year = String.valueOf(now.getYear()).replace(".", "");
+    public static InputStream getDataJumpTMDBStream(final @NotNull OkHttpClient client, final @NotNull DataJumpTypeTMDB type) {
+        return getDataJumpTMDBStream(client, type, latestExportDate(ZonedDateTime.now(), EXPORT_AVAILABLE_HOUR_UTC));
+    }
 
-        var client = new OkHttpClient().newBuilder().build();
+    /**
+     * Same as {@link #getDataJumpTMDBStream(OkHttpClient, DataJumpTypeTMDB)}
+     * for the export of a given day.
+     *
+     * @param client the client to download with, see {@link com.espacogeek.geek.http.OutboundProvider#TMDB_EXPORT}
+     * @param date   the day of the export.
+     * @return an uncompressed GZIP InputStream with all titles
+     */
+    public static InputStream getDataJumpTMDBStream(final @NotNull OkHttpClient client, final @NotNull DataJumpTypeTMDB type, final @NotNull LocalDate date) {
         Request request;
         try {
             request = new Request.Builder()
-                    .url(MessageFormat.format("http://files.tmdb.org/p/exports/{3}_ids_{0}_{1}_{2}.json.gz", month, day, year, type.getValue()))
+                    .url(MessageFormat.format("http://files.tmdb.org/p/exports/{0}_ids_{1}.json.gz", type.getValue(), EXPORT_DATE.format(date)))
                     .method("GET", null)
                     .build();
         } catch (Exception e) {
@@ -87,13 +111,14 @@ public final class DataJumpUtils {
      *
      * This function get the daily datajump available by tmdb
      *
+     * @param client the client to download with, see {@link com.espacogeek.geek.http.OutboundProvider#TMDB_EXPORT}
      * @return a JSON Array with all serie titles
      */
     @SuppressWarnings({ "unchecked" })
     @Retryable(maxAttempts = 2, backoff = @Backoff(delay = 2000), retryFor = com.espacogeek.geek.exception.RequestException.class)
-    public static JSONArray getDataJumpTMDBArray(final @NotNull DataJumpTypeTMDB type) {
+    public static JSONArray getDataJumpTMDBArray(final @NotNull OkHttpClient client, final @NotNull DataJumpTypeTMDB type) {
         JSONArray jsonArray = new JSONArray();
-        try (InputStream is = getDataJumpTMDBStream(type);
+        try (InputStream is = getDataJumpTMDBStream(client, type);
             BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
             String line;
             JSONParser parser = new JSONParser();
@@ -0,0 +1,117 @@
+package com.espacogeek.geek.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Transient;
+
+/**
+ * Copies the basic columns of an entity, that is every field except the ID,
+ * the relations and the transient ones, from one instance to another.
+ * <p>
+ * The fields are looked up once, when the copier is built, and kept as
+ * getter/setter method handles, so a copy is one handle call per column with
+ * no reflection lookups. The entities are registered for reflection in
+ * {@link com.espacogeek.geek.GeekApplication}, which is all the handles need
+ * in a native image.
+ *
+ * @param <T> the entity type.
+ */
+public final class EntityFieldCopier<T> {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> type;
+    private final List<String> fieldNames;
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+
+    private EntityFieldCopier(Class<T> type, List<String> fieldNames, MethodHandle[] getters, MethodHandle[] setters) {
+        this.type = type;
+        this.fieldNames = fieldNames;
+        this.getters = getters;
+        this.setters = setters;
+    }
+
+    /**
+     * Builds the copier of the entity type.
+     *
+     * @param type     the entity type.
+     * @param excluded names of basic fields not to copy either.
+     * @return the copier.
+     * @throws IllegalStateException if a field cannot be accessed.
+     */
+    public static <T> EntityFieldCopier<T> of(Class<T> type, String... excluded) {
+        Set<String> excludedNames = Set.of(excluded);
+        List<String> fieldNames = new ArrayList<>();
+        List<MethodHandle> getters = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            for (Field field : type.getDeclaredFields()) {
+                if (!isBasicColumn(field) || excludedNames.contains(field.getName())) continue;
+
+                fieldNames.add(field.getName());
+                getters.add(lookup.unreflectGetter(field).asType(GETTER_TYPE));
+                setters.add(lookup.unreflectSetter(field).asType(SETTER_TYPE));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access the fields of " + type.getName(), e);
+        }
+
+        return new EntityFieldCopier<>(type, Collections.unmodifiableList(fieldNames), getters.toArray(MethodHandle[]::new), setters.toArray(MethodHandle[]::new));
+    }
+
+    private static boolean isBasicColumn(Field field) {
+        int modifiers = field.getModifiers();
+        return !Modifier.isStatic(modifiers)
+                && !Modifier.isTransient(modifiers)
+                && !field.isAnnotationPresent(Id.class)
+                && !field.isAnnotationPresent(Transient.class)
+                && !field.isAnnotationPresent(OneToMany.class)
+                && !field.isAnnotationPresent(ManyToMany.class)
+                && !field.isAnnotationPresent(ManyToOne.class)
+                && !field.isAnnotationPresent(OneToOne.class);
+    }
+
+    /**
+     * Copies every basic column of <code>source</code> to <code>target</code>,
+     * <code>null</code> values included.
+     *
+     * @param source the instance to copy from.
+     * @param target the instance to copy to.
+     * @return the target.
+     */
+    public T copy(T source, T target) {
+        try {
+            for (int i = 0; i < getters.length; i++) {
+                setters[i].invokeExact((Object) target, (Object) getters[i].invokeExact((Object) source));
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to copy " + type.getSimpleName(), e);
+        }
+        return target;
+    }
+
+    /**
+     * @return the names of the copied fields, in declaration order.
+     */
+    public List<String> fieldNames() {
+        return fieldNames;
+    }
+}
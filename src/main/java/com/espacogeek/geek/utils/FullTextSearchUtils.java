@@ -0,0 +1,48 @@
+package com.espacogeek.geek.utils;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public abstract class FullTextSearchUtils {
+    /**
+     * Default value of InnoDB's <code>innodb_ft_min_token_size</code>. Shorter
+     * words are not indexed, so they can never match a full-text query.
+     */
+    public static final int DEFAULT_MIN_TOKEN_LENGTH = 3;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Builds a MariaDB boolean-mode full-text query from a free text search
+     * where every indexable word is required and matched as a prefix.
+     * <p>
+     * For example, <code>"Chrono Trigger"</code> becomes
+     * <code>"+Chrono* +Trigger*"</code>. Punctuation is treated as a word
+     * separator, which also strips the boolean-mode operators from the user
+     * input.
+     *
+     * @param search         the search typed by the user.
+     * @param minTokenLength words shorter than this are ignored.
+     * @return the boolean-mode query, or an empty Optional when the search has
+     *         no indexable word and the caller should fall back to a
+     *         <code>LIKE</code> search.
+     */
+    public static Optional<String> toBooleanModeQuery(String search, int minTokenLength) {
+        if (search == null || search.isBlank()) {
+            return Optional.empty();
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String token : TOKEN_SEPARATOR.split(search.trim())) {
+            if (token.length() < minTokenLength) {
+                continue;
+            }
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(token).append('*');
+        }
+
+        return query.isEmpty() ? Optional.empty() : Optional.of(query.toString());
+    }
+}
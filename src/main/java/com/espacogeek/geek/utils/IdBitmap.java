@@ -0,0 +1,49 @@
+package com.espacogeek.geek.utils;
+
+import java.util.BitSet;
+
+/**
+ * Set of non-negative <code>int</code> IDs kept as one bit per possible ID,
+ * so a lookup is a shift and a mask with no hashing and no boxed
+ * <code>Integer</code>.
+ * <p>
+ * Fits dense ID spaces such as the TMDB ones: a million IDs below two million
+ * take 250 KB, where a hash set takes 8 bytes or more per ID. Sparse IDs far
+ * above the count waste the bits in between. Not thread-safe while being
+ * filled; once published it can be read from any thread.
+ */
+public final class IdBitmap {
+    private final BitSet bits = new BitSet();
+    private int size;
+
+    /**
+     * @return <code>true</code> if the ID was not in the set yet.
+     * @throws IllegalArgumentException when the ID is negative.
+     */
+    public boolean add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative ID: " + id);
+        }
+        if (bits.get(id)) {
+            return false;
+        }
+        bits.set(id);
+        size++;
+        return true;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && bits.get(id);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return an approximation of the heap used by the backing words, in bytes.
+     */
+    public long estimatedBytes() {
+        return bits.size() / Byte.SIZE;
+    }
+}
@@ -0,0 +1,176 @@
+package com.espacogeek.geek.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from <code>int</code> to <code>int</code> that
+ * stores keys and values in two primitive arrays, so it allocates no boxed
+ * <code>Integer</code> per entry.
+ * <p>
+ * Uses linear probing and keeps the load factor under 0.5. Not thread-safe:
+ * callers must synchronize writes and publish reads themselves.
+ */
+public class IntIntHashMap {
+    private static final int EMPTY = 0;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * @return the value mapped to <code>key</code>, or <code>missingValue</code>
+     *         when there is none.
+     */
+    public int get(int key, int missingValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+        int index = mix(key) & mask;
+        while (true) {
+            int current = keys[index];
+            if (current == key) {
+                return values[index];
+            }
+            if (current == EMPTY) {
+                return missingValue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(int key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+        int index = mix(key) & mask;
+        while (true) {
+            int current = keys[index];
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Maps <code>key</code> to <code>value</code>, replacing any previous value.
+     */
+    public void put(int key, int value) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        int index = mix(key) & mask;
+        while (true) {
+            int current = keys[index];
+            if (current == key) {
+                values[index] = value;
+                return;
+            }
+            if (current == EMPTY) {
+                keys[index] = key;
+                values[index] = value;
+                size++;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes the mapping of <code>key</code>, if any. The entries probed after
+     * it are shifted back, so no tombstone is left.
+     */
+    public void remove(int key) {
+        if (key == EMPTY) {
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                size--;
+            }
+            return;
+        }
+        int gap = mix(key) & mask;
+        while (keys[gap] != key) {
+            if (keys[gap] == EMPTY) {
+                return;
+            }
+            gap = (gap + 1) & mask;
+        }
+        int index = (gap + 1) & mask;
+        while (keys[index] != EMPTY) {
+            int home = mix(keys[index]) & mask;
+            // The entry may fill the gap only when the gap lies between its home and its slot.
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return an approximation of the heap used by the backing arrays, in bytes.
+     */
+    public long estimatedBytes() {
+        return (long) keys.length * Integer.BYTES * 2;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key == EMPTY) {
+                continue;
+            }
+            int index = mix(key) & mask;
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = oldValues[i];
+        }
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,88 @@
+package com.espacogeek.geek.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import com.espacogeek.geek.models.AlternativeTitleModel;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.models.SeasonModel;
+
+public abstract class MediaPayloadHash {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '\u001f';
+
+    /**
+     * Computes a 64-bit FNV-1a hash of everything
+     * {@link com.espacogeek.geek.data.MediaDataController#updateAllInformation}
+     * copies from a provider payload: the basic attributes, the artworks, and
+     * the alternative titles, external references, genres and seasons.
+     * <p>
+     * Collections are hashed in a sorted order, so the same payload always
+     * gives the same hash whatever order the provider returned it in. Database
+     * IDs and the media itself are left out.
+     *
+     * @param payload the media as returned by the provider.
+     * @return the hash of the payload.
+     */
+    public static long of(MediaModel payload) {
+        StringBuilder content = new StringBuilder(512);
+        append(content, payload.getName());
+        append(content, payload.getTotalEpisodes());
+        append(content, payload.getEpisodeLength());
+        append(content, payload.getAbout());
+        append(content, payload.getCover());
+        append(content, payload.getBanner());
+        append(content, payload.getMediaStatus() == null ? null : payload.getMediaStatus().getId());
+        appendSorted(content, payload.getAlternativeTitles(), AlternativeTitleModel::getName);
+        appendSorted(content, payload.getExternalReference(), reference -> (reference.getTypeReference() == null ? "" : reference.getTypeReference().getId()) + ":" + reference.getReference());
+        appendSorted(content, payload.getGenre(), genre -> genre.getId() + ":" + genre.getName());
+        appendSorted(content, payload.getSeason(), MediaPayloadHash::seasonKey);
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < content.length(); i++) {
+            char current = content.charAt(i);
+            hash = (hash ^ (current & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (current >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static String seasonKey(SeasonModel season) {
+        StringBuilder key = new StringBuilder();
+        append(key, season.getSeasonNumber());
+        append(key, season.getName());
+        append(key, time(season.getAirDate()));
+        append(key, time(season.getEndAirDate()));
+        append(key, season.getEpisodeCount());
+        append(key, season.getCover());
+        append(key, season.getAbout());
+        return key.toString();
+    }
+
+    private static Long time(Date date) {
+        return date == null ? null : date.getTime();
+    }
+
+    private static <T> void appendSorted(StringBuilder content, Collection<T> items, Function<T, String> keyOf) {
+        List<String> keys = new ArrayList<>();
+        if (items != null) {
+            for (T item : items) {
+                if (item != null) {
+                    keys.add(keyOf.apply(item));
+                }
+            }
+        }
+        keys.sort(null);
+        content.append(keys.size()).append(SEPARATOR);
+        keys.forEach(key -> append(content, key));
+    }
+
+    private static void append(StringBuilder content, Object value) {
+        // Distinguishes null from the text "null".
+        content.append(value == null ? "\u0000" : value.toString()).append(SEPARATOR);
+    }
+}
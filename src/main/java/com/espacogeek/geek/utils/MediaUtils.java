@@ -5,6 +5,8 @@ import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -38,7 +40,18 @@ public abstract class MediaUtils {
         if (media == null)
             return false;
 
-        LocalDate mediaUpdateAt = media.getUpdateAt() == null ? null : LocalDate.ofInstant(media.getUpdateAt().toInstant(), ZoneId.systemDefault());
+        return updateMediaWhenLastTimeUpdateMoreThanOneDay(media.getUpdateAt());
+    }
+
+    /**
+     * Same as {@link #updateMediaWhenLastTimeUpdateMoreThanOneDay(MediaModel)}
+     * for the last update date alone, e.g. from a media summary.
+     *
+     * @param updateAt the last update date of the media, possibly null.
+     * @return <code>true</code> if the media should be updated.
+     */
+    public static Boolean updateMediaWhenLastTimeUpdateMoreThanOneDay(Date updateAt) {
+        LocalDate mediaUpdateAt = updateAt == null ? null : LocalDate.ofInstant(updateAt.toInstant(), ZoneId.systemDefault());
 
         if (mediaUpdateAt == null || ChronoUnit.DAYS.between(mediaUpdateAt, LocalDate.now()) > 1L) {
             return true;
@@ -52,6 +65,8 @@ public abstract class MediaUtils {
      * day ago. Use the given <code>mediaDataController</code> to update the
      * media.
      * <p>
+     * The stale medias are updated together, so the provider is asked for
+     * their details in as few requests as it allows.
      *
      * @param medias              the list of medias to update
      * @param mediaDataController the controller to update the media
@@ -61,12 +76,22 @@ public abstract class MediaUtils {
      */
     public static List<MediaModel> updateGenericMedia(List<MediaModel> medias, MediaDataController mediaDataController,
             TypeReferenceModel typeReference, MediaApi mediaApi) {
-        List<MediaModel> updatedMedias = new ArrayList<>();
+        List<MediaModel> staleMedias = medias.stream()
+                .filter(MediaUtils::updateMediaWhenLastTimeUpdateMoreThanOneDay)
+                .toList();
+        if (staleMedias.isEmpty()) {
+            return new ArrayList<>(medias);
+        }
+
+        List<MediaModel> updated = mediaDataController.updateAllInformation(staleMedias, typeReference, mediaApi);
+        Map<MediaModel, MediaModel> updatedByMedia = new IdentityHashMap<>();
+        for (int i = 0; i < staleMedias.size(); i++) {
+            updatedByMedia.put(staleMedias.get(i), updated.get(i));
+        }
 
+        List<MediaModel> updatedMedias = new ArrayList<>();
         for (MediaModel media : medias) {
-            updatedMedias.add(updateMediaWhenLastTimeUpdateMoreThanOneDay(media)
-                    ? mediaDataController.updateAllInformation(media, null, typeReference, mediaApi)
-                    : media);
+            updatedMedias.add(updatedByMedia.getOrDefault(media, media));
         }
 
         return updatedMedias;
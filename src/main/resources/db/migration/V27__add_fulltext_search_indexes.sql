@@ -0,0 +1,8 @@
+-- Full-text indexes for title search (media.search.full-text.enabled).
+-- MariaDB has no n-gram parser, so the built-in InnoDB word parser is used; terms shorter
+-- than innodb_ft_min_token_size (3 by default) fall back to the LIKE query in MediaServiceImpl.
+-- medias.name_media: ranked with MATCH ... AGAINST in findMediaIdsByFullTextAndMediaCategoryIn
+ALTER TABLE medias ADD FULLTEXT INDEX IF NOT EXISTS ft_name_media (name_media);
+
+-- alternative_titles.name_title: matched by the same query through the alternative titles subquery
+ALTER TABLE alternative_titles ADD FULLTEXT INDEX IF NOT EXISTS ft_name_title (name_title);
@@ -0,0 +1,5 @@
+-- Composite index for the keyset (cursor) pagination of title searches.
+-- findMediaByNameOrAlternativeTitleAndMediaCategoryInAfter seeks on (name_media, id_media)
+-- within the requested categories and orders by the same columns, so pages are read in
+-- index order instead of sorting every match and skipping an OFFSET.
+CREATE INDEX IF NOT EXISTS idx_media_category_name ON medias(id_category, name_media, id_media);
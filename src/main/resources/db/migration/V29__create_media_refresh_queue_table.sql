@@ -0,0 +1,22 @@
+-- Medias waiting for a refresh from their external provider, drained by the
+-- scheduled worker of MediaRefreshQueueServiceImpl. One row per media, so a
+-- media is never queued twice.
+-- A row is claimed by setting locked_by and locked_until. Another instance may
+-- only claim it once locked_until has passed, which also releases the rows of
+-- an instance that stopped while holding them.
+CREATE TABLE IF NOT EXISTS `media_refresh_queue` (
+  `media_id` INT NOT NULL,
+  `provider` VARCHAR(20) NOT NULL,
+  `priority` DOUBLE NOT NULL DEFAULT 0,
+  `enqueued_at` DATETIME(6) NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `locked_by` VARCHAR(100) DEFAULT NULL,
+  `locked_until` DATETIME(6) DEFAULT NULL,
+  PRIMARY KEY (`media_id`),
+  KEY `idx_media_refresh_queue_claim` (`provider`, `priority`),
+  KEY `idx_media_refresh_queue_owner` (`locked_by`),
+  CONSTRAINT `FK_media_refresh_queue_media` FOREIGN KEY (`media_id`) REFERENCES `medias` (`id_media`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- Finds the stale medias to queue without scanning the whole table.
+CREATE INDEX IF NOT EXISTS idx_media_update_at ON medias(update_at);
@@ -0,0 +1,4 @@
+-- Hash of the last provider payload applied to each media. An update whose
+-- payload hashes the same only touches update_at instead of rewriting the
+-- media and its children.
+ALTER TABLE medias ADD COLUMN IF NOT EXISTS payload_hash BIGINT NULL;
@@ -0,0 +1,8 @@
+-- High-water marks of the incremental provider synchronisations, e.g. the
+-- last day of the TMDB change feeds already applied by syncTmdbChangesJob.
+CREATE TABLE IF NOT EXISTS `provider_sync_state` (
+  `name` VARCHAR(100) NOT NULL,
+  `synced_until` DATE NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,5 @@
+-- Composite index for the lookups of a media by its external ID.
+-- findByReferenceAndTypeReference, run by the import jobs for every title not known yet, and
+-- findMediaIdsByReferences seek on (reference, type_reference) instead of scanning every
+-- reference of the provider through the type_reference foreign key index.
+CREATE INDEX IF NOT EXISTS idx_external_reference_type ON externals_references(reference, type_reference);
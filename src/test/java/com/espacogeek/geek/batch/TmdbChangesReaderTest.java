@@ -0,0 +1,141 @@
+package com.espacogeek.geek.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.data.api.TmdbChangesApi.Feed;
+import com.espacogeek.geek.data.api.impl.TmdbChangesApiImpl;
+import com.espacogeek.geek.exception.RequestException;
+import com.espacogeek.geek.models.ApiKeyModel;
+import com.espacogeek.geek.services.ApiKeyService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * Reads the TMDB change feed from a local server that serves the recorded
+ * pages of <code>src/test/resources/tmdb/changes</code>, named
+ * <code>{feed}-{start_date}-page-{page}.json</code>.
+ */
+class TmdbChangesReaderTest {
+
+    private HttpServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private TmdbChangesApiImpl tmdbChangesApi;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/3/", this::serveRecordedPage);
+        server.start();
+
+        ApiKeyModel apiKey = new ApiKeyModel();
+        apiKey.setKey("test-token");
+        ApiKeyService apiKeyService = mock(ApiKeyService.class);
+        when(apiKeyService.findById(MediaApi.ApiKey.TMDB_API_KEY_ID.getId())).thenReturn(Optional.of(apiKey));
+
+        tmdbChangesApi = new TmdbChangesApiImpl(apiKeyService, new OkHttpClient(), "http://127.0.0.1:" + server.getAddress().getPort() + "/3");
+        tmdbChangesApi.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void read_ShouldPageThroughEveryWindowUpToTheLastDay() {
+        TmdbChangesReader reader = new TmdbChangesReader(tmdbChangesApi, Feed.MOVIE, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-01-20"));
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly(550, 603, 13, 680, 155, 27205);
+        // 20 days are read as a 14 day window and a 6 day one.
+        assertThat(requests).containsExactly(
+                "/3/movie/changes?start_date=2026-01-01&end_date=2026-01-14&page=1",
+                "/3/movie/changes?start_date=2026-01-01&end_date=2026-01-14&page=2",
+                "/3/movie/changes?start_date=2026-01-15&end_date=2026-01-20&page=1");
+        assertThat(authorizations).containsOnly("Bearer test-token");
+    }
+
+    @Test
+    void open_WithACheckpoint_ShouldResumeFromTheSavedPosition() {
+        TmdbChangesReader reader = new TmdbChangesReader(tmdbChangesApi, Feed.MOVIE, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-01-20"));
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+        reader.read();
+        reader.read();
+        reader.read();
+        reader.read();
+        reader.update(executionContext);
+
+        TmdbChangesReader restarted = new TmdbChangesReader(tmdbChangesApi, Feed.MOVIE, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-01-20"));
+        restarted.open(executionContext);
+
+        assertThat(readAll(restarted)).containsExactly(155, 27205);
+    }
+
+    @Test
+    void read_WhenTmdbAnswersWithAnError_ShouldFail() {
+        TmdbChangesReader reader = new TmdbChangesReader(tmdbChangesApi, Feed.TV, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-01-02"));
+        reader.open(new ExecutionContext());
+
+        assertThatThrownBy(reader::read).isInstanceOf(RequestException.class);
+    }
+
+    private static List<Integer> readAll(TmdbChangesReader reader) {
+        List<Integer> ids = new ArrayList<>();
+        Integer id;
+        while ((id = reader.read()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private void serveRecordedPage(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        requests.add(exchange.getRequestURI().getRawPath() + "?" + query);
+        authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (String parameter : query.split("&")) {
+            String[] pair = parameter.split("=", 2);
+            parameters.put(pair[0], pair.length > 1 ? pair[1] : "");
+        }
+        String feed = exchange.getRequestURI().getRawPath().split("/")[2];
+        String resource = "/tmdb/changes/" + feed + "-" + parameters.get("start_date") + "-page-" + parameters.get("page") + ".json";
+
+        try (InputStream recorded = getClass().getResourceAsStream(resource); OutputStream body = exchange.getResponseBody()) {
+            if (recorded == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] page = recorded.readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, page.length);
+            body.write(page);
+        }
+    }
+}
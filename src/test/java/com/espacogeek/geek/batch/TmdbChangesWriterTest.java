@@ -0,0 +1,78 @@
+package com.espacogeek.geek.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import com.espacogeek.geek.cache.ProviderResponseCache;
+import com.espacogeek.geek.data.api.TmdbChangesApi.Feed;
+import com.espacogeek.geek.repositories.ExternalReferenceRepository;
+import com.espacogeek.geek.services.MediaService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TmdbChangesWriterTest {
+
+    @Mock
+    private ExternalReferenceRepository externalReferenceRepository;
+
+    @Mock
+    private MediaService mediaService;
+
+    @Mock
+    private ProviderResponseCache responseCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TmdbChangesWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new TmdbChangesWriter(externalReferenceRepository, mediaService, responseCache, new ResourcelessTransactionManager(), meterRegistry, Feed.TV);
+    }
+
+    @Test
+    void write_ShouldRefreshOnlyTheStoredMediasAndKeepGoingAfterAFailure() {
+        when(externalReferenceRepository.findMediaIdsByReferences(Set.of("1399", "66732", "999999"), 1, List.of(1, 5)))
+                .thenReturn(List.of(10, 20));
+        when(mediaService.refresh(10)).thenThrow(new IllegalStateException("TMDB unavailable"));
+        when(mediaService.refresh(20)).thenReturn(Optional.empty());
+
+        writer.write(new Chunk<>(1399, 66732, 999999, 1399));
+
+        verify(responseCache).invalidate("tmdb", "tv", "66732");
+        verify(mediaService).refresh(10);
+        verify(mediaService).refresh(20);
+        assertThat(meterRegistry.counter("media.changes.refreshed", "feed", "tv", "result", "success").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("media.changes.refreshed", "feed", "tv", "result", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("media.changes.ids", "feed", "tv", "result", "unknown").count()).isEqualTo(1);
+    }
+
+    @Test
+    void write_WhenNoIdIsStored_ShouldNotRefreshAnything() {
+        when(externalReferenceRepository.findMediaIdsByReferences(anyCollection(), eq(1), any())).thenReturn(List.of());
+
+        writer.write(new Chunk<>(424242));
+
+        verify(mediaService, never()).refresh(anyInt());
+    }
+}
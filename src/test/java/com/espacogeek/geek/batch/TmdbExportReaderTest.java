@@ -0,0 +1,176 @@
+package com.espacogeek.geek.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import com.espacogeek.geek.data.export.TmdbExportSnapshots;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Reads the movie exports of two days from snapshots of gzip exports answered
+ * by an interceptor instead of TMDB, which counts the downloads.
+ */
+class TmdbExportReaderTest {
+    private static final LocalDate YESTERDAY = LocalDate.parse("2026-03-09");
+    private static final LocalDate TODAY = LocalDate.parse("2026-03-10");
+
+    private static final String YESTERDAY_EXPORT = """
+            {"adult":false,"id":550,"original_title":"Fight Club","popularity":61.4,"video":false}
+            {"adult":false,"id":603,"original_title":"The Matrix","popularity":58.1,"video":false}
+            {"adult":false,"id":155,"original_title":"The Dark Knight","popularity":40.3,"video":false}
+            """;
+
+    private static final String TODAY_EXPORT = """
+            {"adult":false,"id":550,"original_title":"Fight Club","popularity":61.4,"video":false}
+            {"adult":false,"id":603,"original_title":"The Matrix","popularity":58.1,"video":false}\r
+            not json
+            {"adult":false,"id":13,"original_title":"Forrest Gump","popularity":49.0,"video":false}
+            {"adult":false,"id":680,"original_title":"Pulp Fiction","popularity":44.2,"video":false}
+            """;
+
+    @TempDir
+    Path directory;
+
+    private final List<String> downloads = new CopyOnWriteArrayList<>();
+    private TmdbExportSnapshots snapshots;
+
+    @BeforeEach
+    void setUp() {
+        OutboundHttpClients httpClients = mock(OutboundHttpClients.class);
+        when(httpClients.client(OutboundProvider.TMDB_EXPORT)).thenReturn(new OkHttpClient.Builder().addInterceptor(this::serveExport).build());
+        snapshots = new TmdbExportSnapshots(httpClients, new SimpleMeterRegistry(), directory.toString(), 3, 0);
+    }
+
+    @Test
+    void read_WithoutBaseline_ShouldReturnEveryTitleOfTheExport() {
+        TmdbExportReader reader = reader(TODAY, null);
+        reader.open(new ExecutionContext());
+
+        List<JSONObject> movies = readAll(reader, Integer.MAX_VALUE);
+
+        assertThat(movies).extracting(movie -> movie.get("id")).containsExactly(13L, 550L, 603L, 680L);
+        assertThat(movies.getFirst().get("original_title")).isEqualTo("Forrest Gump");
+        assertThat(downloads).containsExactly("http://files.tmdb.org/p/exports/movie_ids_03_10_2026.json.gz");
+    }
+
+    @Test
+    void read_WithABaseline_ShouldOnlyReturnTheAddedTitles() {
+        TmdbExportReader reader = reader(TODAY, YESTERDAY);
+        reader.open(new ExecutionContext());
+        TmdbRemovedTitlesReader removed = new TmdbRemovedTitlesReader("testRemovedReader", snapshots, DataJumpTypeTMDB.MOVIE, TODAY, YESTERDAY);
+        removed.open(new ExecutionContext());
+
+        assertThat(readAll(reader, Integer.MAX_VALUE)).extracting(movie -> movie.get("id")).containsExactly(13L, 680L);
+        assertThat(readAll(removed, Integer.MAX_VALUE)).containsExactly(155);
+        assertThat(downloads).hasSize(2);
+    }
+
+    @Test
+    void open_AfterACheckpoint_ShouldResumeAtTheNextTitleWithoutDownloadingAgain() {
+        ExecutionContext executionContext = new ExecutionContext();
+        TmdbExportReader reader = reader(TODAY, null);
+        reader.open(executionContext);
+        readAll(reader, 2);
+        reader.update(executionContext);
+        reader.close();
+
+        TmdbExportReader restarted = reader(TODAY, null);
+        restarted.open(executionContext);
+
+        assertThat(readAll(restarted, Integer.MAX_VALUE)).extracting(movie -> movie.get("id")).containsExactly(603L, 680L);
+        assertThat(executionContext.getInt("testExportReader.index")).isEqualTo(2);
+        assertThat(downloads).hasSize(1);
+    }
+
+    @Test
+    void partition_ShouldSplitTheAddedTitlesIntoIdRangesReadOnce() {
+        Map<String, ExecutionContext> partitions = new TmdbExportPartitioner(snapshots, DataJumpTypeTMDB.MOVIE, TODAY, null).partition(3);
+
+        List<Object> ids = new ArrayList<>();
+        for (ExecutionContext partition : partitions.values()) {
+            TmdbExportReader reader = new TmdbExportReader("testExportReader", snapshots, DataJumpTypeTMDB.MOVIE, TODAY, null,
+                    partition.getInt(TmdbExportPartitioner.KEY_MIN_ID), partition.getInt(TmdbExportPartitioner.KEY_MAX_ID));
+            reader.open(partition);
+            List<JSONObject> movies = readAll(reader, Integer.MAX_VALUE);
+            assertThat(movies).isNotEmpty();
+            movies.forEach(movie -> ids.add(movie.get("id")));
+        }
+
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.get("partition0").getInt(TmdbExportPartitioner.KEY_MIN_ID)).isZero();
+        assertThat(partitions.get("partition2").getInt(TmdbExportPartitioner.KEY_MAX_ID)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(ids).containsExactly(13L, 550L, 603L, 680L);
+    }
+
+    @Test
+    void partition_WithMorePartitionsThanTitles_ShouldMakeOnePerTitle() {
+        Map<String, ExecutionContext> partitions = new TmdbExportPartitioner(snapshots, DataJumpTypeTMDB.MOVIE, TODAY, YESTERDAY).partition(8);
+
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions.get("partition0").getInt(TmdbExportPartitioner.KEY_MAX_ID)).isEqualTo(679);
+        assertThat(partitions.get("partition1").getInt(TmdbExportPartitioner.KEY_MIN_ID)).isEqualTo(680);
+    }
+
+    private TmdbExportReader reader(LocalDate date, LocalDate baseline) {
+        return new TmdbExportReader("testExportReader", snapshots, DataJumpTypeTMDB.MOVIE, date, baseline);
+    }
+
+    private Response serveExport(Interceptor.Chain chain) throws IOException {
+        String url = chain.request().url().toString();
+        downloads.add(url);
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write((url.contains("03_09_2026") ? YESTERDAY_EXPORT : TODAY_EXPORT).getBytes(StandardCharsets.UTF_8));
+        }
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(gzip.toByteArray(), MediaType.get("application/gzip")))
+                .build();
+    }
+
+    private static <T> List<T> readAll(ItemStreamReader<T> reader, int max) {
+        List<T> items = new ArrayList<>();
+        T item;
+        try {
+            while (items.size() < max && (item = reader.read()) != null) {
+                items.add(item);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,84 @@
+package com.espacogeek.geek.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+
+import com.espacogeek.geek.cache.ProviderResponseCache;
+import com.espacogeek.geek.data.api.TmdbChangesApi.Feed;
+import com.espacogeek.geek.repositories.ExternalReferenceRepository;
+import com.espacogeek.geek.repositories.MediaRepository;
+import com.espacogeek.geek.search.MediaSearchCache;
+import com.espacogeek.geek.search.MediaSuggestIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TmdbRemovedTitlesWriterTest {
+
+    @Mock
+    private ExternalReferenceRepository externalReferenceRepository;
+
+    @Mock
+    private MediaRepository mediaRepository;
+
+    @Mock
+    private ProviderResponseCache responseCache;
+
+    @Mock
+    private MediaSearchCache mediaSearchCache;
+
+    @Mock
+    private MediaSuggestIndex mediaSuggestIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TmdbRemovedTitlesWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new TmdbRemovedTitlesWriter(externalReferenceRepository, mediaRepository, responseCache, mediaSearchCache, mediaSuggestIndex, meterRegistry, Feed.MOVIE);
+    }
+
+    @Test
+    void write_ShouldDeleteOnlyTheMediasWithoutUsers() {
+        when(externalReferenceRepository.findMediaIdsByReferences(Set.of("155", "603", "999999"), 1, List.of(4, 7)))
+                .thenReturn(List.of(10, 20, 30));
+        when(mediaRepository.findIdsWithoutUsers(List.of(10, 20, 30))).thenReturn(List.of(10, 30));
+        when(mediaRepository.deleteWithChildren(List.of(10, 30))).thenReturn(2);
+
+        writer.write(new Chunk<>(155, 603, 999999, 155));
+
+        verify(responseCache).invalidate("tmdb", "movie", "999999");
+        verify(mediaRepository).deleteWithChildren(List.of(10, 30));
+        verify(mediaSearchCache).invalidate(List.of(4, 7));
+        verify(mediaSuggestIndex).remove(List.of(10, 30));
+        assertThat(meterRegistry.counter("media.export.removed", "feed", "movie", "result", "deleted").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("media.export.removed", "feed", "movie", "result", "kept").count()).isEqualTo(1);
+    }
+
+    @Test
+    void write_WhenNoIdIsStored_ShouldNotDeleteAnything() {
+        when(externalReferenceRepository.findMediaIdsByReferences(anyCollection(), eq(1), any())).thenReturn(List.of());
+
+        writer.write(new Chunk<>(424242));
+
+        verify(mediaRepository, never()).deleteWithChildren(any());
+        verify(mediaSuggestIndex, never()).remove(any());
+    }
+}
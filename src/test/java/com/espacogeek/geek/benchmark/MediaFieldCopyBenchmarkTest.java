@@ -0,0 +1,114 @@
+package com.espacogeek.geek.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.utils.EntityFieldCopier;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+/**
+ * Compares the reflection loop that <code>updateBasicAttributes</code> used
+ * to run on every media against the precomputed {@link EntityFieldCopier}.
+ *
+ * <pre>
+ * ./gradlew benchmark -Dbenchmark.iterations=2000000
+ * </pre>
+ */
+@Tag("benchmark")
+class MediaFieldCopyBenchmarkTest {
+
+    private static final EntityFieldCopier<MediaModel> COPIER = EntityFieldCopier.of(MediaModel.class, "payloadHash");
+
+    @Test
+    void compareReflectionAndCopierLatency() {
+        int iterations = Integer.getInteger("benchmark.iterations", 1_000_000);
+        MediaModel source = source();
+
+        long[] reflection = measure(iterations, source, MediaFieldCopyBenchmarkTest::copyWithReflection);
+        long[] copier = measure(iterations, source, COPIER::copy);
+
+        report("REFLECT", reflection, iterations);
+        report("COPIER", copier, iterations);
+
+        MediaModel copied = COPIER.copy(source, new MediaModel());
+        assertThat(copied.getName()).isEqualTo(source.getName());
+        assertThat(copied.getAbout()).isEqualTo(source.getAbout());
+    }
+
+    /**
+     * Runs ten rounds of <code>iterations</code> copies after a warm-up round
+     * and returns the sorted nanoseconds per copy of each round.
+     */
+    private static long[] measure(int iterations, MediaModel source, BiConsumer<MediaModel, MediaModel> copy) {
+        MediaModel target = new MediaModel();
+        for (int i = 0; i < iterations; i++) {
+            copy.accept(source, target); // warm-up
+        }
+
+        long[] rounds = new long[10];
+        for (int round = 0; round < rounds.length; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                copy.accept(source, target);
+            }
+            rounds[round] = (System.nanoTime() - start) / iterations;
+        }
+        Arrays.sort(rounds);
+        return rounds;
+    }
+
+    private static void report(String name, long[] sortedRounds, int iterations) {
+        System.out.printf("%-8s min=%dns/op median=%dns/op max=%dns/op (%d rounds of %d copies)%n",
+            name,
+            sortedRounds[0],
+            sortedRounds[sortedRounds.length / 2],
+            sortedRounds[sortedRounds.length - 1],
+            sortedRounds.length,
+            iterations);
+    }
+
+    /**
+     * The loop <code>GenericMediaDataControllerImpl#updateBasicAttributes</code>
+     * ran before the copier.
+     */
+    private static void copyWithReflection(MediaModel rawMedia, MediaModel media) {
+        for (Field field : media.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            for (Field rawField : rawMedia.getClass().getDeclaredFields()) {
+                rawField.setAccessible(true);
+                if (field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class) || field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(Id.class)) continue;
+                if (field.getName().equals(rawField.getName())) {
+                    try {
+                        field.set(media, rawField.get(rawMedia));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static MediaModel source() {
+        MediaModel media = new MediaModel();
+        media.setName("Chrono Trigger");
+        media.setTotalEpisodes(1);
+        media.setEpisodeLength(40);
+        media.setAbout("A group of adventurers travel through time.");
+        media.setCover("https://images.igdb.com/cover.jpg");
+        media.setBanner("https://images.igdb.com/banner.jpg");
+        media.setUpdateAt(new Date());
+        return media;
+    }
+}
@@ -0,0 +1,212 @@
+package com.espacogeek.geek.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.espacogeek.geek.utils.FullTextSearchUtils;
+
+/**
+ * Compares the latency of the double-wildcard LIKE title search against the
+ * ranked full-text search on a seeded MariaDB dataset.
+ * <p>
+ * The queries mirror {@code MediaRepository#findSummariesByNameOrAlternativeTitleAndMediaCategory}
+ * and {@code MediaRepository#findMediaIdsByFullTextAndMediaCategoryIn} but run on scratch
+ * tables, so any database can be used:
+ *
+ * <pre>
+ * ./gradlew benchmark -Dbenchmark.jdbc.url=jdbc:mariadb://localhost:3307/espacogeekdb \
+ *     -Dbenchmark.jdbc.user=root -Dbenchmark.jdbc.password=root -Dbenchmark.rows=200000
+ * </pre>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MediaTitleSearchBenchmarkTest {
+
+    private static final String[] WORDS = {
+        "chrono", "trigger", "final", "fantasy", "dragon", "quest", "star", "wars", "legend", "zelda",
+        "shadow", "moon", "night", "city", "blood", "king", "dark", "souls", "metal", "gear",
+        "silent", "hill", "ghost", "tokyo", "steins", "gate", "mobile", "suit", "gundam", "attack",
+        "titan", "hunter", "witch", "spirit", "sword", "online", "planet", "earth", "ocean", "storm"
+    };
+
+    private static final List<String> SEARCHES = List.of("chrono trigger", "final fantasy", "ghost", "steins gate", "attack titan", "zzz missing");
+
+    private static final String LIKE_QUERY = "SELECT m.id_media FROM bench_medias m " +
+        "WHERE m.id_category = ? AND (m.name_media LIKE CONCAT('%', ?, '%') " +
+        "OR EXISTS (SELECT 1 FROM bench_alternative_titles a WHERE a.id_media = m.id_media AND a.name_title LIKE CONCAT('%', ?, '%'))) " +
+        "LIMIT 10";
+
+    private static final String FULL_TEXT_QUERY = "SELECT m.id_media FROM bench_medias m " +
+        "WHERE m.id_category IN (?) AND (MATCH(m.name_media) AGAINST(? IN BOOLEAN MODE) " +
+        "OR m.id_media IN (SELECT a.id_media FROM bench_alternative_titles a WHERE MATCH(a.name_title) AGAINST(? IN BOOLEAN MODE))) " +
+        "ORDER BY (m.name_media = ?) DESC, GREATEST(MATCH(m.name_media) AGAINST(?), " +
+        "COALESCE((SELECT MAX(MATCH(a2.name_title) AGAINST(?)) FROM bench_alternative_titles a2 WHERE a2.id_media = m.id_media), 0)) DESC, m.id_media " +
+        "LIMIT 10";
+
+    private Connection connection;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc.url"),
+            System.getProperty("benchmark.jdbc.user", "root"),
+            System.getProperty("benchmark.jdbc.password", "root"));
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_alternative_titles");
+            statement.execute("DROP TABLE IF EXISTS bench_medias");
+            statement.execute("CREATE TABLE bench_medias (id_media INT PRIMARY KEY, id_category INT NOT NULL, name_media VARCHAR(255), " +
+                "KEY idx_bench_category (id_category), KEY idx_bench_name (name_media(191)), FULLTEXT KEY ft_bench_name (name_media)) ENGINE=InnoDB");
+            statement.execute("CREATE TABLE bench_alternative_titles (id_alternative_title INT PRIMARY KEY, id_media INT NOT NULL, name_title VARCHAR(1000), " +
+                "KEY idx_bench_media (id_media), FULLTEXT KEY ft_bench_title (name_title)) ENGINE=InnoDB");
+        }
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement media = connection.prepareStatement("INSERT INTO bench_medias VALUES (?, ?, ?)");
+             PreparedStatement title = connection.prepareStatement("INSERT INTO bench_alternative_titles VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= rows; id++) {
+                media.setInt(1, id);
+                media.setInt(2, 1 + random.nextInt(7));
+                media.setString(3, randomTitle(random));
+                media.addBatch();
+
+                title.setInt(1, id);
+                title.setInt(2, id);
+                title.setString(3, randomTitle(random));
+                title.addBatch();
+
+                if (id % 5_000 == 0) {
+                    media.executeBatch();
+                    title.executeBatch();
+                    connection.commit();
+                }
+            }
+            media.executeBatch();
+            title.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+    }
+
+    @AfterAll
+    void drop() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_alternative_titles");
+            statement.execute("DROP TABLE IF EXISTS bench_medias");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    void compareLikeAndFullTextLatency() throws SQLException {
+        int iterations = Integer.getInteger("benchmark.iterations", 50);
+
+        long[] like = measure(iterations, search -> {
+            try (PreparedStatement statement = connection.prepareStatement(LIKE_QUERY)) {
+                statement.setInt(1, 2);
+                statement.setString(2, search);
+                statement.setString(3, search);
+                return count(statement);
+            }
+        });
+        long[] fullText = measure(iterations, search -> {
+            String query = FullTextSearchUtils.toBooleanModeQuery(search, FullTextSearchUtils.DEFAULT_MIN_TOKEN_LENGTH).orElseThrow();
+            try (PreparedStatement statement = connection.prepareStatement(FULL_TEXT_QUERY)) {
+                statement.setInt(1, 2);
+                statement.setString(2, query);
+                statement.setString(3, query);
+                statement.setString(4, search);
+                statement.setString(5, search);
+                statement.setString(6, search);
+                return count(statement);
+            }
+        });
+
+        report("LIKE", like);
+        report("FULLTEXT", fullText);
+        assertThat(fullText).isNotEmpty();
+    }
+
+    private long[] measure(int iterations, SearchQuery query) throws SQLException {
+        for (String search : SEARCHES) {
+            query.run(search); // warm-up
+        }
+
+        long[] samples = new long[iterations * SEARCHES.size()];
+        int sample = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (String search : SEARCHES) {
+                long start = System.nanoTime();
+                query.run(search);
+                samples[sample++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static void report(String name, long[] sortedSamples) {
+        System.out.printf("%-8s p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms (%d samples)%n",
+            name,
+            percentile(sortedSamples, 0.50),
+            percentile(sortedSamples, 0.95),
+            percentile(sortedSamples, 0.99),
+            sortedSamples[sortedSamples.length - 1] / 1_000_000.0,
+            sortedSamples.length);
+    }
+
+    private static double percentile(long[] sortedSamples, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String randomTitle(Random random) {
+        int words = 1 + random.nextInt(4);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.append(' ').append(random.nextInt(1000)).toString();
+    }
+
+    @FunctionalInterface
+    private interface SearchQuery {
+        int run(String search) throws SQLException;
+    }
+}
@@ -0,0 +1,101 @@
+package com.espacogeek.geek.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.utils.IdBitmap;
+
+/**
+ * Measures the stored TMDB ID prefilter of the import processors: the heap
+ * of an {@link IdBitmap} against a <code>HashSet&lt;Integer&gt;</code> of the
+ * same IDs, and the lookups per second of both on a mix of stored and new IDs.
+ *
+ * <pre>
+ * ./gradlew benchmark -Dbenchmark.ids=1000000 -Dbenchmark.max-id=1600000
+ * </pre>
+ */
+@Tag("benchmark")
+class StoredIdPrefilterBenchmarkTest {
+
+    @Test
+    void compareBitmapAndHashSetFootprintAndThroughput() {
+        int count = Integer.getInteger("benchmark.ids", 1_000_000);
+        int maxId = Integer.getInteger("benchmark.max-id", 1_600_000);
+        Random random = new Random(42);
+        int[] stored = random.ints(count, 0, maxId).toArray();
+        int[] lookups = random.ints(1 << 20, 0, maxId + maxId / 10).toArray();
+
+        long before = usedHeap();
+        IdBitmap bitmap = new IdBitmap();
+        for (int id : stored) {
+            bitmap.add(id);
+        }
+        long bitmapHeap = usedHeap() - before;
+
+        before = usedHeap();
+        Set<Integer> hashSet = new HashSet<>();
+        for (int id : stored) {
+            hashSet.add(id);
+        }
+        long hashSetHeap = usedHeap() - before;
+
+        System.out.printf("BITMAP   %,d IDs below %,d: estimated=%,d bytes measured=%,d bytes%n", bitmap.size(), maxId, bitmap.estimatedBytes(), bitmapHeap);
+        System.out.printf("HASHSET  %,d IDs below %,d: measured=%,d bytes%n", hashSet.size(), maxId, hashSetHeap);
+
+        report("BITMAP", measure(lookups, bitmap::contains), lookups.length);
+        report("HASHSET", measure(lookups, hashSet::contains), lookups.length);
+
+        assertThat(bitmap.size()).isEqualTo(hashSet.size());
+        assertThat(Arrays.stream(lookups).filter(bitmap::contains).count())
+                .isEqualTo(Arrays.stream(lookups).filter(hashSet::contains).count());
+    }
+
+    /**
+     * Runs ten rounds over the lookups after a warm-up round and returns the
+     * sorted nanoseconds of each round.
+     */
+    private static long[] measure(int[] lookups, IntPredicate contains) {
+        int hits = 0;
+        for (int id : lookups) {
+            if (contains.test(id)) hits++; // warm-up
+        }
+
+        long[] rounds = new long[10];
+        for (int round = 0; round < rounds.length; round++) {
+            long start = System.nanoTime();
+            for (int id : lookups) {
+                if (contains.test(id)) hits++;
+            }
+            rounds[round] = System.nanoTime() - start;
+        }
+        assertThat(hits).isPositive();
+        Arrays.sort(rounds);
+        return rounds;
+    }
+
+    private static void report(String name, long[] sortedRounds, int lookups) {
+        System.out.printf("%-8s best=%,d lookups/s median=%,d lookups/s worst=%,d lookups/s (%d rounds of %d lookups)%n",
+            name,
+            lookups * 1_000_000_000L / sortedRounds[0],
+            lookups * 1_000_000_000L / sortedRounds[sortedRounds.length / 2],
+            lookups * 1_000_000_000L / sortedRounds[sortedRounds.length - 1],
+            sortedRounds.length,
+            lookups);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
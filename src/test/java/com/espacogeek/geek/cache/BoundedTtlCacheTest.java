@@ -0,0 +1,80 @@
+package com.espacogeek.geek.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoundedTtlCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BoundedTtlCache<>("test", 2, Duration.ofSeconds(10), meterRegistry, now::get);
+    }
+
+    @Test
+    void getIfPresent_ShouldCountHitsAndMisses() {
+        cache.put("a", 1);
+
+        assertThat(cache.getIfPresent("a")).isEqualTo(1);
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(meterRegistry.counter("cache.gets", "cache", "test", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.gets", "cache", "test", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void getIfPresent_AfterTtl_ShouldReturnNull() {
+        cache.put("a", 1);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_WithATtl_ShouldExpireTheEntryAfterIt() {
+        cache.put("a", 1, Duration.ofSeconds(1));
+        cache.put("b", 2, Duration.ofSeconds(30));
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.getIfPresent("b")).isEqualTo(2);
+    }
+
+    @Test
+    void put_WhenFull_ShouldEvictLeastRecentlyUsed() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.getIfPresent("a");
+        cache.put("c", 3);
+
+        assertThat(cache.getIfPresent("a")).isEqualTo(1);
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("c")).isEqualTo(3);
+        assertThat(meterRegistry.counter("cache.evictions", "cache", "test").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "test").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateIf_ShouldRemoveMatchingKeysOnly() {
+        cache.put("movie:1", 1);
+        cache.put("game:1", 2);
+
+        cache.invalidateIf(key -> key.startsWith("movie:"));
+
+        assertThat(cache.getIfPresent("movie:1")).isNull();
+        assertThat(cache.getIfPresent("game:1")).isEqualTo(2);
+    }
+}
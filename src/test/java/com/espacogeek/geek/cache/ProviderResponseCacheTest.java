@@ -0,0 +1,93 @@
+package com.espacogeek.geek.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.espacogeek.geek.cache.ProviderResponseCache.Key;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProviderResponseCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("http.cache.ttl.keywords", "3600")
+            .withProperty("http.cache.ttl.credits", "0");
+
+    @Test
+    void get_AfterARestart_ShouldReadTheResponseFromDisk() {
+        Key key = new Key("tmdb", "movie", "550", "keywords", "keywords?language=en-US");
+        cache(1 << 20).put(key, bytes("{\"keywords\":[]}"));
+
+        ProviderResponseCache restarted = cache(1 << 20);
+
+        assertThat(restarted.get(key)).hasValueSatisfying(body -> assertThat(body).isEqualTo(bytes("{\"keywords\":[]}")));
+        assertThat(restarted.get(new Key("tmdb", "movie", "550", "keywords", "keywords?language=pt-BR"))).isEmpty();
+    }
+
+    @Test
+    void put_WithoutATtl_ShouldNotCache() {
+        ProviderResponseCache cache = cache(1 << 20);
+        Key key = new Key("tmdb", "movie", "550", "credits", "credits");
+
+        cache.put(key, bytes("{}"));
+
+        assertThat(cache.get(key)).isEmpty();
+    }
+
+    @Test
+    void put_ForSeveralEndpoints_ShouldUseTheShortestTtl() {
+        ProviderResponseCache cache = cache(1 << 20);
+        Key bundle = new Key("tmdb", "movie", "550", "details,keywords,credits", "?append_to_response=keywords,credits");
+
+        cache.put(bundle, bytes("{}"));
+
+        assertThat(cache.get(bundle)).isEmpty();
+    }
+
+    @Test
+    void invalidate_ShouldDropEveryResponseOfTheIdFromBothTiers() {
+        Key details = new Key("tmdb", "tv", "1399", "details", "");
+        Key keywords = new Key("tmdb", "tv", "1399", "keywords", "keywords");
+        Key otherResource = new Key("tmdb", "movie", "1399", "details", "");
+        ProviderResponseCache cache = cache(1 << 20);
+        cache.put(details, bytes("a"));
+        cache.put(keywords, bytes("b"));
+        cache.put(otherResource, bytes("c"));
+
+        cache.invalidate("tmdb", "tv", "1399");
+
+        assertThat(cache.get(details)).isEmpty();
+        assertThat(cache.get(keywords)).isEmpty();
+        assertThat(cache(1 << 20).get(details)).isEmpty();
+        assertThat(cache.get(otherResource)).isPresent();
+    }
+
+    @Test
+    void put_OverTheDiskSize_ShouldDropTheOldestResponses() {
+        ProviderResponseCache cache = cache(3000);
+        for (int id = 0; id < 10; id++) {
+            cache.put(new Key("igdb", "game", String.valueOf(id), "details", ""), new byte[1000]);
+        }
+
+        ProviderResponseCache restarted = cache(3000);
+        assertThat(restarted.get(new Key("igdb", "game", "9", "details", ""))).isPresent();
+        assertThat(restarted.get(new Key("igdb", "game", "0", "details", ""))).isEmpty();
+    }
+
+    private ProviderResponseCache cache(long diskMaxBytes) {
+        return new ProviderResponseCache(environment, new SimpleMeterRegistry(), true, 100, true, directory.toString(), diskMaxBytes);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
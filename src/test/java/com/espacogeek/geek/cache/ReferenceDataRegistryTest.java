@@ -0,0 +1,84 @@
+package com.espacogeek.geek.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.models.CategoryType;
+import com.espacogeek.geek.models.GenreModel;
+import com.espacogeek.geek.models.MediaCategoryModel;
+import com.espacogeek.geek.models.MediaStatusModel;
+import com.espacogeek.geek.models.StatusType;
+import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.repositories.GenreRepository;
+import com.espacogeek.geek.repositories.MediaCategoryRepository;
+import com.espacogeek.geek.repositories.MediaStatusRepository;
+import com.espacogeek.geek.repositories.TypeReferenceRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReferenceDataRegistryTest {
+
+    private final GenreModel action = new GenreModel(1, "Action", null);
+    private final GenreModel drama = new GenreModel(2, "Drama", null);
+
+    private GenreRepository genreRepository;
+    private ReferenceDataRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        TypeReferenceRepository typeReferenceRepository = mock(TypeReferenceRepository.class);
+        when(typeReferenceRepository.findAll()).thenReturn(List.of(new TypeReferenceModel(1, "TMDB", null)));
+        MediaCategoryRepository mediaCategoryRepository = mock(MediaCategoryRepository.class);
+        when(mediaCategoryRepository.findAll()).thenReturn(List.of(new MediaCategoryModel(4, CategoryType.MOVIE, null)));
+        MediaStatusRepository mediaStatusRepository = mock(MediaStatusRepository.class);
+        when(mediaStatusRepository.findAll()).thenReturn(List.of(new MediaStatusModel(1, StatusType.COMPLETED, null)));
+        genreRepository = mock(GenreRepository.class);
+        when(genreRepository.findAll()).thenReturn(List.of(action, drama));
+
+        registry = new ReferenceDataRegistry(typeReferenceRepository, mediaCategoryRepository, mediaStatusRepository, genreRepository, new SimpleMeterRegistry());
+        registry.reload();
+    }
+
+    @Test
+    void lookups_ShouldAnswerByIdAndByNameWithoutQueries() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(registry.typeReference(1)).map(TypeReferenceModel::getNameReference).hasValue("TMDB");
+        }
+
+        assertThat(registry.typeReference("tmdb")).map(TypeReferenceModel::getId).hasValue(1);
+        assertThat(registry.mediaCategory(4)).map(MediaCategoryModel::getName).hasValue(CategoryType.MOVIE);
+        assertThat(registry.mediaCategory(CategoryType.MOVIE)).map(MediaCategoryModel::getId).hasValue(4);
+        assertThat(registry.mediaStatus(StatusType.COMPLETED)).map(MediaStatusModel::getId).hasValue(1);
+        assertThat(registry.mediaStatuses()).hasSize(1);
+        assertThat(registry.genre(2)).containsSame(drama);
+        assertThat(registry.typeReference(9)).isEmpty();
+        assertThat(registry.typeReference((Integer) null)).isEmpty();
+        verify(genreRepository, times(1)).findAll();
+    }
+
+    @Test
+    void genres_ShouldIgnoreCaseUnknownNamesAndRepeats() {
+        assertThat(registry.genres(Arrays.asList("drama", "Sci-Fi", "ACTION", "Drama", null)))
+                .containsExactly(drama, action);
+    }
+
+    @Test
+    void reload_ShouldReplaceTheSnapshot() {
+        GenreModel animation = new GenreModel(3, "Animation", null);
+        when(genreRepository.findAll()).thenReturn(List.of(action, animation));
+
+        registry.reload();
+
+        assertThat(registry.genre("Animation")).containsSame(animation);
+        assertThat(registry.genre("Drama")).isEmpty();
+    }
+}
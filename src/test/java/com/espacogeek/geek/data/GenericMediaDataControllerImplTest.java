@@ -0,0 +1,157 @@
+package com.espacogeek.geek.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.espacogeek.geek.data.api.MediaApi;
+import com.espacogeek.geek.data.impl.GenericMediaDataControllerImpl;
+import com.espacogeek.geek.models.AlternativeTitleModel;
+import com.espacogeek.geek.models.ExternalReferenceModel;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.search.MediaSuggestIndex;
+import com.espacogeek.geek.services.AlternativeTitlesService;
+import com.espacogeek.geek.services.ExternalReferenceService;
+import com.espacogeek.geek.services.GenreService;
+import com.espacogeek.geek.services.MediaService;
+import com.espacogeek.geek.services.SeasonService;
+import com.espacogeek.geek.utils.MediaLazyLoader;
+import com.espacogeek.geek.utils.MediaPayloadHash;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class GenericMediaDataControllerImplTest {
+
+    @Mock
+    private MediaService mediaService;
+
+    @Mock
+    private GenreService genreService;
+
+    @Mock
+    private AlternativeTitlesService alternativeTitlesService;
+
+    @Mock
+    private ExternalReferenceService externalReferenceService;
+
+    @Mock
+    private SeasonService seasonService;
+
+    @Mock
+    private MediaLazyLoader mediaLazyLoader;
+
+    @Mock
+    private MediaSuggestIndex mediaSuggestIndex;
+
+    @Mock
+    private MediaApi mediaApi;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GenericMediaDataControllerImpl controller;
+
+    private final TypeReferenceModel tmdb = new TypeReferenceModel(1, "TMDB", null);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        controller = new GenericMediaDataControllerImpl(
+                mediaService,
+                genreService,
+                alternativeTitlesService,
+                externalReferenceService,
+                seasonService,
+                mediaLazyLoader,
+                mediaSuggestIndex,
+                meterRegistry);
+        ReflectionTestUtils.setField(controller, "differentialUpdate", true);
+    }
+
+    @Test
+    void updateAllInformation_WhenPayloadIsUnchanged_ShouldOnlyTouchUpdateAt() {
+        MediaModel payload = payload("Dark", "A missing child.", "Dark (DE)");
+        MediaModel media = storedMedia();
+        media.setPayloadHash(MediaPayloadHash.of(payload));
+
+        controller.updateAllInformation(media, payload, tmdb, mediaApi);
+
+        verify(mediaService).markUpdated(eq(media), any());
+        verify(mediaService, never()).save(any());
+        verify(alternativeTitlesService, never()).saveAll(anyList());
+        verify(externalReferenceService, never()).saveAll(anyList());
+        assertThat(meterRegistry.counter("media.update.differential", "result", "unchanged").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("media.update.round_trips.saved", "table", "alternative_titles").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("media.update.writes", "table", "medias").count()).isEqualTo(1);
+    }
+
+    @Test
+    void updateAllInformation_WhenPayloadChanged_ShouldSaveTheMediaAndOnlyTheNewChildren() {
+        MediaModel payload = payload("Dark", "A missing child in Winden.", "Dark (DE)", "Dark (BR)");
+        MediaModel media = storedMedia();
+        media.setPayloadHash(MediaPayloadHash.of(payload("Dark", "A missing child.", "Dark (DE)")));
+
+        controller.updateAllInformation(media, payload, tmdb, mediaApi);
+
+        verify(mediaService).save(media);
+        verify(mediaService, never()).markUpdated(any(), any());
+        assertThat(media.getAbout()).isEqualTo("A missing child in Winden.");
+        assertThat(media.getPayloadHash()).isEqualTo(MediaPayloadHash.of(payload));
+
+        ArgumentCaptor<List<AlternativeTitleModel>> savedTitles = ArgumentCaptor.forClass(List.class);
+        verify(alternativeTitlesService).saveAll(savedTitles.capture());
+        assertThat(savedTitles.getValue()).extracting(AlternativeTitleModel::getName).containsExactly("Dark (BR)");
+        // The stored reference is unchanged, so no external reference is written.
+        verify(externalReferenceService, never()).saveAll(anyList());
+        assertThat(meterRegistry.counter("media.update.writes", "table", "alternative_titles").count()).isEqualTo(1);
+    }
+
+    @Test
+    void payloadHash_ShouldIgnoreCollectionOrderButNotContent() {
+        MediaModel payload = payload("Dark", "A missing child.", "Dark (DE)", "Dark (BR)");
+        MediaModel reordered = payload("Dark", "A missing child.", "Dark (BR)", "Dark (DE)");
+        MediaModel changed = payload("Dark", "A missing child!", "Dark (DE)", "Dark (BR)");
+
+        assertThat(MediaPayloadHash.of(reordered)).isEqualTo(MediaPayloadHash.of(payload));
+        assertThat(MediaPayloadHash.of(changed)).isNotEqualTo(MediaPayloadHash.of(payload));
+    }
+
+    private MediaModel storedMedia() {
+        MediaModel media = new MediaModel();
+        media.setId(10);
+        media.setName("Dark");
+        media.setAbout("A missing child.");
+        media.setExternalReference(new LinkedHashSet<>(List.of(new ExternalReferenceModel(100, "70523", media, tmdb))));
+        media.setAlternativeTitles(new LinkedHashSet<>(List.of(new AlternativeTitleModel(200, "Dark (DE)", media))));
+        return media;
+    }
+
+    private MediaModel payload(String name, String about, String... alternativeTitles) {
+        MediaModel payload = new MediaModel();
+        payload.setName(name);
+        payload.setAbout(about);
+        payload.setExternalReference(new LinkedHashSet<>(List.of(new ExternalReferenceModel(null, "70523", null, tmdb))));
+        LinkedHashSet<AlternativeTitleModel> titles = new LinkedHashSet<>();
+        for (String title : alternativeTitles) {
+            titles.add(new AlternativeTitleModel(null, title, null));
+        }
+        payload.setAlternativeTitles(titles);
+        return payload;
+    }
+}
@@ -0,0 +1,127 @@
+package com.espacogeek.geek.data.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.espacogeek.geek.cache.ProviderResponseCache;
+import com.espacogeek.geek.data.MediaDataController;
+import com.espacogeek.geek.data.api.impl.GamesAndVNsApiImpl;
+import com.espacogeek.geek.http.IgdbTokenManager;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.services.GenreService;
+import com.espacogeek.geek.services.TypeReferenceService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import proto.Game;
+import proto.GameResult;
+
+/**
+ * Answers the IGDB queries of {@link GamesAndVNsApiImpl} with a game named
+ * after each id of the <code>where id = (...)</code> clause, except the ids
+ * above 10000, which IGDB does not know.
+ */
+class GamesAndVNsApiImplTest {
+    private static final Pattern IDS = Pattern.compile("id = \\(([0-9,]+)\\)");
+
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private GamesAndVNsApiImpl gamesApi;
+
+    @BeforeEach
+    void setUp() {
+        OutboundHttpClients httpClients = mock(OutboundHttpClients.class);
+        when(httpClients.client(OutboundProvider.IGDB)).thenReturn(new OkHttpClient.Builder().addInterceptor(this::answerQuery).build());
+
+        IgdbTokenManager tokenManager = mock(IgdbTokenManager.class);
+        when(tokenManager.credentials()).thenReturn(new IgdbTokenManager.Credentials("client", "token"));
+
+        TypeReferenceModel igdbReference = new TypeReferenceModel();
+        igdbReference.setId(MediaDataController.ExternalReferenceType.IGDB.getId());
+        TypeReferenceService typeReferenceService = mock(TypeReferenceService.class);
+        when(typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId())).thenReturn(Optional.of(igdbReference));
+
+        ProviderResponseCache responseCache = new ProviderResponseCache(new MockEnvironment(), new SimpleMeterRegistry(), true, 1000, false, "", 0);
+
+        gamesApi = new GamesAndVNsApiImpl(httpClients, responseCache, tokenManager, typeReferenceService, mock(GenreService.class));
+        ReflectionTestUtils.invokeMethod(gamesApi, "init");
+    }
+
+    @Test
+    void getDetails_WithSeveralIds_ShouldAskForThemInOneQuery() {
+        Map<Integer, MediaModel> details = gamesApi.getDetails(List.of(3, 1, 20000, 2));
+
+        assertThat(details.keySet()).containsExactly(3, 1, 2);
+        assertThat(details.get(1).getName()).isEqualTo("Game 1");
+        assertThat(queries).singleElement().satisfies(query -> assertThat(query).contains("id = (3,1,20000,2)"));
+    }
+
+    @Test
+    void getDetails_ShouldOnlyQueryTheGamesNotAskedRecently() {
+        gamesApi.getDetails(List.of(1, 2));
+
+        MediaModel artwork = gamesApi.getArtwork(2);
+        Map<Integer, MediaModel> details = gamesApi.getDetails(List.of(1, 2, 3));
+
+        assertThat(artwork).isNotNull();
+        assertThat(details).hasSize(3);
+        assertThat(queries).hasSize(2);
+        assertThat(queries.getLast()).contains("id = (3)");
+    }
+
+    @Test
+    void getDetails_WithMoreIdsThanAQueryAnswers_ShouldSplitThem() {
+        List<Integer> ids = IntStream.rangeClosed(1, 1200).boxed().toList();
+
+        assertThat(gamesApi.getDetails(ids)).hasSize(1200);
+        assertThat(queries).hasSize(3);
+    }
+
+    private Response answerQuery(Interceptor.Chain chain) throws IOException {
+        Buffer body = new Buffer();
+        chain.request().body().writeTo(body);
+        String query = body.readUtf8();
+        queries.add(query);
+
+        GameResult.Builder result = GameResult.newBuilder();
+        Matcher ids = IDS.matcher(query);
+        if (ids.find()) {
+            for (String id : ids.group(1).split(",")) {
+                if (Long.parseLong(id) <= 10000) {
+                    result.addGames(Game.newBuilder().setId(Long.parseLong(id)).setName("Game " + id).build());
+                }
+            }
+        }
+
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(result.build().toByteArray(), MediaType.get("application/protobuf")))
+                .build();
+    }
+}
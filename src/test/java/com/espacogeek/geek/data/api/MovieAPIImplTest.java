@@ -0,0 +1,131 @@
+package com.espacogeek.geek.data.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.espacogeek.geek.cache.ProviderResponseCache;
+import com.espacogeek.geek.data.api.impl.MovieAPIImpl;
+import com.espacogeek.geek.http.OutboundHttpClients;
+import com.espacogeek.geek.http.OutboundProvider;
+import com.espacogeek.geek.models.AlternativeTitleModel;
+import com.espacogeek.geek.models.ApiKeyModel;
+import com.espacogeek.geek.models.MediaCategoryModel;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.services.ApiKeyService;
+import com.espacogeek.geek.services.GenreService;
+import com.espacogeek.geek.services.MediaCategoryService;
+import com.espacogeek.geek.services.TypeReferenceService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Answers the TMDB requests of {@link MovieAPIImpl} with the recorded
+ * response of <code>src/test/resources/tmdb/details</code> and counts them.
+ */
+class MovieAPIImplTest {
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private MovieAPIImpl movieApi;
+
+    @BeforeEach
+    void setUp() {
+        OutboundHttpClients httpClients = mock(OutboundHttpClients.class);
+        when(httpClients.client(OutboundProvider.TMDB)).thenReturn(new OkHttpClient.Builder().addInterceptor(this::serveRecordedDetails).build());
+
+        ApiKeyModel apiKey = new ApiKeyModel();
+        apiKey.setKey("test-token");
+        ApiKeyService apiKeyService = mock(ApiKeyService.class);
+        when(apiKeyService.findById(MediaApi.ApiKey.TMDB_API_KEY_ID.getId())).thenReturn(Optional.of(apiKey));
+
+        TypeReferenceService typeReferenceService = mock(TypeReferenceService.class);
+        when(typeReferenceService.findById(anyInt())).thenAnswer(invocation -> {
+            TypeReferenceModel typeReference = new TypeReferenceModel();
+            typeReference.setId(invocation.getArgument(0));
+            return Optional.of(typeReference);
+        });
+        MediaCategoryService mediaCategoryService = mock(MediaCategoryService.class);
+        when(mediaCategoryService.findById(anyInt())).thenReturn(Optional.of(new MediaCategoryModel()));
+
+        ProviderResponseCache responseCache = new ProviderResponseCache(new MockEnvironment(), new SimpleMeterRegistry(), true, 100, false, "", 0);
+
+        movieApi = new MovieAPIImpl(apiKeyService, httpClients, responseCache, typeReferenceService, mediaCategoryService, mock(GenreService.class));
+        ReflectionTestUtils.invokeMethod(movieApi, "init");
+    }
+
+    @Test
+    void fetch_ShouldAnswerEveryFacetOfThePlanWithOneRequest() {
+        MediaBundle bundle = movieApi.fetch(550, FetchPlan.FULL);
+
+        assertThat(bundle.media().getName()).isEqualTo("Fight Club");
+        assertThat(bundle.hasKeyword("dual identity")).isTrue();
+        assertThat(bundle.hasKeyword("anime")).isFalse();
+        assertThat(bundle.alternativeTitles()).extracting(AlternativeTitleModel::getName)
+                .containsExactly("Clube da Luta", "Fight Club - Le club de combat");
+        assertThat(bundle.externalReferences()).extracting(reference -> reference.getReference())
+                .containsExactly("550", "tt0137523", "qtRKdVHc-cE");
+        assertThat(requests).hasSize(1);
+        assertThat(Arrays.asList(requests.getFirst().split(",")))
+                .containsExactlyInAnyOrder("keywords", "alternative_titles", "images", "external_ids", "videos");
+    }
+
+    @Test
+    void fetch_WithASmallerPlan_ShouldOnlyAppendItsFacets() {
+        MediaBundle bundle = movieApi.fetch(550, FetchPlan.of(FetchPlan.Facet.KEYWORDS));
+
+        assertThat(bundle.hasKeyword("support group")).isTrue();
+        assertThat(bundle.alternativeTitles()).isEmpty();
+        assertThat(requests).containsExactly("keywords");
+    }
+
+    @Test
+    void singleFacetGetters_ShouldShareOneRequestPerMedia() {
+        movieApi.getKeyword(550);
+        movieApi.getAlternativeTitles(550);
+        movieApi.getGenre(550);
+        movieApi.getExternalReference(550);
+        MediaModel details = movieApi.getDetails(550);
+
+        assertThat(details.getEpisodeLength()).isEqualTo(139);
+        assertThat(requests).hasSize(1);
+    }
+
+    /**
+     * Records the <code>append_to_response</code> of the request and answers
+     * with the recorded details, which carry every facet.
+     */
+    private Response serveRecordedDetails(Interceptor.Chain chain) throws IOException {
+        String appendToResponse = chain.request().url().queryParameter("append_to_response");
+        requests.add(appendToResponse == null ? "" : appendToResponse);
+
+        try (InputStream recorded = getClass().getResourceAsStream("/tmdb/details/movie-550.json")) {
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(recorded.readAllBytes(), MediaType.get("application/json")))
+                    .build();
+        }
+    }
+}
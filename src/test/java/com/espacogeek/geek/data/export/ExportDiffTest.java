@@ -0,0 +1,80 @@
+package com.espacogeek.geek.data.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+class ExportDiffTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void between_ShouldListTheAddedTitlesAndTheRemovedIds() throws IOException {
+        ExportSnapshot baseline = snapshot("baseline", 550, 603, 13, 680, 155);
+        ExportSnapshot current = snapshot("current", 680, 27205, 550, 13, 19995);
+
+        ExportDiff diff = ExportDiff.between(baseline, current);
+
+        assertThat(ids(current, diff.added())).containsExactly(19995, 27205);
+        assertThat(diff.removed()).containsExactly(155, 603);
+    }
+
+    @Test
+    void between_ShouldRemoveTheTitlesMarkedAdult() throws IOException {
+        ExportSnapshot baseline = snapshot("baseline", 550, 603);
+        ExportSnapshot current = snapshot("current", 550, -603, -777);
+
+        ExportDiff diff = ExportDiff.between(baseline, current);
+
+        assertThat(diff.added()).isEmpty();
+        assertThat(diff.removed()).containsExactly(603);
+    }
+
+    @Test
+    void between_WithoutBaseline_ShouldAddEveryTitleOnce() throws IOException {
+        ExportSnapshot current = snapshot("current", 680, 550, 680, 13);
+
+        ExportDiff diff = ExportDiff.between(null, current);
+
+        assertThat(ids(current, diff.added())).containsExactly(13, 550, 680);
+        assertThat(diff.removed()).isEmpty();
+    }
+
+    @Test
+    void between_TheSameExport_ShouldFindNothing() throws IOException {
+        ExportSnapshot current = snapshot("current", 550, 603, 13);
+
+        ExportDiff diff = ExportDiff.between(current, current);
+
+        assertThat(diff.added()).isEmpty();
+        assertThat(diff.removed()).isEmpty();
+    }
+
+    /**
+     * @param ids the IDs of the export, negative for the adult titles.
+     */
+    private ExportSnapshot snapshot(String name, int... ids) throws IOException {
+        String export = Arrays.stream(ids)
+                .mapToObj(id -> "{\"adult\":" + (id < 0) + ",\"id\":" + Math.abs(id) + ",\"original_title\":\"Title " + Math.abs(id) + "\"}")
+                .collect(Collectors.joining("\n"));
+        Path snapshot = directory.resolve(name);
+        ExportSnapshot.write(new ByteArrayInputStream(export.getBytes(StandardCharsets.UTF_8)), snapshot);
+        return ExportSnapshot.open(snapshot, DataJumpTypeTMDB.MOVIE, LocalDate.parse("2026-03-10"));
+    }
+
+    private static int[] ids(ExportSnapshot snapshot, int[] indexes) {
+        return Arrays.stream(indexes).map(snapshot::id).toArray();
+    }
+}
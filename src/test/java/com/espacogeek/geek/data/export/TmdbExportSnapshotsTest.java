@@ -0,0 +1,129 @@
+package com.espacogeek.geek.data.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.espacogeek.geek.exception.RequestException;
+import com.espacogeek.geek.utils.DataJumpUtils;
+import com.espacogeek.geek.utils.DataJumpUtils.DataJumpTypeTMDB;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TmdbExportSnapshotsTest {
+
+    private static final String EXPORT = """
+            {"adult":false,"id":550,"original_title":"Fight Club","popularity":61.4,"video":false}
+            not json
+            {"adult":true,"id":603,"original_title":"The Matrix","popularity":58.1,"video":true}
+
+            {"adult":false,"id":680,"original_title":"Pulp Fiction – ação","popularity":44.2,"video":false}
+            """;
+
+    @TempDir
+    Path directory;
+
+    private final List<LocalDate> downloads = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void snapshot_ShouldKeepEveryTitleInFixedWidthRecords() {
+        ExportSnapshot snapshot = snapshots("2026-03-10T12:00:00Z", LocalDate.MAX).latest(DataJumpTypeTMDB.MOVIE);
+
+        assertThat(snapshot.date()).isEqualTo(LocalDate.parse("2026-03-10"));
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.id(1)).isEqualTo(603);
+        assertThat(snapshot.adult(1)).isTrue();
+        assertThat(snapshot.video(0)).isFalse();
+        assertThat(snapshot.popularity(2)).isEqualTo(44.2);
+        assertThat(snapshot.originalTitle(2)).isEqualTo("Pulp Fiction – ação");
+        assertThat(snapshot.json(0)).containsEntry("id", 550L).containsEntry("original_title", "Fight Club");
+        assertThat(Files.size(directory.resolve("movie/2026-03-10").resolve(ExportSnapshot.RECORDS))).isEqualTo(8 + 3 * 16);
+    }
+
+    @Test
+    void snapshot_OfADayAlreadyStored_ShouldNotDownloadItAgain() {
+        snapshots("2026-03-10T12:00:00Z", LocalDate.MAX).latest(DataJumpTypeTMDB.MOVIE);
+
+        ExportSnapshot again = snapshots("2026-03-10T23:00:00Z", LocalDate.MAX).latest(DataJumpTypeTMDB.MOVIE);
+
+        assertThat(again.size()).isEqualTo(3);
+        assertThat(downloads).containsExactly(LocalDate.parse("2026-03-10"));
+        assertThat(meterRegistry.counter("tmdb.export.snapshots", "type", "movie", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void latest_BeforeThePublicationHour_ShouldUseTheExportOfTheDayBefore() {
+        ExportSnapshot snapshot = snapshots("2026-03-10T07:59:00Z", LocalDate.MAX).latest(DataJumpTypeTMDB.SERIES);
+
+        assertThat(snapshot.date()).isEqualTo(LocalDate.parse("2026-03-09"));
+        assertThat(snapshot.json(0)).containsEntry("original_name", "Fight Club");
+    }
+
+    @Test
+    void latest_WhenTheExportOfTheDayIsMissing_ShouldFallBackToTheDayBefore() {
+        ExportSnapshot snapshot = snapshots("2026-03-10T12:00:00Z", LocalDate.parse("2026-03-10")).latest(DataJumpTypeTMDB.MOVIE);
+
+        assertThat(snapshot.date()).isEqualTo(LocalDate.parse("2026-03-09"));
+        assertThat(Files.exists(directory.resolve("movie/2026-03-10.tmp"))).isFalse();
+    }
+
+    @Test
+    void snapshot_WhenTheExportCannotBeDownloaded_ShouldThrow() {
+        TmdbExportSnapshots snapshots = snapshots("2026-03-10T12:00:00Z", LocalDate.parse("2026-03-01"));
+
+        assertThatThrownBy(() -> snapshots.snapshot(DataJumpTypeTMDB.MOVIE, LocalDate.parse("2026-03-05")))
+                .isInstanceOf(RequestException.class);
+        assertThat(directory.resolve("movie/2026-03-05")).doesNotExist();
+    }
+
+    @Test
+    void snapshot_ShouldDeleteTheSnapshotsPastTheRetention() {
+        TmdbExportSnapshots snapshots = snapshots("2026-03-10T12:00:00Z", LocalDate.MAX);
+        snapshots.snapshot(DataJumpTypeTMDB.MOVIE, LocalDate.parse("2026-03-01"));
+        snapshots.snapshot(DataJumpTypeTMDB.MOVIE, LocalDate.parse("2026-03-07"));
+
+        snapshots.latest(DataJumpTypeTMDB.MOVIE);
+
+        assertThat(directory.resolve("movie/2026-03-01")).doesNotExist();
+        assertThat(directory.resolve("movie/2026-03-07")).isDirectory();
+        assertThat(directory.resolve("movie/2026-03-10")).isDirectory();
+    }
+
+    @Test
+    void latestExportDate_ShouldSwitchAtThePublicationHourInUtc() {
+        ZonedDateTime beforeInSaoPaulo = ZonedDateTime.parse("2026-03-10T04:30:00-03:00");
+
+        assertThat(DataJumpUtils.latestExportDate(beforeInSaoPaulo, 8)).isEqualTo(LocalDate.parse("2026-03-09"));
+        assertThat(DataJumpUtils.latestExportDate(beforeInSaoPaulo.plusHours(1), 8)).isEqualTo(LocalDate.parse("2026-03-10"));
+    }
+
+    /**
+     * @param now          the time of the clock.
+     * @param notPublished the first day TMDB has no export for.
+     */
+    private TmdbExportSnapshots snapshots(String now, LocalDate notPublished) {
+        Clock clock = Clock.fixed(Instant.parse(now), ZoneOffset.UTC);
+        return new TmdbExportSnapshots((type, date) -> {
+            if (!date.isBefore(notPublished)) {
+                throw new RequestException();
+            }
+            downloads.add(date);
+            return new ByteArrayInputStream(EXPORT.getBytes(StandardCharsets.UTF_8));
+        }, meterRegistry, directory, 3, 8, clock);
+    }
+}
@@ -0,0 +1,82 @@
+package com.espacogeek.geek.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.http.CircuitBreaker.State;
+
+class CircuitBreakerTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<String> transitions = new ArrayList<>();
+    // 50% threshold, 100 ms slow calls, window of 4, 4 calls at least, open for 1 s, 2 trial calls.
+    private final CircuitBreaker breaker = new CircuitBreaker(0.5, 100, 4, 4, 1000, 2, (from, to) -> transitions.add(from + ">" + to));
+
+    @Test
+    void onResult_ShouldOpenOnceTheFailureRateIsReached() {
+        call(true, 0);
+        call(false, 0);
+        call(true, 0);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+        call(false, 0);
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire(500 * MILLISECOND)).isFalse();
+    }
+
+    @Test
+    void onResult_ShouldOpenOnSlowCalls() {
+        call(true, 0);
+        call(true, 0);
+        call(true, 200 * MILLISECOND);
+        call(true, 200 * MILLISECOND);
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void tryAcquire_AfterTheOpenTime_ShouldCloseWhenTheTrialCallsSucceed() {
+        openBreaker();
+        long later = 1001 * MILLISECOND;
+
+        assertThat(breaker.tryAcquire(later)).isTrue();
+        assertThat(breaker.tryAcquire(later)).isTrue();
+        assertThat(breaker.tryAcquire(later)).isFalse();
+        breaker.onResult(true, 0, later);
+        breaker.onResult(true, 0, later);
+
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED>OPEN", "OPEN>HALF_OPEN", "HALF_OPEN>CLOSED");
+    }
+
+    @Test
+    void onResult_WhenATrialCallFails_ShouldOpenAgain() {
+        openBreaker();
+        long later = 1001 * MILLISECOND;
+
+        assertThat(breaker.tryAcquire(later)).isTrue();
+        breaker.onResult(false, 0, later);
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire(later + 500 * MILLISECOND)).isFalse();
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            call(false, 0);
+        }
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+    }
+
+    private void call(boolean success, long durationNanos) {
+        assertThat(breaker.tryAcquire(0)).isTrue();
+        breaker.onResult(success, durationNanos, 0);
+    }
+}
@@ -0,0 +1,141 @@
+package com.espacogeek.geek.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.data.api.MediaApi.ApiKey;
+import com.espacogeek.geek.models.ApiKeyModel;
+import com.espacogeek.geek.services.ApiKeyService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IgdbTokenManagerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger issued = new AtomicInteger();
+
+    private ApiKeyService apiKeyService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        apiKeyService = mock(ApiKeyService.class);
+        when(apiKeyService.findById(ApiKey.IGDB_CLIENT_ID.getId())).thenReturn(Optional.of(apiKey("client")));
+        when(apiKeyService.findById(ApiKey.IGDB_CLIENT_SECRET.getId())).thenReturn(Optional.of(apiKey("secret")));
+        when(apiKeyService.findById(ApiKey.IGDB_TOKEN.getId())).thenReturn(Optional.of(apiKey("stored")));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void credentials_ShouldBeServedFromMemoryAfterStartup() {
+        IgdbTokenManager manager = manager(this::issue);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(manager.credentials()).isEqualTo(new IgdbTokenManager.Credentials("client", "stored"));
+        }
+        verify(apiKeyService, times(3)).findById(anyInt());
+    }
+
+    @Test
+    void scheduledRenewal_ShouldRenewATokenOfUnknownOrNearExpiryOnly() {
+        IgdbTokenManager manager = manager(this::issue);
+
+        manager.scheduledRenewal();
+        assertThat(manager.credentials().accessToken()).isEqualTo("token-1");
+        verify(apiKeyService).save(any());
+
+        now.addAndGet(Duration.ofDays(30).toMillis());
+        manager.scheduledRenewal();
+        assertThat(manager.credentials().accessToken()).isEqualTo("token-1");
+
+        // The token lasts 60 days and is renewed one day before it expires.
+        now.addAndGet(Duration.ofDays(29).toMillis());
+        manager.scheduledRenewal();
+        assertThat(manager.credentials().accessToken()).isEqualTo("token-2");
+        assertThat(meterRegistry.counter("igdb.token.renewals", "result", "success").count()).isEqualTo(2);
+    }
+
+    @Test
+    void renew_WithATokenAlreadyReplaced_ShouldReturnTheCurrentOne() {
+        IgdbTokenManager manager = manager(this::issue);
+        manager.renew("stored");
+
+        assertThat(manager.renew("stored").accessToken()).isEqualTo("token-1");
+        assertThat(issued).hasValue(1);
+    }
+
+    @Test
+    void renew_WhenCalledConcurrently_ShouldRequestOneToken() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IgdbTokenManager manager = manager((clientId, clientSecret) -> {
+            requested.countDown();
+            await(release);
+            return issue(clientId, clientSecret);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<IgdbTokenManager.Credentials>> renewals = new ArrayList<>();
+            renewals.add(executor.submit(() -> manager.renew("stored")));
+            assertThat(requested.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                renewals.add(executor.submit(() -> manager.renew("stored")));
+            }
+            release.countDown();
+
+            for (Future<IgdbTokenManager.Credentials> renewal : renewals) {
+                assertThat(renewal.get(5, TimeUnit.SECONDS).accessToken()).isEqualTo("token-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(issued).hasValue(1);
+    }
+
+    private IgdbTokenManager manager(IgdbTokenManager.TokenSource tokenSource) {
+        IgdbTokenManager manager = new IgdbTokenManager(apiKeyService, tokenSource, meterRegistry, now::get, true, Duration.ofDays(1));
+        manager.init();
+        return manager;
+    }
+
+    private IgdbTokenManager.IssuedToken issue(String clientId, String clientSecret) {
+        assertThat(clientId).isEqualTo("client");
+        assertThat(clientSecret).isEqualTo("secret");
+        return new IgdbTokenManager.IssuedToken("token-" + issued.incrementAndGet(), Duration.ofDays(60).toSeconds());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ApiKeyModel apiKey(String key) {
+        ApiKeyModel apiKey = new ApiKeyModel();
+        apiKey.setKey(key);
+        return apiKey;
+    }
+}
@@ -0,0 +1,28 @@
+package com.espacogeek.geek.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.cache.ProviderResponseCache.Key;
+
+class OkHttpTmdbUrlReaderTest {
+
+    @Test
+    void cacheKeyOf_ShouldKeyRequestsAboutOneId() {
+        assertThat(OkHttpTmdbUrlReader.cacheKeyOf("https://api.themoviedb.org/3/movie/550?language=en-US&append_to_response=images"))
+                .contains(new Key("tmdb", "movie", "550", "details,images", "?language=en-US&append_to_response=images"));
+        assertThat(OkHttpTmdbUrlReader.cacheKeyOf("https://api.themoviedb.org/3/tv/1399?append_to_response=keywords%2Calternative_titles"))
+                .contains(new Key("tmdb", "tv", "1399", "details,keywords,alternative_titles", "?append_to_response=keywords%2Calternative_titles"));
+        assertThat(OkHttpTmdbUrlReader.cacheKeyOf("https://api.themoviedb.org/3/tv/1399/keywords"))
+                .contains(new Key("tmdb", "tv", "1399", "keywords", "keywords"));
+        assertThat(OkHttpTmdbUrlReader.cacheKeyOf("https://api.themoviedb.org/3/tv/1399/season/2"))
+                .contains(new Key("tmdb", "tv", "1399", "season", "season/2"));
+    }
+
+    @Test
+    void cacheKeyOf_ShouldNotKeySearches() {
+        assertThat(OkHttpTmdbUrlReader.cacheKeyOf("https://api.themoviedb.org/3/search/movie?query=fight%20club&page=1")).isEmpty();
+        assertThat(OkHttpTmdbUrlReader.cacheKeyOf("https://api.themoviedb.org/3/genre/movie/list")).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.espacogeek.geek.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+class OutboundHttpClientsTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpClients httpClients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 0));
+        server.createContext("/slow", exchange -> respond(exchange, 1000));
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment().withProperty("http.client.quote.read-timeout-ms", "100");
+        httpClients = new OutboundHttpClients(environment, meterRegistry, new ProviderRateLimiter(environment, meterRegistry, 0.5), 5, 300, 64, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClients.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void client_ShouldShareOnePoolAndKeepConnectionsAlive() throws IOException {
+        OkHttpClient tmdb = httpClients.client(OutboundProvider.TMDB);
+        OkHttpClient igdb = httpClients.client(OutboundProvider.IGDB);
+
+        call(tmdb, "/ok");
+        call(igdb, "/ok");
+        call(tmdb, "/ok");
+
+        assertThat(tmdb.connectionPool()).isSameAs(igdb.connectionPool());
+        assertThat(tmdb.connectionPool().connectionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.connect").tag("provider", "tmdb").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("http.client.connect").tag("provider", "igdb").timer()).isNull();
+        assertThat(meterRegistry.get("http.client.ttfb").tag("provider", "tmdb").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("http.client.calls").tags("provider", "igdb", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.pool.connections").tag("state", "idle").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void client_ShouldApplyTheTimeoutsOfTheProvider() {
+        assertThat(httpClients.client(OutboundProvider.QUOTE).readTimeoutMillis()).isEqualTo(100);
+        assertThat(httpClients.client(OutboundProvider.TMDB_EXPORT).callTimeoutMillis()).isZero();
+
+        assertThatThrownBy(() -> call(httpClients.client(OutboundProvider.QUOTE), "/slow")).isInstanceOf(InterruptedIOException.class);
+        assertThat(meterRegistry.get("http.client.calls").tags("provider", "quote", "outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    private String call(OkHttpClient client, String path) throws IOException {
+        Request request = new Request.Builder().url("http://127.0.0.1:" + server.getAddress().getPort() + path).build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, long delayMillis) throws IOException {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.espacogeek.geek.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.espacogeek.geek.exception.ProviderUnavailableException;
+import com.espacogeek.geek.exception.RequestException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProviderGuardsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProviderGuards providerGuards = new ProviderGuards(
+            new MockEnvironment().withProperty("http.bulkhead.igdb.max-concurrent", "1"),
+            meterRegistry, 0.5, 5000, 4, 2, 60_000, 1, 0);
+
+    @Test
+    void call_WhenTheProviderKeepsFailing_ShouldStopCallingIt() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> providerGuards.call(OutboundProvider.TMDB, () -> {
+                calls.incrementAndGet();
+                throw new RequestException();
+            })).isNotInstanceOf(ProviderUnavailableException.class);
+        }
+
+        assertThatThrownBy(() -> providerGuards.call(OutboundProvider.TMDB, calls::incrementAndGet))
+                .isInstanceOf(ProviderUnavailableException.class);
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("http.circuit_breaker.state").tag("provider", "tmdb").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.calls.rejected").tags("provider", "tmdb", "reason", "circuit_open").counter().count()).isEqualTo(1);
+        // The other providers are not affected.
+        assertThat(providerGuards.call(OutboundProvider.IGDB, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void call_WhenTheBulkheadIsFull_ShouldRejectTheCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> running = executor.submit(() -> providerGuards.call(OutboundProvider.IGDB, () -> {
+                started.countDown();
+                await(release);
+                return "done";
+            }));
+            started.await();
+
+            assertThatThrownBy(() -> providerGuards.call(OutboundProvider.IGDB, () -> "too many"))
+                    .isInstanceOf(ProviderUnavailableException.class);
+            assertThat(meterRegistry.get("http.calls.rejected").tags("provider", "igdb", "reason", "bulkhead_full").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get()).isEqualTo("done");
+            assertThat(providerGuards.call(OutboundProvider.IGDB, () -> "ok")).isEqualTo("ok");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.espacogeek.geek.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class RequestPriorityTest {
+
+    @Test
+    void inherit_ShouldRunTheTaskWithThePriorityOfTheSubmittingThread() throws Exception {
+        CompletableFuture<RequestPriority> seen = new CompletableFuture<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RequestPriority.runAs(RequestPriority.BACKGROUND, () -> executor.execute(RequestPriority.inherit(() -> seen.complete(RequestPriority.current()))));
+
+            assertThat(seen.get(5, TimeUnit.SECONDS)).isEqualTo(RequestPriority.BACKGROUND);
+            assertThat(RequestPriority.current()).isEqualTo(RequestPriority.INTERACTIVE);
+            assertThat(executor.submit(RequestPriority::current).get(5, TimeUnit.SECONDS)).isEqualTo(RequestPriority.INTERACTIVE);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.espacogeek.geek.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void reserve_ShouldAllowTheBurstThenSpaceThePermits() {
+        TokenBucket bucket = new TokenBucket(10, 4, 0, 0);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.reserve(0)).isZero();
+        }
+        assertThat(bucket.available(0)).isZero();
+        assertThat(bucket.reserve(0)).isEqualTo(SECOND / 10);
+        assertThat(bucket.reserve(0)).isEqualTo(2 * SECOND / 10);
+        // After a second the bucket is full again.
+        assertThat(bucket.available(2 * SECOND)).isEqualTo(4);
+    }
+
+    @Test
+    void tryAcquireBackground_ShouldLeaveTheReservedShareToInteractiveCalls() {
+        TokenBucket bucket = new TokenBucket(10, 4, 0.5, 0);
+
+        assertThat(bucket.tryAcquireBackground(0)).isZero();
+        assertThat(bucket.tryAcquireBackground(0)).isZero();
+        assertThat(bucket.tryAcquireBackground(0)).isEqualTo(SECOND / 10);
+        assertThat(bucket.available(0)).isEqualTo(2);
+
+        // The reserved permits still go to interactive calls at once.
+        assertThat(bucket.reserve(0)).isZero();
+        assertThat(bucket.reserve(0)).isZero();
+        // And a queued interactive call pushes background calls further back.
+        assertThat(bucket.reserve(0)).isEqualTo(SECOND / 10);
+        assertThat(bucket.tryAcquireBackground(0)).isEqualTo(4 * SECOND / 10);
+    }
+
+    @Test
+    void tryAcquireBackground_WithABurstOfOne_ShouldStillGetPermits() {
+        TokenBucket bucket = new TokenBucket(1, 1, 0.5, 0);
+
+        assertThat(bucket.tryAcquireBackground(0)).isZero();
+        assertThat(bucket.tryAcquireBackground(0)).isEqualTo(SECOND);
+        assertThat(bucket.tryAcquireBackground(SECOND)).isZero();
+    }
+}
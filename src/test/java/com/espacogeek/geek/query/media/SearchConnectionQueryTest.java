@@ -0,0 +1,121 @@
+package com.espacogeek.geek.query.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.espacogeek.geek.controllers.SearchController;
+import com.espacogeek.geek.search.MediaSuggestIndex;
+import com.espacogeek.geek.services.MediaSearchService;
+import com.espacogeek.geek.services.MediaService;
+import com.espacogeek.geek.types.MediaConnection;
+import com.espacogeek.geek.types.MediaCursor;
+import com.espacogeek.geek.types.MediaEdge;
+import com.espacogeek.geek.types.MediaSimplefied;
+
+@GraphQlTest(SearchController.class)
+@ActiveProfiles("test")
+class SearchConnectionQueryTest {
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockitoBean
+    private MediaSuggestIndex mediaSuggestIndex;
+
+    @MockitoBean
+    private MediaService mediaService;
+
+    @MockitoBean
+    private MediaSearchService mediaSearchService;
+
+    @Test
+    void searchConnection_WithoutTotalElements_ShouldNotCount() {
+        String cursor = new MediaCursor("Zelda I", 9).encode();
+        when(mediaService.findConnectionByName("zelda", List.of(2), 1, null)).thenReturn(connection(cursor));
+
+        graphQlTester.document("""
+                query {
+                    searchConnection(name: " zelda ", categories: [2], first: 1) {
+                        edges {
+                            cursor
+                            node {
+                                id
+                                name
+                            }
+                        }
+                        hasNextPage
+                        endCursor
+                    }
+                }
+                """)
+                .execute()
+                .path("searchConnection.edges[0].node.name").entity(String.class).isEqualTo("Zelda I")
+                .path("searchConnection.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("searchConnection.endCursor").entity(String.class).isEqualTo(cursor);
+
+        verify(mediaService, never()).countConnectionByName(any(), any());
+    }
+
+    @Test
+    void searchConnection_WithTotalElements_ShouldCount() {
+        String cursor = new MediaCursor("Zelda I", 9).encode();
+        when(mediaService.findConnectionByName("zelda", List.of(2), 10, cursor)).thenReturn(connection(cursor));
+        when(mediaService.countConnectionByName("zelda", List.of(2))).thenReturn(42L);
+
+        graphQlTester.document("""
+                query($after: String) {
+                    searchConnection(name: "zelda", categories: [2], after: $after) {
+                        totalElements
+                    }
+                }
+                """)
+                .variable("after", cursor)
+                .execute()
+                .path("searchConnection.totalElements")
+                .entity(Long.class)
+                .satisfies(total -> assertThat(total).isEqualTo(42L));
+    }
+
+    @Test
+    void searchConnection_BlankName_ShouldNotQueryService() {
+        graphQlTester.document("""
+                query {
+                    searchConnection(name: "  ", categories: [2]) {
+                        hasNextPage
+                    }
+                }
+                """)
+                .execute()
+                .path("searchConnection.hasNextPage")
+                .entity(Boolean.class)
+                .isEqualTo(false);
+
+        verify(mediaService, never()).findConnectionByName(any(), any(), anyInt(), any());
+    }
+
+    private static MediaConnection connection(String cursor) {
+        MediaSimplefied node = new MediaSimplefied();
+        node.setId(9);
+        node.setName("Zelda I");
+
+        MediaConnection connection = new MediaConnection();
+        connection.setEdges(List.of(new MediaEdge(cursor, node)));
+        connection.setHasNextPage(true);
+        connection.setEndCursor(cursor);
+        connection.setName("zelda");
+        connection.setCategories(List.of(2));
+        return connection;
+    }
+}
@@ -0,0 +1,100 @@
+package com.espacogeek.geek.query.media;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.espacogeek.geek.controllers.SearchController;
+import com.espacogeek.geek.search.MediaSuggestIndex;
+import com.espacogeek.geek.services.MediaSearchService;
+import com.espacogeek.geek.services.MediaService;
+import com.espacogeek.geek.types.MediaPage;
+import com.espacogeek.geek.types.MediaSimplefied;
+
+@GraphQlTest(SearchController.class)
+@ActiveProfiles("test")
+class SearchQueryTest {
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockitoBean
+    private MediaSuggestIndex mediaSuggestIndex;
+
+    @MockitoBean
+    private MediaService mediaService;
+
+    @MockitoBean
+    private MediaSearchService mediaSearchService;
+
+    @Test
+    void search_WithCategories_ShouldReturnMergedPage() {
+        MediaSimplefied game = new MediaSimplefied();
+        game.setId(1);
+        game.setName("Chrono Trigger");
+
+        MediaPage page = new MediaPage();
+        page.setContent(List.of(game));
+        page.setTotalElements(1);
+        when(mediaSearchService.search("chrono", List.of(2, 4), 10)).thenReturn(page);
+
+        graphQlTester.document("""
+                query {
+                    search(name: " chrono ", categories: [2, 4], limit: 10) {
+                        content {
+                            id
+                            name
+                        }
+                        totalElements
+                    }
+                }
+                """)
+                .execute()
+                .path("search.content[0].name").entity(String.class).isEqualTo("Chrono Trigger")
+                .path("search.totalElements").entity(Integer.class).isEqualTo(1);
+    }
+
+    @Test
+    void search_WithoutCategoriesAndLimit_ShouldSearchAllWithDefaultLimit() {
+        when(mediaSearchService.search(anyString(), isNull(), anyInt())).thenReturn(new MediaPage());
+
+        graphQlTester.document("""
+                query {
+                    search(name: "zelda") {
+                        totalElements
+                    }
+                }
+                """)
+                .execute()
+                .path("search.totalElements").entity(Integer.class).isEqualTo(0);
+
+        verify(mediaSearchService).search("zelda", null, 20);
+    }
+
+    @Test
+    void search_BlankName_ShouldNotQueryService() {
+        graphQlTester.document("""
+                query {
+                    search(name: "  ") {
+                        totalElements
+                    }
+                }
+                """)
+                .execute()
+                .path("search.totalElements").entity(Integer.class).isEqualTo(0);
+
+        verify(mediaSearchService, never()).search(any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,102 @@
+package com.espacogeek.geek.query.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.espacogeek.geek.controllers.SearchController;
+import com.espacogeek.geek.search.MediaSuggestIndex;
+import com.espacogeek.geek.services.MediaSearchService;
+import com.espacogeek.geek.services.MediaService;
+import com.espacogeek.geek.types.MediaSimplefied;
+
+@GraphQlTest(SearchController.class)
+@ActiveProfiles("test")
+class SearchSuggestQueryTest {
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockitoBean
+    private MediaSuggestIndex mediaSuggestIndex;
+
+    @MockitoBean
+    private MediaService mediaService;
+
+    @MockitoBean
+    private MediaSearchService mediaSearchService;
+
+    @Test
+    void searchSuggest_WithPrefix_ShouldReturnSuggestionsFromIndex() {
+        MediaSimplefied suggestion = new MediaSimplefied();
+        suggestion.setId(1);
+        suggestion.setName("Chrono Trigger");
+        suggestion.setCover("https://example.com/cover.jpg");
+        when(mediaSuggestIndex.suggest("chrono", 2, 5)).thenReturn(List.of(suggestion));
+
+        graphQlTester.document("""
+                query {
+                    searchSuggest(prefix: " chrono ", category: 2, limit: 5) {
+                        id
+                        name
+                        cover
+                    }
+                }
+                """)
+                .execute()
+                .path("searchSuggest")
+                .entityList(MediaSimplefied.class)
+                .satisfies(result -> {
+                    assertThat(result).hasSize(1);
+                    assertThat(result.getFirst().getName()).isEqualTo("Chrono Trigger");
+                });
+    }
+
+    @Test
+    void searchSuggest_WithoutLimit_ShouldUseDefaultLimit() {
+        when(mediaSuggestIndex.suggest("zel", null, 10)).thenReturn(List.of());
+
+        graphQlTester.document("""
+                query {
+                    searchSuggest(prefix: "zel") {
+                        id
+                    }
+                }
+                """)
+                .execute()
+                .path("searchSuggest")
+                .entityList(MediaSimplefied.class)
+                .hasSize(0);
+
+        verify(mediaSuggestIndex).suggest("zel", null, 10);
+    }
+
+    @Test
+    void searchSuggest_BlankPrefix_ShouldNotQueryIndex() {
+        graphQlTester.document("""
+                query {
+                    searchSuggest(prefix: "   ") {
+                        id
+                    }
+                }
+                """)
+                .execute()
+                .path("searchSuggest")
+                .entityList(MediaSimplefied.class)
+                .hasSize(0);
+
+        verify(mediaSuggestIndex, never()).suggest(anyString(), any(), anyInt());
+    }
+}
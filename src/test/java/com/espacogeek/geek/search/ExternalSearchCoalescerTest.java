@@ -0,0 +1,99 @@
+package com.espacogeek.geek.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.models.MediaModel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExternalSearchCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExternalSearchCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new ExternalSearchCoalescer(meterRegistry, 60, 100);
+    }
+
+    @Test
+    void search_ConcurrentIdenticalSearches_ShouldCallProviderOnce() throws Exception {
+        MediaModel media = new MediaModel();
+        media.setName("Chrono Trigger");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            CompletableFuture<List<MediaModel>> leader = CompletableFuture.supplyAsync(() -> coalescer.search("IGDB", 2, "Chrono", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return List.of(media);
+            }), executor);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<CompletableFuture<List<MediaModel>>> followers = List.of(
+                    CompletableFuture.supplyAsync(() -> coalescer.search("IGDB", 2, "chrono ", () -> List.of(new MediaModel())), executor),
+                    CompletableFuture.supplyAsync(() -> coalescer.search("IGDB", 2, "CHRONO", () -> List.of(new MediaModel())), executor));
+            while (meterRegistry.counter("media.search.external.coalesced", "provider", "IGDB").count() < 2) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly(media);
+            for (CompletableFuture<List<MediaModel>> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly(media);
+            }
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void search_WhenProviderFoundNothing_ShouldNotCallItAgain() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.search("TMDB", 4, "asdfgh", () -> {
+            calls.incrementAndGet();
+            return List.of();
+        });
+        List<MediaModel> second = coalescer.search("TMDB", 4, "asdfgh", () -> {
+            calls.incrementAndGet();
+            return List.of(new MediaModel());
+        });
+
+        assertThat(second).isEmpty();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void search_WhenProviderFails_ShouldNotRememberTheFailure() {
+        assertThatThrownBy(() -> coalescer.search("TMDB", 1, "dark", () -> {
+            throw new IllegalStateException("TMDB unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        MediaModel media = new MediaModel();
+        assertThat(coalescer.search("TMDB", 1, "dark", () -> List.of(media))).containsExactly(media);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.espacogeek.geek.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.espacogeek.geek.models.AlternativeTitleModel;
+import com.espacogeek.geek.models.MediaCategoryModel;
+import com.espacogeek.geek.models.MediaModel;
+import com.espacogeek.geek.repositories.AlternativeTitlesRepository;
+import com.espacogeek.geek.repositories.MediaRepository;
+import com.espacogeek.geek.types.AlternativeTitleSummary;
+import com.espacogeek.geek.types.MediaSimplefied;
+import com.espacogeek.geek.types.MediaSummary;
+
+@ExtendWith(MockitoExtension.class)
+class MediaSuggestIndexTest {
+
+    @Mock
+    private MediaRepository mediaRepository;
+
+    @Mock
+    private AlternativeTitlesRepository alternativeTitlesRepository;
+
+    private MediaSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(mediaRepository.findSummariesByIdGreaterThan(eq(0), any(Pageable.class))).thenReturn(List.of(
+                new MediaSummary(1, "Chrono Trigger", "https://image.tmdb.org/t/p/original/chrono.jpg", 2, null),
+                new MediaSummary(2, "Chrono Cross", null, 2, null),
+                new MediaSummary(3, "Trigun", "https://example.com/trigun.jpg", 5, null),
+                new MediaSummary(4, "Pokémon", null, 5, null)));
+        when(alternativeTitlesRepository.findSummariesByIdGreaterThan(eq(0), any(Pageable.class))).thenReturn(List.of(
+                new AlternativeTitleSummary(10, 3, "Torai Gan")));
+
+        index = suggestIndex();
+        index.load();
+    }
+
+    @Test
+    void suggest_ShouldMatchBeginningOfAnyWordAndRankTitleStartFirst() {
+        List<MediaSimplefied> result = index.suggest("tri", null, 10);
+
+        assertThat(result).extracting(MediaSimplefied::getName).containsExactly("Trigun", "Chrono Trigger");
+    }
+
+    @Test
+    void suggest_ShouldIgnoreCaseAndDiacritics() {
+        assertThat(index.suggest("POKE", null, 10)).extracting(MediaSimplefied::getName).containsExactly("Pokémon");
+    }
+
+    @Test
+    void suggest_ShouldMatchAlternativeTitlesAndFilterByCategory() {
+        assertThat(index.suggest("gan", 5, 10)).extracting(MediaSimplefied::getId).containsExactly(3);
+        assertThat(index.suggest("gan", 2, 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_ShouldRespectLimitAndRebuildCoverUrl() {
+        List<MediaSimplefied> result = index.suggest("chrono", 2, 1);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getName()).isEqualTo("Chrono Cross");
+        assertThat(index.suggest("chrono trig", null, 5).getFirst().getCover())
+                .isEqualTo("https://image.tmdb.org/t/p/original/chrono.jpg");
+    }
+
+    @Test
+    void suggest_WithMoreThan4096Matches_ShouldReturnTheBestRankedEvenIfLastAlphabetically() {
+        List<MediaSummary> medias = new ArrayList<>();
+        for (int id = 1; id <= 5_000; id++) {
+            medias.add(new MediaSummary(id, "Aardvark Saga " + id, null, 2, null));
+        }
+        medias.add(new MediaSummary(5_001, "Az", null, 2, null));
+        when(mediaRepository.findSummariesByIdGreaterThan(eq(0), any(Pageable.class))).thenReturn(medias);
+        when(alternativeTitlesRepository.findSummariesByIdGreaterThan(eq(0), any(Pageable.class))).thenReturn(List.of());
+        MediaSuggestIndex large = suggestIndex();
+        large.load();
+
+        assertThat(large.suggest("a", null, 2)).extracting(MediaSimplefied::getName)
+                .containsExactly("Az", "Aardvark Saga 1");
+    }
+
+    @Test
+    void index_ShouldMakeNewMediaAndAlternativeTitlesSearchable() {
+        MediaCategoryModel category = new MediaCategoryModel();
+        category.setId(4);
+        MediaModel media = new MediaModel();
+        media.setId(20);
+        media.setName("Inception");
+        media.setMediaCategory(category);
+
+        index.index(media);
+        index.indexAlternativeTitles(20, List.of(new AlternativeTitleModel(null, "A Origem", media)));
+
+        assertThat(index.suggest("incep", 4, 5)).extracting(MediaSimplefied::getId).containsExactly(20);
+        assertThat(index.suggest("orig", null, 5)).extracting(MediaSimplefied::getId).containsExactly(20);
+    }
+
+    @Test
+    void remove_ShouldStopSuggestingTheMedia() {
+        index.remove(List.of(1));
+
+        assertThat(index.suggest("chrono", null, 10)).extracting(MediaSimplefied::getId).containsExactly(2);
+        assertThat(index.suggest("tri", null, 10)).extracting(MediaSimplefied::getId).containsExactly(3);
+    }
+
+    private MediaSuggestIndex suggestIndex() {
+        MediaSuggestIndex suggestIndex = new MediaSuggestIndex(mediaRepository, alternativeTitlesRepository);
+        ReflectionTestUtils.setField(suggestIndex, "enabled", true);
+        ReflectionTestUtils.setField(suggestIndex, "unsortedThreshold", 4_096);
+        return suggestIndex;
+    }
+}
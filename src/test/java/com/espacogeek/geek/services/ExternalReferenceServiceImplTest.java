@@ -0,0 +1,56 @@
+package com.espacogeek.geek.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.espacogeek.geek.models.TypeReferenceModel;
+import com.espacogeek.geek.repositories.ExternalReferenceRepository;
+import com.espacogeek.geek.services.impl.ExternalReferenceServiceImpl;
+import com.espacogeek.geek.types.ExternalReferenceKey;
+import com.espacogeek.geek.utils.IdBitmap;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalReferenceServiceImplTest {
+
+    @Mock
+    private ExternalReferenceRepository externalReferenceRepository;
+
+    @InjectMocks
+    private ExternalReferenceServiceImpl externalReferenceService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(externalReferenceService, "referencePageSize", 2);
+    }
+
+    @Test
+    void findAllReferenceIds_ShouldReadEveryPageAndSkipNonNumericValues() {
+        TypeReferenceModel tmdb = new TypeReferenceModel();
+        tmdb.setId(1);
+        when(externalReferenceRepository.findKeysByTypeReferenceAfter(1, 0, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new ExternalReferenceKey(3, "550"), new ExternalReferenceKey(8, "tt0137523")));
+        when(externalReferenceRepository.findKeysByTypeReferenceAfter(1, 8, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new ExternalReferenceKey(9, "1399"), new ExternalReferenceKey(12, null)));
+        when(externalReferenceRepository.findKeysByTypeReferenceAfter(1, 12, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new ExternalReferenceKey(15, "550")));
+
+        IdBitmap ids = externalReferenceService.findAllReferenceIds(tmdb);
+
+        assertThat(ids.size()).isEqualTo(2);
+        assertThat(ids.contains(550)).isTrue();
+        assertThat(ids.contains(1399)).isTrue();
+        verify(externalReferenceRepository).findKeysByTypeReferenceAfter(1, 12, PageRequest.of(0, 2));
+    }
+}
@@ -0,0 +1,50 @@
+package com.espacogeek.geek.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.espacogeek.geek.cache.ReferenceDataRegistry;
+import com.espacogeek.geek.models.GenreModel;
+import com.espacogeek.geek.repositories.GenreRepository;
+import com.espacogeek.geek.services.impl.GenreServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class GenreServiceImplTest {
+
+    @Mock
+    private GenreRepository genreRepository;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @InjectMocks
+    private GenreServiceImpl genreService;
+
+    @Test
+    void saveAll_ShouldReloadTheReferenceData() {
+        List<GenreModel> genres = List.of(new GenreModel(null, "Mystery", null));
+        when(genreRepository.saveAll(genres)).thenReturn(genres);
+
+        assertThat(genreService.saveAll(genres)).isEqualTo(genres);
+        verify(referenceDataRegistry).reload();
+    }
+
+    @Test
+    void saveAll_WithoutGenres_ShouldNotReload() {
+        when(genreRepository.saveAll(List.of())).thenReturn(List.of());
+
+        genreService.saveAll(List.of());
+
+        verify(referenceDataRegistry, never()).reload();
+    }
+}
@@ -0,0 +1,150 @@
+package com.espacogeek.geek.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.espacogeek.geek.models.MediaRefreshQueueModel;
+import com.espacogeek.geek.repositories.MediaRefreshQueueRepository;
+import com.espacogeek.geek.services.impl.MediaRefreshQueueServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MediaRefreshQueueServiceImplTest {
+
+    @Mock
+    private MediaRefreshQueueRepository mediaRefreshQueueRepository;
+
+    @Mock
+    private MediaService mediaService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MediaRefreshQueueServiceImpl mediaRefreshQueueService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mediaRefreshQueueService = new MediaRefreshQueueServiceImpl(
+                mediaRefreshQueueRepository,
+                mediaService,
+                new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor()),
+                meterRegistry);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "enabled", true);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "drainIntervalMs", 1_000L);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "planSize", 5_000);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "staleAfterHours", 48L);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "popularityWeight", 10d);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "maxAttempts", 5);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "tmdbRate", 100d);
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "igdbRate", 1d);
+    }
+
+    @Test
+    void drain_ShouldClaimByRateRefreshAndDeleteProcessedMedias() {
+        when(mediaRefreshQueueRepository.renewClaim(anyInt(), anyString(), any(Date.class), any(Date.class))).thenReturn(1);
+        when(mediaRefreshQueueRepository.findClaimed(eq("TMDB"), anyString(), any(Date.class)))
+                .thenReturn(List.of(entry(1, 0), entry(2, 0)));
+        when(mediaService.refreshIfStale(anyInt())).thenReturn(Optional.empty());
+
+        int refreshed = mediaRefreshQueueService.drain("TMDB");
+
+        assertThat(refreshed).isEqualTo(2);
+        // 100 medias per second over a 1 second drain interval.
+        verify(mediaRefreshQueueRepository).claim(eq("TMDB"), anyString(), any(Date.class), any(Date.class), eq(100));
+        verify(mediaService).refreshIfStale(1);
+        verify(mediaService).refreshIfStale(2);
+        verify(mediaRefreshQueueRepository).deleteClaimed(eq(1), anyString());
+        verify(mediaRefreshQueueRepository).deleteClaimed(eq(2), anyString());
+        assertThat(meterRegistry.counter("media.refresh.queue.processed", "provider", "TMDB", "result", "success").count()).isEqualTo(2);
+    }
+
+    @Test
+    void drain_WhenRefreshFails_ShouldReleaseForALaterRetry() {
+        when(mediaRefreshQueueRepository.renewClaim(anyInt(), anyString(), any(Date.class), any(Date.class))).thenReturn(1);
+        when(mediaRefreshQueueRepository.findClaimed(eq("TMDB"), anyString(), any(Date.class)))
+                .thenReturn(List.of(entry(3, 1)));
+        when(mediaService.refreshIfStale(3)).thenThrow(new IllegalStateException("TMDB unavailable"));
+
+        Date before = new Date();
+        int refreshed = mediaRefreshQueueService.drain("TMDB");
+
+        assertThat(refreshed).isZero();
+        ArgumentCaptor<Date> retryAt = ArgumentCaptor.forClass(Date.class);
+        verify(mediaRefreshQueueRepository).release(eq(3), anyString(), retryAt.capture());
+        // Second attempt: two drain intervals later.
+        assertThat(retryAt.getValue()).isAfterOrEqualTo(new Date(before.getTime() + 2_000));
+        verify(mediaRefreshQueueRepository, never()).deleteClaimed(anyInt(), anyString());
+    }
+
+    @Test
+    void drain_WhenMaxAttemptsReached_ShouldDropTheMedia() {
+        when(mediaRefreshQueueRepository.renewClaim(anyInt(), anyString(), any(Date.class), any(Date.class))).thenReturn(1);
+        when(mediaRefreshQueueRepository.findClaimed(eq("TMDB"), anyString(), any(Date.class)))
+                .thenReturn(List.of(entry(4, 4)));
+        when(mediaService.refreshIfStale(4)).thenThrow(new IllegalStateException("TMDB unavailable"));
+
+        mediaRefreshQueueService.drain("TMDB");
+
+        verify(mediaRefreshQueueRepository).deleteClaimed(eq(4), anyString());
+        verify(mediaRefreshQueueRepository, never()).release(anyInt(), anyString(), any());
+    }
+
+    @Test
+    void drain_WhenALeaseEnded_ShouldStopBeforeRefreshingMediasOfAnotherInstance() {
+        when(mediaRefreshQueueRepository.findClaimed(eq("TMDB"), anyString(), any(Date.class)))
+                .thenReturn(List.of(entry(5, 0), entry(6, 0), entry(7, 0)));
+        when(mediaRefreshQueueRepository.renewClaim(eq(5), anyString(), any(Date.class), any(Date.class))).thenReturn(1);
+        when(mediaRefreshQueueRepository.renewClaim(eq(6), anyString(), any(Date.class), any(Date.class))).thenReturn(0);
+        when(mediaService.refreshIfStale(5)).thenReturn(Optional.empty());
+
+        int refreshed = mediaRefreshQueueService.drain("TMDB");
+
+        assertThat(refreshed).isEqualTo(1);
+        verify(mediaService, never()).refreshIfStale(6);
+        verify(mediaService, never()).refreshIfStale(7);
+        verify(mediaRefreshQueueRepository, never()).deleteClaimed(eq(6), anyString());
+        assertThat(meterRegistry.counter("media.refresh.queue.leases.lost", "provider", "TMDB").count()).isEqualTo(1);
+    }
+
+    @Test
+    void scheduledEnqueue_WhenDisabled_ShouldNotTouchTheQueue() {
+        ReflectionTestUtils.setField(mediaRefreshQueueService, "enabled", false);
+
+        mediaRefreshQueueService.scheduledEnqueue();
+        mediaRefreshQueueService.scheduledDrain();
+
+        verify(mediaRefreshQueueRepository, never()).enqueuePopularStaleMedias(any(), any(), anyDouble(), anyDouble(), anyInt());
+        verify(mediaRefreshQueueRepository, never()).claim(anyString(), anyString(), any(), any(), anyInt());
+    }
+
+    private static MediaRefreshQueueModel entry(int mediaId, int attempts) {
+        MediaRefreshQueueModel entry = new MediaRefreshQueueModel();
+        entry.setMediaId(mediaId);
+        entry.setProvider("TMDB");
+        entry.setPriority(1d);
+        entry.setAttempts(attempts);
+        return entry;
+    }
+}
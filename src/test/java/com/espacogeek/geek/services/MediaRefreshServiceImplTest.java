@@ -0,0 +1,100 @@
+package com.espacogeek.geek.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.espacogeek.geek.services.impl.MediaRefreshServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MediaRefreshServiceImplTest {
+
+    @Mock
+    private MediaService mediaService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MediaRefreshServiceImpl mediaRefreshService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mediaRefreshService = new MediaRefreshServiceImpl(mediaService, meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        mediaRefreshService.shutdown();
+    }
+
+    @Test
+    void enqueue_SameMediaWhilePending_ShouldRefreshOnce() {
+        when(mediaService.refreshIfStale(1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        assertThat(mediaRefreshService.enqueue(1)).isTrue();
+        assertThat(mediaRefreshService.enqueue(1)).isFalse();
+        release.countDown();
+
+        verify(mediaService, timeout(5_000)).refreshIfStale(1);
+        verify(mediaService, times(1)).refreshIfStale(1);
+    }
+
+    @Test
+    void enqueue_WhenQueueIsFull_ShouldRejectAndCountIt() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        when(mediaService.refreshIfStale(1)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        assertThat(mediaRefreshService.enqueue(1)).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(mediaRefreshService.enqueue(2)).isTrue();
+
+        assertThat(mediaRefreshService.enqueue(3)).isFalse();
+        assertThat(meterRegistry.counter("media.refresh", "result", "rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("media.refresh.queue.depth").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueue_WhenRefreshFails_ShouldCountFailureAndAllowRetry() throws InterruptedException {
+        when(mediaService.refreshIfStale(7)).thenThrow(new IllegalStateException("TMDB unavailable"));
+
+        assertThat(mediaRefreshService.enqueue(7)).isTrue();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("media.refresh", "result", "failure").count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.counter("media.refresh", "result", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("media.refresh.lag").timer().count()).isEqualTo(1);
+
+        // The failed media is no longer pending once its refresh has finished.
+        while (!mediaRefreshService.enqueue(7) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        verify(mediaService, timeout(5_000).times(2)).refreshIfStale(7);
+    }
+}
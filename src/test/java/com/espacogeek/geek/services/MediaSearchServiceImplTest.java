@@ -0,0 +1,127 @@
+package com.espacogeek.geek.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.espacogeek.geek.services.impl.MediaSearchServiceImpl;
+import com.espacogeek.geek.types.MediaPage;
+import com.espacogeek.geek.types.MediaSimplefied;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MediaSearchServiceImplTest {
+
+    @Mock
+    private MediaService mediaService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MediaSearchServiceImpl mediaSearchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mediaSearchService = new MediaSearchServiceImpl(
+                mediaService,
+                new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor()),
+                meterRegistry);
+        ReflectionTestUtils.setField(mediaSearchService, "categoryTimeoutMs", 3_000L);
+    }
+
+    @Test
+    void search_ShouldRankExactAndPrefixMatchesAcrossCategories() {
+        when(mediaService.findGameByIdOrName(isNull(), eq("chrono"), any()))
+                .thenReturn(page(media(1, "Radical Dreamers: Chrono"), media(2, "Chrono Trigger")));
+        when(mediaService.findMovieByIdOrName(isNull(), eq("chrono"), any()))
+                .thenReturn(page(media(3, "Chrono"), media(4, "The Chrono Files")));
+
+        MediaPage result = mediaSearchService.search("chrono", List.of(2, 4), 10);
+
+        assertThat(result.getContent()).extracting(MediaSimplefied::getName)
+                .containsExactly("Chrono", "Chrono Trigger", "Radical Dreamers: Chrono", "The Chrono Files");
+        assertThat(result.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void search_AnimeCategories_ShouldSearchAnimeOnceAndSkipUnknownCategories() {
+        when(mediaService.findAnimeByIdOrName(isNull(), eq("frieren"), any()))
+                .thenReturn(page(media(5, "Frieren")));
+
+        MediaPage result = mediaSearchService.search("frieren", List.of(5, 7, 6), 10);
+
+        assertThat(result.getContent()).extracting(MediaSimplefied::getId).containsExactly(5);
+        verify(mediaService).findAnimeByIdOrName(isNull(), eq("frieren"), any());
+        verify(mediaService, never()).findMovieByIdOrName(any(), any(), any());
+    }
+
+    @Test
+    void search_WhenCategoryIsSlow_ShouldReturnPartialResultsAndCancelIt() throws InterruptedException {
+        ReflectionTestUtils.setField(mediaSearchService, "categoryTimeoutMs", 200L);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(mediaService.findGameByIdOrName(isNull(), eq("zelda"), any()))
+                .thenReturn(page(media(1, "Zelda")));
+        when(mediaService.findMovieByIdOrName(isNull(), eq("zelda"), any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return page(media(2, "Zelda: The Movie"));
+        });
+
+        long start = System.nanoTime();
+        MediaPage result = mediaSearchService.search("zelda", List.of(2, 4), 10);
+
+        assertThat(result.getContent()).extracting(MediaSimplefied::getId).containsExactly(1);
+        assertThat(System.nanoTime() - start).isLessThan(2_000_000_000L);
+        assertThat(meterRegistry.counter("media.search.category.timeouts", "category", "movie").count()).isEqualTo(1);
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void search_WhenCategoryFails_ShouldReturnOtherCategoriesAndDeduplicate() {
+        when(mediaService.findSerieByIdOrName(isNull(), eq("dark"), any()))
+                .thenThrow(new IllegalStateException("TMDB unavailable"));
+        when(mediaService.findGameByIdOrName(isNull(), eq("dark"), any()))
+                .thenReturn(page(media(8, "Dark Souls"), media(8, "Dark Souls")));
+
+        MediaPage result = mediaSearchService.search("dark", List.of(1, 2), 1);
+
+        assertThat(result.getContent()).extracting(MediaSimplefied::getId).containsExactly(8);
+        assertThat(meterRegistry.counter("media.search.category.failures", "category", "tvserie").count()).isEqualTo(1);
+    }
+
+    private static MediaPage page(MediaSimplefied... medias) {
+        MediaPage page = new MediaPage();
+        page.setContent(List.of(medias));
+        page.setTotalElements(medias.length);
+        return page;
+    }
+
+    private static MediaSimplefied media(int id, String name) {
+        MediaSimplefied media = new MediaSimplefied();
+        media.setId(id);
+        media.setName(name);
+        return media;
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +18,7 @@ import java.util.Optional;
 
 import org.hibernate.collection.spi.PersistentSet;
 
+import jakarta.persistence.EntityManager;
 import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,15 +31,24 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.espacogeek.geek.data.MediaDataController;
+import com.espacogeek.geek.exception.InputValidationException;
+import com.espacogeek.geek.exception.ProviderUnavailableException;
 import com.espacogeek.geek.models.ExternalReferenceModel;
 import com.espacogeek.geek.models.MediaCategoryModel;
 import com.espacogeek.geek.models.MediaModel;
 import com.espacogeek.geek.models.TypeReferenceModel;
 import com.espacogeek.geek.repositories.ExternalReferenceRepository;
 import com.espacogeek.geek.repositories.MediaRepository;
+import com.espacogeek.geek.search.ExternalSearchCoalescer;
+import com.espacogeek.geek.search.MediaSearchCache;
 import com.espacogeek.geek.services.impl.MediaServiceImpl;
+import com.espacogeek.geek.types.MediaCursor;
+import com.espacogeek.geek.types.MediaSummary;
+import com.espacogeek.geek.utils.FullTextSearchUtils;
 import com.espacogeek.geek.utils.MediaLazyLoader;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings({"unchecked", "rawtypes"})
 class MediaServiceImplTest {
@@ -72,6 +83,12 @@ class MediaServiceImplTest {
     @Mock
     private MediaLazyLoader mediaLazyLoader;
 
+    @Mock
+    private MediaRefreshService mediaRefreshService;
+
+    @Mock
+    private EntityManager entityManager;
+
     private MediaServiceImpl mediaService;
 
     @BeforeEach
@@ -86,7 +103,12 @@ class MediaServiceImplTest {
                 gamesAndVNsAPI,
                 movieAPI,
                 tvSeriesApi,
-                mediaLazyLoader);
+                mediaLazyLoader,
+                new MediaSearchCache(new SimpleMeterRegistry(), true, 100, 60),
+                new ExternalSearchCoalescer(new SimpleMeterRegistry(), 60, 100),
+                mediaRefreshService,
+                entityManager);
+        ReflectionTestUtils.setField(mediaService, "refreshMode", "sync");
     }
 
     @Test
@@ -288,7 +310,7 @@ class MediaServiceImplTest {
         externalGame.setMediaCategory(gameCategory);
 
         when(mediaCategoryService.findById(MediaDataController.MediaType.GAME.getId())).thenReturn(java.util.Optional.of(gameCategory));
-        when(mediaRepository.findMediaByNameOrAlternativeTitleAndMediaCategory(eq("chrono"), eq("chrono"), eq(gameCategory.getId()), any(Pageable.class)))
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(eq("chrono"), eq("chrono"), eq(gameCategory.getId()), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
         when(typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId())).thenReturn(java.util.Optional.of(igdbReference));
         when(genericMediaDataController.searchMedia(anyString(), eq(gamesAndVNsAPI), eq(igdbReference), eq(gameCategory)))
@@ -302,6 +324,35 @@ class MediaServiceImplTest {
         verify(genericMediaDataController).searchMedia("chrono", gamesAndVNsAPI, igdbReference, gameCategory);
     }
 
+    @Test
+    void findGameByIdOrName_WhenProviderWasUnavailable_ShouldNotServeTheEmptyPageFromCache() {
+        MediaCategoryModel gameCategory = new MediaCategoryModel();
+        gameCategory.setId(MediaDataController.MediaType.GAME.getId());
+
+        TypeReferenceModel igdbReference = new TypeReferenceModel();
+        igdbReference.setId(MediaDataController.ExternalReferenceType.IGDB.getId());
+
+        MediaModel externalGame = new MediaModel();
+        externalGame.setId(101);
+        externalGame.setName("Chrono Trigger");
+        externalGame.setMediaCategory(gameCategory);
+
+        when(mediaCategoryService.findById(MediaDataController.MediaType.GAME.getId())).thenReturn(java.util.Optional.of(gameCategory));
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(eq("chrono"), eq("chrono"), eq(gameCategory.getId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+        when(typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId())).thenReturn(java.util.Optional.of(igdbReference));
+        when(genericMediaDataController.searchMedia(anyString(), eq(gamesAndVNsAPI), eq(igdbReference), eq(gameCategory)))
+                .thenThrow(new ProviderUnavailableException("IGDB"))
+                .thenReturn(List.of(externalGame));
+
+        var whileOpen = mediaService.findGameByIdOrName(null, "chrono", PageRequest.of(0, 10));
+        var afterClose = mediaService.findGameByIdOrName(null, "chrono", PageRequest.of(0, 10));
+
+        assertThat(whileOpen.getContent()).isEmpty();
+        assertThat(afterClose.getContent()).extracting("name").containsExactly("Chrono Trigger");
+        verify(genericMediaDataController, times(2)).searchMedia("chrono", gamesAndVNsAPI, igdbReference, gameCategory);
+    }
+
     @Test
     void findVisualNovelByIdOrName_WhenLocalResultIsStale_ShouldRefreshBeforeReturning() {
         MediaCategoryModel vnCategory = new MediaCategoryModel();
@@ -328,20 +379,180 @@ class MediaServiceImplTest {
         refreshedVisualNovel.setExternalReference(new HashSet<>(List.of(reference)));
 
         when(mediaCategoryService.findById(MediaDataController.MediaType.VN.getId())).thenReturn(java.util.Optional.of(vnCategory));
-        when(mediaRepository.findMediaByNameOrAlternativeTitleAndMediaCategory(eq("steins"), eq("steins"), eq(vnCategory.getId()), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(staleVisualNovel), PageRequest.of(0, 10), 1));
+        MediaSummary staleSummary = new MediaSummary(202, "Old VN", null, vnCategory.getId(), new Date(0));
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(eq("steins"), eq("steins"), eq(vnCategory.getId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(staleSummary), PageRequest.of(0, 10), 1));
+        when(mediaRepository.findAllById(List.of(202))).thenReturn(List.of(staleVisualNovel));
         when(typeReferenceService.findById(MediaDataController.ExternalReferenceType.IGDB.getId())).thenReturn(java.util.Optional.of(igdbReference));
-        when(genericMediaDataController.updateAllInformation(eq(staleVisualNovel), isNull(), eq(igdbReference), eq(gamesAndVNsAPI)))
-                .thenReturn(refreshedVisualNovel);
+        when(genericMediaDataController.updateAllInformation(List.of(staleVisualNovel), igdbReference, gamesAndVNsAPI))
+                .thenReturn(List.of(refreshedVisualNovel));
 
         var result = mediaService.findVisualNovelByIdOrName(null, "steins", PageRequest.of(0, 10));
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().getFirst().getName()).isEqualTo("Refreshed VN");
-        verify(genericMediaDataController).updateAllInformation(staleVisualNovel, null, igdbReference, gamesAndVNsAPI);
+        // The stale games and visual novels of a page are refreshed with one batched IGDB lookup.
+        verify(genericMediaDataController).updateAllInformation(List.of(staleVisualNovel), igdbReference, gamesAndVNsAPI);
         verify(genericMediaDataController, never()).searchMedia(any(), any(), any(), any());
     }
 
+    @Test
+    void findVisualNovelByIdOrName_WhenAsyncRefreshAndResultIsStale_ShouldEnqueueAndReturnCurrentRow() {
+        ReflectionTestUtils.setField(mediaService, "refreshMode", "async");
+        MediaCategoryModel vnCategory = new MediaCategoryModel();
+        vnCategory.setId(MediaDataController.MediaType.VN.getId());
+
+        MediaSummary staleVisualNovel = new MediaSummary(21, "Steins;Gate", null, vnCategory.getId(), null);
+
+        when(mediaCategoryService.findById(MediaDataController.MediaType.VN.getId())).thenReturn(java.util.Optional.of(vnCategory));
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(eq("steins"), eq("steins"), eq(vnCategory.getId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(staleVisualNovel), PageRequest.of(0, 10), 1));
+
+        var result = mediaService.findVisualNovelByIdOrName(null, "steins", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).singleElement().satisfies(media -> assertThat(media.getName()).isEqualTo("Steins;Gate"));
+        verify(mediaRefreshService).enqueue(21);
+        verify(mediaRepository, never()).findAllById(any());
+        verify(genericMediaDataController, never()).updateAllInformation(any(), any(), any(), any());
+    }
+
+    @Test
+    void findMovieByIdOrName_WhenLocalResultsAreFresh_ShouldNotLoadEntities() {
+        MediaCategoryModel movieCategory = new MediaCategoryModel();
+        movieCategory.setId(MediaDataController.MediaType.MOVIE.getId());
+
+        MediaSummary movie = new MediaSummary(12, "Inception", "https://example.com/inception.jpg", movieCategory.getId(), new Date());
+
+        when(mediaCategoryService.findById(MediaDataController.MediaType.MOVIE.getId())).thenReturn(java.util.Optional.of(movieCategory));
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(eq("incep"), eq("incep"), eq(movieCategory.getId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(movie), PageRequest.of(0, 10), 1));
+
+        var result = mediaService.findMovieByIdOrName(null, "incep", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).singleElement().satisfies(media -> {
+            assertThat(media.getId()).isEqualTo(12);
+            assertThat(media.getCover()).isEqualTo("https://example.com/inception.jpg");
+        });
+        verify(mediaRepository, never()).findAllById(any());
+        verify(genericMediaDataController, never()).updateAllInformation(any(), any(), any(), any());
+    }
+
+    @Test
+    void findMovieByIdOrName_SameSearchTwice_ShouldUseCacheUntilCategoryIsSaved() {
+        MediaCategoryModel movieCategory = new MediaCategoryModel();
+        movieCategory.setId(MediaDataController.MediaType.MOVIE.getId());
+
+        MediaSummary movie = new MediaSummary(12, "Inception", null, movieCategory.getId(), new Date());
+
+        when(mediaCategoryService.findById(MediaDataController.MediaType.MOVIE.getId())).thenReturn(java.util.Optional.of(movieCategory));
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(any(), any(), eq(movieCategory.getId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(movie), PageRequest.of(0, 10), 1));
+
+        mediaService.findMovieByIdOrName(null, "Incep", PageRequest.of(0, 10));
+        var cached = mediaService.findMovieByIdOrName(null, "incep", PageRequest.of(0, 10));
+
+        assertThat(cached.getContent()).extracting("id").containsExactly(12);
+        verify(mediaRepository, times(1)).findSummariesByNameOrAlternativeTitleAndMediaCategory(any(), any(), any(), any());
+
+        MediaModel saved = new MediaModel();
+        saved.setName("Inception");
+        saved.setMediaCategory(movieCategory);
+        saved.setExternalReference(new HashSet<>(List.of(new ExternalReferenceModel())));
+        when(mediaRepository.save(saved)).thenReturn(saved);
+        mediaService.save(saved);
+
+        mediaService.findMovieByIdOrName(null, "incep", PageRequest.of(0, 10));
+
+        verify(mediaRepository, times(2)).findSummariesByNameOrAlternativeTitleAndMediaCategory(any(), any(), any(), any());
+    }
+
+    @Test
+    void findGameByIdOrName_WhenFullTextEnabled_ShouldKeepRelevanceOrder() {
+        ReflectionTestUtils.setField(mediaService, "fullTextSearchEnabled", true);
+        ReflectionTestUtils.setField(mediaService, "fullTextMinTokenLength", FullTextSearchUtils.DEFAULT_MIN_TOKEN_LENGTH);
+
+        MediaCategoryModel gameCategory = new MediaCategoryModel();
+        gameCategory.setId(MediaDataController.MediaType.GAME.getId());
+
+        MediaSummary bestMatch = new MediaSummary(7, "Chrono Trigger", null, gameCategory.getId(), new Date());
+        MediaSummary secondMatch = new MediaSummary(3, "Chrono Cross", null, gameCategory.getId(), new Date());
+
+        when(mediaCategoryService.findById(MediaDataController.MediaType.GAME.getId())).thenReturn(java.util.Optional.of(gameCategory));
+        when(mediaRepository.findMediaIdsByFullTextAndMediaCategoryIn(eq("+chrono* +trigger*"), eq("chrono trigger"), eq(List.of(gameCategory.getId())), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(7, 3), PageRequest.of(0, 10), 2));
+        when(mediaRepository.findSummariesByIdIn(List.of(7, 3))).thenReturn(List.of(secondMatch, bestMatch));
+
+        var result = mediaService.findGameByIdOrName(null, "chrono trigger", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).extracting("name").containsExactly("Chrono Trigger", "Chrono Cross");
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(mediaRepository, never()).findSummariesByNameOrAlternativeTitleAndMediaCategory(any(), any(), any(), any());
+        verify(mediaRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void findGameByIdOrName_WhenFullTextEnabledAndTermTooShort_ShouldFallBackToLike() {
+        ReflectionTestUtils.setField(mediaService, "fullTextSearchEnabled", true);
+        ReflectionTestUtils.setField(mediaService, "fullTextMinTokenLength", FullTextSearchUtils.DEFAULT_MIN_TOKEN_LENGTH);
+
+        MediaCategoryModel gameCategory = new MediaCategoryModel();
+        gameCategory.setId(MediaDataController.MediaType.GAME.getId());
+
+        MediaSummary game = new MediaSummary(5, "Ys", null, gameCategory.getId(), new Date());
+
+        when(mediaCategoryService.findById(MediaDataController.MediaType.GAME.getId())).thenReturn(java.util.Optional.of(gameCategory));
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategory(eq("ys"), eq("ys"), eq(gameCategory.getId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(game), PageRequest.of(0, 10), 1));
+
+        var result = mediaService.findGameByIdOrName(null, "ys", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).hasSize(1);
+        verify(mediaRepository, never()).findMediaIdsByFullTextAndMediaCategoryIn(any(), any(), any(), any());
+    }
+
+    @Test
+    void findConnectionByName_FirstPage_ShouldFetchOneExtraRowAndReturnCursor() {
+        MediaCategoryModel gameCategory = new MediaCategoryModel();
+        gameCategory.setId(MediaDataController.MediaType.GAME.getId());
+
+        MediaSummary first = new MediaSummary(9, "Zelda I", null, gameCategory.getId(), new Date());
+        MediaSummary second = new MediaSummary(4, "Zelda II", null, gameCategory.getId(), new Date());
+
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategoryInFirst("zelda", "zelda", List.of(2), PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+
+        var result = mediaService.findConnectionByName("zelda", List.of(2), 1, null);
+
+        assertThat(result.getEdges()).hasSize(1);
+        assertThat(result.getEdges().getFirst().getNode().getName()).isEqualTo("Zelda I");
+        assertThat(result.isHasNextPage()).isTrue();
+        assertThat(MediaCursor.decode(result.getEndCursor())).isEqualTo(new MediaCursor("Zelda I", 9));
+        verify(mediaRepository, never()).countMediaByNameOrAlternativeTitleAndMediaCategoryIn(any(), any(), any());
+    }
+
+    @Test
+    void findConnectionByName_WithCursor_ShouldSeekAfterCursor() {
+        MediaCategoryModel gameCategory = new MediaCategoryModel();
+        gameCategory.setId(MediaDataController.MediaType.GAME.getId());
+
+        MediaSummary last = new MediaSummary(4, "Zelda II", null, gameCategory.getId(), new Date());
+
+        String after = new MediaCursor("Zelda I", 9).encode();
+        when(mediaRepository.findSummariesByNameOrAlternativeTitleAndMediaCategoryInAfter("zelda", "zelda", List.of(2), "Zelda I", 9, PageRequest.of(0, 2)))
+                .thenReturn(List.of(last));
+
+        var result = mediaService.findConnectionByName("zelda", List.of(2), 1, after);
+
+        assertThat(result.getEdges()).extracting(edge -> edge.getNode().getName()).containsExactly("Zelda II");
+        assertThat(result.isHasNextPage()).isFalse();
+    }
+
+    @Test
+    void findConnectionByName_WithMalformedCursor_ShouldThrowInputValidationException() {
+        assertThatThrownBy(() -> mediaService.findConnectionByName("zelda", List.of(2), 10, "%%%"))
+                .isInstanceOf(InputValidationException.class);
+    }
+
     @Test
     void findByIdEager_WhenMediaExists_ShouldUseSpecializedQueryAndCallLazyLoader() {
         MediaCategoryModel category = new MediaCategoryModel();
@@ -11,15 +11,22 @@ import static org.mockito.Mockito.when;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.espacogeek.geek.cache.ReferenceDataRegistry;
 import com.espacogeek.geek.data.MediaDataController;
 import com.espacogeek.geek.data.api.MediaApi;
 import com.espacogeek.geek.data.impl.GenericMediaDataControllerImpl;
@@ -33,14 +40,22 @@ import com.espacogeek.geek.repositories.AlternativeTitlesRepository;
 import com.espacogeek.geek.repositories.ExternalReferenceRepository;
 import com.espacogeek.geek.repositories.GenreRepository;
 import com.espacogeek.geek.repositories.MediaCategoryRepository;
+import com.espacogeek.geek.repositories.MediaStatusRepository;
 import com.espacogeek.geek.repositories.MediaRepository;
 import com.espacogeek.geek.repositories.TypeReferenceRepository;
+import com.espacogeek.geek.search.ExternalSearchCoalescer;
+import com.espacogeek.geek.search.MediaSearchCache;
+import com.espacogeek.geek.search.MediaSuggestIndex;
 import com.espacogeek.geek.services.impl.AlternativeTitlesServiceImpl;
 import com.espacogeek.geek.services.impl.ExternalReferenceServiceImpl;
 import com.espacogeek.geek.services.impl.GenreServiceImpl;
 import com.espacogeek.geek.services.impl.MediaServiceImpl;
 import com.espacogeek.geek.types.MediaPage;
 import com.espacogeek.geek.utils.MediaLazyLoader;
+import com.espacogeek.geek.utils.MediaPayloadHash;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -64,7 +79,18 @@ class MediaServicePersistenceIntegrationTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private MediaStatusRepository mediaStatusRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UpdateStatements updateStatements;
+
     private MediaService mediaService;
+    private GenericMediaDataControllerImpl genericMediaDataController;
+    private SimpleMeterRegistry meterRegistry;
     private MediaApi gamesAndVNsAPI;
     private MediaCategoryModel gameCategory;
     private MediaCategoryModel vnCategory;
@@ -91,6 +117,10 @@ class MediaServicePersistenceIntegrationTest {
 
         GenreServiceImpl genreService = new GenreServiceImpl();
         ReflectionTestUtils.setField(genreService, "genreRepository", genreRepository);
+        ReferenceDataRegistry referenceDataRegistry = new ReferenceDataRegistry(
+                typeReferenceRepository, mediaCategoryRepository, mediaStatusRepository, genreRepository, new SimpleMeterRegistry());
+        referenceDataRegistry.reload();
+        ReflectionTestUtils.setField(genreService, "referenceDataRegistry", referenceDataRegistry);
 
         SeasonService seasonService = mock(SeasonService.class);
         when(seasonService.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
@@ -107,13 +137,21 @@ class MediaServicePersistenceIntegrationTest {
                 genreService,
                 seasonService);
 
-        GenericMediaDataControllerImpl genericMediaDataController = new GenericMediaDataControllerImpl(
+        MediaSuggestIndex mediaSuggestIndex = new MediaSuggestIndex(mediaRepository, alternativeTitlesRepository);
+        ReflectionTestUtils.setField(mediaSuggestIndex, "enabled", true);
+        ReflectionTestUtils.setField(mediaSuggestIndex, "unsortedThreshold", 4_096);
+
+        meterRegistry = new SimpleMeterRegistry();
+        genericMediaDataController = new GenericMediaDataControllerImpl(
                 null,
                 genreService,
                 alternativeTitlesService,
                 externalReferenceService,
                 seasonService,
-                mediaLazyLoader);
+                mediaLazyLoader,
+                mediaSuggestIndex,
+                meterRegistry);
+        ReflectionTestUtils.setField(genericMediaDataController, "differentialUpdate", true);
 
         mediaService = new MediaServiceImpl(
                 mediaRepository,
@@ -125,7 +163,12 @@ class MediaServicePersistenceIntegrationTest {
                 gamesAndVNsAPI,
                 movieAPI,
                 tvSeriesApi,
-                mediaLazyLoader);
+                mediaLazyLoader,
+                new MediaSearchCache(new SimpleMeterRegistry(), true, 100, 60),
+                new ExternalSearchCoalescer(new SimpleMeterRegistry(), 60, 100),
+                mock(MediaRefreshService.class),
+                entityManager);
+        ReflectionTestUtils.setField(mediaService, "refreshMode", "sync");
 
         ReflectionTestUtils.setField(genericMediaDataController, "mediaService", mediaService);
     }
@@ -188,6 +231,31 @@ class MediaServicePersistenceIntegrationTest {
                 verify(gamesAndVNsAPI, times(1)).doSearch(eq("Steins"), any(MediaCategoryModel.class));
     }
 
+    @Test
+    void updateAllInformation_WhenPayloadIsUnchanged_ShouldWriteOneUpdateStatement() {
+        MediaModel payload = new MediaModel();
+        payload.setName("Chrono Trigger");
+        payload.setAbout("Chrono Trigger description");
+
+        MediaModel stored = new MediaModel();
+        stored.setName("Chrono Trigger");
+        stored.setAbout("Chrono Trigger description");
+        stored.setMediaCategory(gameCategory);
+        stored.setPayloadHash(MediaPayloadHash.of(payload));
+        Integer id = mediaRepository.saveAndFlush(stored).getId();
+        entityManager.clear();
+
+        MediaModel media = mediaRepository.findById(id).orElseThrow();
+        updateStatements.reset();
+        genericMediaDataController.updateAllInformation(media, payload, igdbTypeReference, gamesAndVNsAPI);
+        entityManager.flush();
+
+        assertThat(updateStatements.count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("media.update.writes", "table", "medias").count()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(mediaRepository.findById(id).orElseThrow().getUpdateAt().getTime()).isEqualTo(media.getUpdateAt().getTime());
+    }
+
     private MediaModel externalSearchResult(String name, String externalReferenceValue, MediaCategoryModel mediaCategory) {
         MediaModel media = new MediaModel();
         media.setName(name);
@@ -204,4 +272,40 @@ class MediaServicePersistenceIntegrationTest {
 
         return media;
     }
+
+    /**
+     * Counts the UPDATE statements Hibernate sends to the database.
+     */
+    static class UpdateStatements implements StatementInspector {
+        private final AtomicInteger updates = new AtomicInteger();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "update", 0, 6)) {
+                updates.incrementAndGet();
+            }
+            return sql;
+        }
+
+        int count() {
+            return updates.get();
+        }
+
+        void reset() {
+            updates.set(0);
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+        @Bean
+        UpdateStatements updateStatements() {
+            return new UpdateStatements();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer updateStatementsCustomizer(UpdateStatements updateStatements) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, updateStatements);
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package com.espacogeek.geek.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.espacogeek.geek.models.AlternativeTitleModel;
+import com.espacogeek.geek.models.MediaCategoryModel;
+import com.espacogeek.geek.models.MediaModel;
+
+class EntityFieldCopierTest {
+
+    private final EntityFieldCopier<MediaModel> copier = EntityFieldCopier.of(MediaModel.class, "payloadHash");
+
+    @Test
+    void of_ShouldKeepOnlyTheBasicColumns() {
+        assertThat(copier.fieldNames()).containsExactly("name", "totalEpisodes", "episodeLength", "about", "cover", "banner", "updateAt");
+    }
+
+    @Test
+    void copy_ShouldCopyBasicColumnsAndLeaveIdRelationsAndExcludedFields() {
+        MediaCategoryModel category = new MediaCategoryModel();
+        MediaModel source = new MediaModel();
+        source.setId(1);
+        source.setName("Steins;Gate");
+        source.setTotalEpisodes(24);
+        source.setAbout(null);
+        source.setUpdateAt(new Date(0));
+        source.setPayloadHash(7L);
+        source.setAlternativeTitles(new LinkedHashSet<>(List.of(new AlternativeTitleModel(null, "Steins Gate", null))));
+
+        MediaModel target = new MediaModel();
+        target.setId(2);
+        target.setAbout("Old about");
+        target.setMediaCategory(category);
+        target.setPayloadHash(3L);
+
+        copier.copy(source, target);
+
+        assertThat(target.getId()).isEqualTo(2);
+        assertThat(target.getName()).isEqualTo("Steins;Gate");
+        assertThat(target.getTotalEpisodes()).isEqualTo(24);
+        assertThat(target.getAbout()).isNull();
+        assertThat(target.getUpdateAt()).isEqualTo(new Date(0));
+        assertThat(target.getMediaCategory()).isSameAs(category);
+        assertThat(target.getAlternativeTitles()).isNull();
+        assertThat(target.getPayloadHash()).isEqualTo(3L);
+    }
+}
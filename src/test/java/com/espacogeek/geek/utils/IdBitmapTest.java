@@ -0,0 +1,38 @@
+package com.espacogeek.geek.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class IdBitmapTest {
+
+    @Test
+    void add_ShouldCountEachIdOnce() {
+        IdBitmap ids = new IdBitmap();
+
+        assertThat(ids.add(550)).isTrue();
+        assertThat(ids.add(0)).isTrue();
+        assertThat(ids.add(550)).isFalse();
+
+        assertThat(ids.size()).isEqualTo(2);
+        assertThat(ids.contains(550)).isTrue();
+        assertThat(ids.contains(0)).isTrue();
+        assertThat(ids.contains(551)).isFalse();
+        assertThat(ids.contains(-550)).isFalse();
+        assertThat(ids.contains(Integer.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void add_NegativeId_ShouldThrow() {
+        assertThatThrownBy(() -> new IdBitmap().add(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void estimatedBytes_ShouldGrowWithTheHighestId() {
+        IdBitmap ids = new IdBitmap();
+        ids.add(1_999_999);
+
+        assertThat(ids.estimatedBytes()).isBetween(250_000L, 260_000L);
+    }
+}